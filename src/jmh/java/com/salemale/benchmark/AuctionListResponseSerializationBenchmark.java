@@ -0,0 +1,54 @@
+package com.salemale.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salemale.domain.item.converter.ItemConverter;
+import com.salemale.domain.item.dto.response.AuctionListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 목록 응답 JSON 직렬화 (목록 API 응답 본문)
+ * - ObjectMapper는 스프링 MVC와 같은 Jackson2ObjectMapperBuilder 기본 설정(JavaTimeModule 등)으로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuctionListResponseSerializationBenchmark {
+
+    @Param({"20", "100", "500"})
+    public int items;
+
+    private ObjectMapper objectMapper;
+    private AuctionListResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = AuctionListResponse.builder()
+                .items(BenchmarkFixtures.items(items, 3, 42L).stream()
+                        .map(ItemConverter::toAuctionListItemDTO)
+                        .toList())
+                .totalElements(10_000L)
+                .totalPages(10_000 / items)
+                .currentPage(0)
+                .size(items)
+                .hasNext(true)
+                .hasPrevious(false)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
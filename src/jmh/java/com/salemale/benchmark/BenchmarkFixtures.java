@@ -0,0 +1,129 @@
+package com.salemale.benchmark;
+
+import com.salemale.domain.item.entity.Item;
+import com.salemale.domain.item.entity.ItemImage;
+import com.salemale.domain.item.entity.ItemTransaction;
+import com.salemale.domain.region.entity.Region;
+import com.salemale.domain.user.entity.User;
+import com.salemale.global.common.BaseEntity;
+import com.salemale.global.common.enums.Category;
+import com.salemale.global.common.enums.ItemStatus;
+import com.salemale.global.common.enums.TradeMethod;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 엔티티 픽스처 (DB/스프링 컨텍스트 없이 메모리에서 생성)
+ * - 같은 seed면 같은 데이터가 나오므로 실행 간 결과를 비교할 수 있다.
+ */
+public final class BenchmarkFixtures {
+
+    private static final Field CREATED_AT;
+
+    static {
+        try {
+            CREATED_AT = BaseEntity.class.getDeclaredField("createdAt");
+            CREATED_AT.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(long id) {
+        return User.builder()
+                .id(id)
+                .nickname("user" + id)
+                .email("user" + id + "@salemale.com")
+                .profileImage("https://cdn.salemale.com/profile/" + id + ".jpg")
+                .build();
+    }
+
+    public static Region region() {
+        return Region.builder()
+                .regionId(1L)
+                .sido("서울특별시")
+                .sigungu("강남구")
+                .eupmyeondong("역삼동")
+                .latitude(new BigDecimal("37.500000"))
+                .longitude(new BigDecimal("127.036000"))
+                .build();
+    }
+
+    /**
+     * 입찰중 상품 count개 (이미지 imagesPerItem장, 가격/입찰 수/종료 시간은 seed 기반 난수)
+     */
+    public static List<Item> items(int count, int imagesPerItem, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+        Region region = region();
+        Category[] categories = Category.values();
+
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long itemId = i + 1L;
+            int price = 1_000 + random.nextInt(500) * 1_000;
+            Item item = Item.builder()
+                    .itemId(itemId)
+                    .seller(user(10_000L + random.nextInt(200)))
+                    .name("상품" + itemId)
+                    .title("벤치마크 경매 상품 " + itemId)
+                    .description("벤치마크용 상품 설명입니다. ".repeat(10))
+                    .category(categories[random.nextInt(categories.length)])
+                    .currentPrice(price)
+                    .startPrice(1_000)
+                    .bidIncrement(1_000)
+                    .endTime(now.plusMinutes(random.nextInt(7 * 24 * 60)))
+                    .itemStatus(ItemStatus.BIDDING)
+                    .tradeMethods(new ArrayList<>(List.of(TradeMethod.SHIPPING, TradeMethod.IN_PERSON)))
+                    .tradeDetails("강남역 근처 직거래 가능")
+                    .region(region)
+                    .viewCount((long) random.nextInt(5_000))
+                    .bidCount((long) random.nextInt(50))
+                    .build();
+            for (int order = 0; order < imagesPerItem; order++) {
+                item.getImages().add(ItemImage.builder()
+                        .imageId(itemId * 10 + order)
+                        .item(item)
+                        .imageUrl("https://cdn.salemale.com/items/" + itemId + "/" + order + ".jpg")
+                        .imageOrder(order)
+                        .build());
+            }
+            setCreatedAt(item, now.minusMinutes(random.nextInt(7 * 24 * 60)));
+            items.add(item);
+        }
+        return items;
+    }
+
+    // 최신순 입찰 내역 count건 (입찰자 bidders명이 돌아가며 입찰)
+    public static List<ItemTransaction> bidHistory(Item item, int count, int bidders) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ItemTransaction> history = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ItemTransaction transaction = ItemTransaction.builder()
+                    .transactionId((long) (count - i))
+                    .buyer(user(20_000L + i % bidders))
+                    .item(item)
+                    .bidPrice(item.getCurrentPrice() - i * item.getBidIncrement())
+                    .build();
+            setCreatedAt(transaction, now.minusSeconds(i * 30L));
+            history.add(transaction);
+        }
+        return history;
+    }
+
+    private static void setCreatedAt(BaseEntity entity, LocalDateTime createdAt) {
+        try {
+            CREATED_AT.set(entity, createdAt);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
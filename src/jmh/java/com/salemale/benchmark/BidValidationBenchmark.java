@@ -0,0 +1,56 @@
+package com.salemale.benchmark;
+
+import com.salemale.common.exception.GeneralException;
+import com.salemale.domain.item.repository.projection.BidSnapshot;
+import com.salemale.global.common.enums.ItemStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 검증 (모든 입찰 요청이 거치는 경로)
+ * - 입찰 검증은 ItemService.validateBid에서 BidSnapshot.validate로 옮겨졌으므로 이쪽을 측정한다.
+ * - 거절 경로는 GeneralException 생성 비용(스택 트레이스 포함)까지 측정된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BidValidationBenchmark {
+
+    private BidSnapshot snapshot;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.now();
+        snapshot = new BidSnapshot(1L, 10L, 50_000, 1_000, now.plusHours(1), ItemStatus.BIDDING, 12L, 12L);
+    }
+
+    @Benchmark
+    public void accepted() {
+        snapshot.validate(20L, 51_000, now);
+    }
+
+    @Benchmark
+    public void rejectedTooLow(Blackhole blackhole) {
+        try {
+            snapshot.validate(20L, 50_500, now);
+        } catch (GeneralException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public BidSnapshot acceptAndAdvance() {
+        snapshot.validate(20L, 51_000, now);
+        return snapshot.accept(51_000, snapshot.endTime());
+    }
+}
@@ -0,0 +1,66 @@
+package com.salemale.benchmark;
+
+import com.salemale.domain.item.converter.ItemConverter;
+import com.salemale.domain.item.dto.response.AuctionListItemDTO;
+import com.salemale.domain.item.dto.response.detail.ItemDetailResponse;
+import com.salemale.domain.item.entity.Item;
+import com.salemale.domain.item.entity.ItemTransaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → 응답 DTO 변환 (목록 한 페이지 / 상세 1건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemConverterBenchmark {
+
+    // 목록 페이지 크기 (기본 20)
+    @Param({"20"})
+    public int pageSize;
+
+    // 상품당 이미지 수
+    @Param({"1", "5"})
+    public int imagesPerItem;
+
+    private List<Item> page;
+    private Item detailItem;
+    private List<ItemTransaction> bidHistory;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkFixtures.items(pageSize, imagesPerItem, 42L);
+        detailItem = page.get(0);
+        bidHistory = BenchmarkFixtures.bidHistory(detailItem, 20, 8);
+    }
+
+    @Benchmark
+    public void toAuctionListItemDTO(Blackhole blackhole) {
+        for (Item item : page) {
+            blackhole.consume(ItemConverter.toAuctionListItemDTO(item));
+        }
+    }
+
+    @Benchmark
+    public List<AuctionListItemDTO> toAuctionListItemDTOWithBlockFlag() {
+        return page.stream()
+                .map(item -> ItemConverter.toAuctionListItemDTO(item, false))
+                .toList();
+    }
+
+    @Benchmark
+    public ItemDetailResponse toItemDetailResponse() {
+        return ItemConverter.toItemDetailResponse(detailItem, bidHistory, bidHistory.get(0), 37L, Boolean.TRUE);
+    }
+}
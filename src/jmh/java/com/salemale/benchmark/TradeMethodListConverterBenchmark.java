@@ -0,0 +1,44 @@
+package com.salemale.benchmark;
+
+import com.salemale.domain.item.converter.TradeMethodListConverter;
+import com.salemale.global.common.enums.TradeMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * trade_methods JSON 컬럼 변환 (상품 엔티티 로딩/저장마다 호출)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TradeMethodListConverterBenchmark {
+
+    private TradeMethodListConverter converter;
+    private List<TradeMethod> methods;
+    private String column;
+
+    @Setup
+    public void setUp() {
+        converter = new TradeMethodListConverter();
+        methods = List.of(TradeMethod.SHIPPING, TradeMethod.IN_PERSON);
+        column = converter.convertToDatabaseColumn(methods);
+    }
+
+    @Benchmark
+    public String toDatabaseColumn() {
+        return converter.convertToDatabaseColumn(methods);
+    }
+
+    @Benchmark
+    public List<TradeMethod> toEntityAttribute() {
+        return converter.convertToEntityAttribute(column);
+    }
+}
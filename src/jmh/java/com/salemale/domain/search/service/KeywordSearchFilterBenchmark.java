@@ -0,0 +1,58 @@
+package com.salemale.domain.search.service;
+
+import com.salemale.benchmark.BenchmarkFixtures;
+import com.salemale.domain.item.entity.Item;
+import com.salemale.domain.item.enums.AuctionSortType;
+import com.salemale.global.common.enums.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 검색 결과의 메모리 필터/정렬 보정 (KeywordItemSearchServiceImpl.filterAndSortInMemory)
+ * - 패키지 내부 메서드라 같은 패키지에 둔다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordSearchFilterBenchmark {
+
+    // DB 페이지 크기
+    @Param({"20", "100"})
+    public int pageSize;
+
+    @Param({"CREATED_DESC", "PRICE_ASC", "END_TIME_ASC"})
+    public AuctionSortType sort;
+
+    private List<Item> page;
+    private List<Category> categories;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkFixtures.items(pageSize, 1, 42L);
+        categories = List.of(Category.DIGITAL, Category.HOME_APPLIANCE, Category.GAME_HOBBY, Category.BOOK);
+        now = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public List<Item> filterByCategoryAndPrice() {
+        return KeywordItemSearchServiceImpl.filterAndSortInMemory(
+                page, categories, 10_000, 300_000, false, now.minusDays(3), now, sort);
+    }
+
+    @Benchmark
+    public List<Item> popularOnly() {
+        return KeywordItemSearchServiceImpl.filterAndSortInMemory(
+                page, null, null, null, true, now.minusDays(3), now, sort);
+    }
+}
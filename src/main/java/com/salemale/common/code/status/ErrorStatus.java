@@ -59,6 +59,17 @@ public enum ErrorStatus implements BaseErrorCode {
     // 입찰 관련 에러 (나중에 추가)
     BID_AMOUNT_TOO_LOW(HttpStatus.BAD_REQUEST, "BID4001", "최소 입찰 금액보다 낮습니다."),
     BID_SELF_AUCTION(HttpStatus.BAD_REQUEST, "BID4002", "본인 경매에는 입찰할 수 없습니다."),
+    MAX_BID_TOO_LOW(HttpStatus.BAD_REQUEST, "BID4003", "최대 입찰가는 현재가 + 최소 입찰 단위 이상이어야 합니다."),
+    MAX_BID_NOT_FOUND(HttpStatus.NOT_FOUND, "BID4004", "등록된 자동 입찰이 없습니다."),
+    PROXY_BID_UNAVAILABLE(HttpStatus.BAD_REQUEST, "BID4005", "현재 입찰 모드에서는 자동 입찰을 사용할 수 없습니다."),
+    BID_CONFLICT(HttpStatus.CONFLICT, "BID4091", "동시에 입찰이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+
+    // 알람 관련 에러
+    ALARM_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "ALARM4001", "알람 목록 커서 형식이 올바르지 않습니다."),
+
+    // 채팅 관련 에러
+    CHAT_CURSOR_CONFLICT(HttpStatus.BAD_REQUEST, "CHAT4001", "beforeMessageId와 afterMessageId는 함께 사용할 수 없습니다."),
+    CHAT_CURSOR_NOT_FOUND(HttpStatus.BAD_REQUEST, "CHAT4002", "기준 메시지를 찾을 수 없습니다."),
 
     // 이미지 관련 에러
     IMAGE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "IMAGE4001", "이미지 업로드에 실패했습니다."),
@@ -67,6 +78,7 @@ public enum ErrorStatus implements BaseErrorCode {
     IMAGE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "IMAGE4004", "이미지 파일 크기는 10MB를 초과할 수 없습니다."),
     PROFILE_IMAGE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "IMAGE4005", "프로필 이미지 파일 크기는 50MB를 초과할 수 없습니다."),
     INVALID_IMAGE_URL(HttpStatus.BAD_REQUEST, "IMAGE4006", "잘못된 이미지 URL입니다."),
+    IMAGE_NOT_UPLOADED(HttpStatus.BAD_REQUEST, "IMAGE4007", "업로드된 이미지를 찾을 수 없습니다."),
 
     // AI 분석 관련 에러
     IMAGE_ANALYSIS_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI4001", "이미지 분석에 실패했습니다."),
@@ -4,11 +4,10 @@ import com.salemale.domain.alarm.dto.AlarmDtos.*;
 import com.salemale.domain.alarm.service.AlarmService;
 import com.salemale.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/alarms")
 @RequiredArgsConstructor
@@ -23,10 +22,18 @@ public class AlarmController {
         return ApiResponse.onSuccess();
     }
 
-    @Operation(summary = "알람 목록 조회", description = "받은 모든 알람 조회.")
+    @Operation(summary = "알람 목록 조회", description = "받은 알람을 최신순으로 limit개씩 조회. 다음 페이지는 응답의 nextCursor를 before로 넘긴다.")
     @GetMapping
-    public ApiResponse<List<AlarmResponse>> getAlarms(@RequestHeader("user-id") Long me) {
-        return ApiResponse.onSuccess(alarmService.getUserAlarms(me));
+    public ApiResponse<AlarmPageResponse> getAlarms(
+            @RequestHeader("user-id") Long me,
+            @Parameter(description = "직전 페이지의 nextCursor (<createdAt>,<alarmId>), 첫 페이지는 생략")
+            @RequestParam(required = false) String before,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @Parameter(description = "true면 안 읽은 알람만 조회")
+            @RequestParam(required = false, defaultValue = "false") boolean unreadOnly
+    ) {
+        return ApiResponse.onSuccess(alarmService.getUserAlarms(me, before, limit, unreadOnly));
     }
 
     @Operation(summary = "미읽음 알람 개수 조회", description = "읽지 않은 알람의 개수를 조회.")
@@ -10,6 +10,7 @@ public class AlarmDtos {
     public record AlarmResponse(
             Long alarmId,
             String content,
+            int mergedCount,
             boolean isRead,
             LocalDateTime readAt,
             LocalDateTime createdAt
@@ -18,6 +19,7 @@ public class AlarmDtos {
             return new AlarmResponse(
                     alarm.getAlarmId(),
                     alarm.getContent(),
+                    alarm.getMergedCount(),
                     alarm.isRead(),
                     alarm.getReadAt(),
                     alarm.getCreatedAt()
@@ -25,6 +27,16 @@ public class AlarmDtos {
         }
     }
 
+    /*
+     알람 목록 한 페이지
+     - nextCursor: 다음 페이지 요청 시 before 값으로 그대로 넘긴다. ("<createdAt>,<alarmId>", 마지막 페이지면 null)
+     */
+    public record AlarmPageResponse(
+            List<AlarmResponse> alarms,
+            boolean hasNext,
+            String nextCursor
+    ) { }
+
     public record CreateAlarmRequest(
             @NotNull Long userId,
             @NotNull String content
@@ -33,4 +45,16 @@ public class AlarmDtos {
     public record DeleteManyRequest(
              @NotNull List<Long> alarmIds
     ) { }
+
+    /*
+     실시간 알람 푸시 (/user/queue/alarms), unreadCount는 이 알람을 포함한 미읽음 개수
+     - mergedCount가 1보다 크면 기존 알람(alarmId)에 합쳐진 것이므로 클라이언트는 같은 ID의 항목을 교체한다.
+     */
+    public record AlarmPushMessage(
+            Long alarmId,
+            String content,
+            int mergedCount,
+            LocalDateTime createdAt,
+            Long unreadCount
+    ) { }
 }
@@ -32,6 +32,15 @@ public class Alarm extends BaseEntity {
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 같은 키의 알람을 한 행으로 합칠 때 사용 (예: chat:{chatId}), 일반 알람은 null
+    @Column(name = "ref_key", length = 100)
+    private String refKey;
+
+    // 이 행에 합쳐진 알림 수
+    @Builder.Default
+    @Column(name = "merged_count", nullable = false)
+    private int mergedCount = 1;
+
     @Column(name = "is_read", nullable = false)
     private boolean isRead;
 
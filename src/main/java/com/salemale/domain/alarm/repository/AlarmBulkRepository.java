@@ -0,0 +1,198 @@
+package com.salemale.domain.alarm.repository;
+
+import com.salemale.domain.alarm.dto.AlarmDtos.CreateAlarmRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알람 일괄 INSERT (다중 행 INSERT)
+ * - Alarm은 IDENTITY 키라 Hibernate가 INSERT를 묶지 못하므로, 사용자 조회 + save 반복 대신
+ *   CHUNK_SIZE 행씩 INSERT ... VALUES (...), (...) 한 문장으로 넣는다.
+ * - 사용자 존재 여부는 FK(fk_alarm_user)로만 보장하므로 호출 측에서 유효한 userId만 넘겨야 한다.
+ * - ref_key가 있는 알람(채팅 새 메시지 등)은 같은 키의 안 읽은 알람이 있으면 새로 넣지 않고 그 행에 합친다. (mergeAll)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmBulkRepository {
+
+    private static final int CHUNK_SIZE = 1000; // 행당 파라미터 6개 → 문장당 6000개 (PostgreSQL 한도 65535)
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO alarm (user_id, ref_key, content, merged_count, is_read, created_at, updated_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, FALSE, ?, ?)";
+    private static final String RETURNING = " RETURNING alarm_id, user_id, ref_key, content, merged_count, created_at";
+
+    // 같은 키의 안 읽은 알람에 합치기 (최신 내용으로 바꾸고 목록 맨 위로 올림)
+    private static final String MERGE_PREFIX = """
+            UPDATE alarm a
+               SET content      = v.content,
+                   merged_count = a.merged_count + v.cnt,
+                   created_at   = ?,
+                   updated_at   = ?
+              FROM (VALUES """;
+    private static final String MERGE_ROW = "(?::bigint, ?::varchar, ?::text, ?::int)";
+    private static final String MERGE_SUFFIX = """
+                   ) v (user_id, ref_key, content, cnt)
+             WHERE a.user_id = v.user_id
+               AND a.ref_key = v.ref_key
+               AND a.is_read = FALSE
+               AND a.deleted_at IS NULL
+            RETURNING a.alarm_id, a.user_id, a.ref_key, a.content, a.merged_count, a.created_at
+            """;
+
+    private static final String COUNT_UNREAD_SQL = """
+            SELECT user_id, COUNT(*) AS unread
+              FROM alarm
+             WHERE user_id IN (:userIds)
+               AND is_read = FALSE
+               AND deleted_at IS NULL
+             GROUP BY user_id
+            """;
+
+    private static final RowMapper<InsertedAlarm> ROW_MAPPER = (rs, rowNum) -> new InsertedAlarm(
+            rs.getLong("alarm_id"),
+            rs.getLong("user_id"),
+            rs.getString("ref_key"),
+            rs.getString("content"),
+            rs.getInt("merged_count"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * @return 저장된 알람 (실시간 푸시용 ID 포함)
+     */
+    public List<InsertedAlarm> insertAll(List<CreateAlarmRequest> requests) {
+        return insert(requests.stream()
+                .map(req -> new CoalescedAlarm(req.userId(), null, req.content(), 1))
+                .toList(), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 키가 있는 알람 저장 (같은 사용자 + 키의 안 읽은 알람이 있으면 합치고, 없으면 새로 INSERT)
+     * - 여러 노드가 같은 키를 동시에 처음 저장하면 행이 둘 생길 수 있으나, 이후에는 둘 다에 합쳐진다.
+     *
+     * @param alarms 사용자 + 키마다 하나씩 (count = 이번에 합칠 알림 수)
+     * @return 합쳐졌거나 새로 저장된 알람
+     */
+    public List<InsertedAlarm> mergeAll(List<CoalescedAlarm> alarms) {
+        if (alarms.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<InsertedAlarm> merged = new ArrayList<>(alarms.size());
+        for (int from = 0; from < alarms.size(); from += CHUNK_SIZE) {
+            List<CoalescedAlarm> chunk = alarms.subList(from, Math.min(from + CHUNK_SIZE, alarms.size()));
+            merged.addAll(jdbcTemplate.query(mergeSql(chunk.size()), ROW_MAPPER, mergeParams(chunk, now)));
+        }
+
+        // 합칠 행이 없던 키만 새로 INSERT
+        Set<String> mergedKeys = new HashSet<>();
+        merged.forEach(alarm -> mergedKeys.add(alarm.userId() + ":" + alarm.refKey()));
+        List<CoalescedAlarm> fresh = alarms.stream()
+                .filter(alarm -> !mergedKeys.contains(alarm.userId() + ":" + alarm.refKey()))
+                .toList();
+
+        List<InsertedAlarm> result = new ArrayList<>(merged);
+        result.addAll(insert(fresh, now));
+        return result;
+    }
+
+    // 사용자별 미읽음 개수 (미읽음이 없는 사용자는 결과에 없음)
+    public Map<Long, Long> countUnread(Collection<Long> userIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+        namedParameterJdbcTemplate.query(COUNT_UNREAD_SQL, new MapSqlParameterSource("userIds", userIds), rs -> {
+            counts.put(rs.getLong("user_id"), rs.getLong("unread"));
+        });
+        return counts;
+    }
+
+    private List<InsertedAlarm> insert(List<CoalescedAlarm> alarms, Timestamp createdAt) {
+        if (alarms.isEmpty()) {
+            return List.of();
+        }
+        List<InsertedAlarm> inserted = new ArrayList<>(alarms.size());
+        for (int from = 0; from < alarms.size(); from += CHUNK_SIZE) {
+            List<CoalescedAlarm> chunk = alarms.subList(from, Math.min(from + CHUNK_SIZE, alarms.size()));
+            inserted.addAll(jdbcTemplate.query(insertSql(chunk.size()), ROW_MAPPER, params(chunk, createdAt)));
+        }
+        return inserted;
+    }
+
+    private String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+        }
+        return sql.append(RETURNING).toString();
+    }
+
+    private Object[] params(List<CoalescedAlarm> chunk, Timestamp createdAt) {
+        List<Object> params = new ArrayList<>(chunk.size() * 6);
+        for (CoalescedAlarm alarm : chunk) {
+            params.add(alarm.userId());
+            params.add(alarm.refKey());
+            params.add(alarm.content());
+            params.add(alarm.count());
+            params.add(createdAt);
+            params.add(createdAt);
+        }
+        return params.toArray();
+    }
+
+    private String mergeSql(int rows) {
+        StringBuilder sql = new StringBuilder(MERGE_PREFIX.length() + MERGE_SUFFIX.length() + rows * (MERGE_ROW.length() + 2));
+        sql.append(MERGE_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(MERGE_ROW);
+        }
+        return sql.append(MERGE_SUFFIX).toString();
+    }
+
+    private Object[] mergeParams(List<CoalescedAlarm> chunk, Timestamp now) {
+        List<Object> params = new ArrayList<>(2 + chunk.size() * 4);
+        params.add(now);
+        params.add(now);
+        for (CoalescedAlarm alarm : chunk) {
+            params.add(alarm.userId());
+            params.add(alarm.refKey());
+            params.add(alarm.content());
+            params.add(alarm.count());
+        }
+        return params.toArray();
+    }
+
+    // refKey가 null이면 합치지 않는 일반 알람
+    public record CoalescedAlarm(Long userId, String refKey, String content, int count) {
+    }
+
+    public record InsertedAlarm(Long alarmId, Long userId, String refKey, String content, int mergedCount,
+                                LocalDateTime createdAt) {
+    }
+}
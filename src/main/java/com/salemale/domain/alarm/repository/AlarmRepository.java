@@ -1,6 +1,7 @@
 package com.salemale.domain.alarm.repository;
 
 import com.salemale.domain.alarm.entity.Alarm;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,15 +12,59 @@ import java.util.List;
 
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
 
-    // 사용자 알람 목록 (삭제 안 된 것만)
+    /*
+     알람 목록 키셋 페이지 (삭제 안 된 것만, 최신순)
+     - 첫 페이지는 커서 없이, 다음 페이지는 직전 페이지 마지막 (createdAt, alarmId) 이전부터 읽는다.
+     - 전체 목록은 idx_alarm_user_created_at, 미읽음 목록은 idx_alarm_user_unread_created를 따라 limit 행만 읽는다.
+     - 조회 개수는 Pageable 크기로 제한 (page는 항상 0)
+     */
     @Query("""
-           select a 
+           select a
            from Alarm a
            where a.user.id = :userId
              and a.deletedAt is null
-           order by a.createdAt desc
+           order by a.createdAt desc, a.alarmId desc
            """)
-    List<Alarm> findActiveByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
+    List<Alarm> findFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+           select a
+           from Alarm a
+           where a.user.id = :userId
+             and a.deletedAt is null
+             and (a.createdAt < :createdAt
+                  or (a.createdAt = :createdAt and a.alarmId < :alarmId))
+           order by a.createdAt desc, a.alarmId desc
+           """)
+    List<Alarm> findPageBefore(@Param("userId") Long userId,
+                               @Param("createdAt") LocalDateTime createdAt,
+                               @Param("alarmId") Long alarmId,
+                               Pageable pageable);
+
+    @Query("""
+           select a
+           from Alarm a
+           where a.user.id = :userId
+             and a.isRead = false
+             and a.deletedAt is null
+           order by a.createdAt desc, a.alarmId desc
+           """)
+    List<Alarm> findFirstUnreadPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+           select a
+           from Alarm a
+           where a.user.id = :userId
+             and a.isRead = false
+             and a.deletedAt is null
+             and (a.createdAt < :createdAt
+                  or (a.createdAt = :createdAt and a.alarmId < :alarmId))
+           order by a.createdAt desc, a.alarmId desc
+           """)
+    List<Alarm> findUnreadPageBefore(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("alarmId") Long alarmId,
+                                     Pageable pageable);
 
     // 안 읽은 알람 개수 (삭제 안 된 것만)
     long countByUser_IdAndIsReadFalseAndDeletedAtIsNull(Long userId);
@@ -0,0 +1,186 @@
+package com.salemale.domain.alarm.service;
+
+import com.salemale.domain.alarm.dto.AlarmDtos.CreateAlarmRequest;
+import com.salemale.domain.alarm.repository.AlarmBulkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알람 적재 큐 + 배치 작성기 (요청 단위 알람용, 채팅 새 메시지 알람은 ChatAlarmCoalescer)
+ * - 알람을 메모리 큐(상한 있음)에 모았다가 batch-size 행이 차거나 flush-ms가 지나면 다중 행 INSERT 한 번으로 저장한다.
+ * - 저장은 항상 자체 트랜잭션(REQUIRES_NEW)에서 한다. 호출 측 트랜잭션이나 afterCommit 안에서 불려도 별도로 커밋된다.
+ * - 큐가 가득 차면 호출 스레드가 자체 트랜잭션으로 바로 저장한다. (유실 대신 배압)
+ * - 제약 위반(탈퇴 사용자 FK 등)이면 행 단위로 다시 저장해 실패한 행만 버리고,
+ *   그 밖의 DB 오류(연결 끊김 등)면 같은 배치를 flush-ms 후 다시 시도한다.
+ * - 메모리 큐이므로 비정상 종료 시 아직 저장되지 않은 알람은 잃을 수 있다. (정상 종료 시에는 남은 알람을 저장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmBatchWriter {
+
+    private final AlarmBulkRepository alarmBulkRepository;
+    private final AlarmPushService alarmPushService;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${alarm.queue.capacity:10000}")
+    private int capacity;
+
+    @Value("${alarm.queue.batch-size:500}")
+    private int batchSize;
+
+    @Value("${alarm.queue.flush-ms:200}")
+    private long flushMillis;
+
+    private BlockingQueue<CreateAlarmRequest> queue;
+    private TransactionTemplate transactionTemplate;
+    private Thread worker;
+    private Counter overflow;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(capacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        meterRegistry.gaugeCollectionSize("alarm.queue.size", List.of(), queue);
+        overflow = meterRegistry.counter("alarm.queue.overflow");
+
+        worker = new Thread(this::run, "alarm-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+
+        // 남은 알람은 종료 전에 한 번 더 저장 시도
+        List<CreateAlarmRequest> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty() && !write(rest)) {
+            log.error("[ALARM] alarms lost on shutdown: count={}", rest.size());
+        }
+    }
+
+    /**
+     * 알람 적재 (큐가 가득 차면 호출 스레드에서 자체 트랜잭션으로 바로 저장, 실패하면 예외)
+     */
+    public void enqueue(CreateAlarmRequest request) {
+        if (queue.offer(request)) {
+            return;
+        }
+        overflow.increment();
+        insert(List.of(request));
+    }
+
+    private void run() {
+        List<CreateAlarmRequest> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    collect(batch);
+                }
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                if (write(batch)) {
+                    batch.clear();
+                } else {
+                    Thread.sleep(flushMillis); // 일시적 DB 오류: 같은 배치를 잠시 뒤 다시 저장
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // 작성 스레드가 죽지 않도록 (DB 오류가 아닌 예외는 다시 시도해도 같으므로 배치를 버림)
+                log.error("[ALARM] batch write loop failed, alarms dropped: size={}", batch.size(), e);
+                batch.clear();
+            }
+        }
+        // 종료 중: 들고 있던 배치를 마지막으로 저장 시도 (큐에 남은 것은 stop()이 저장)
+        if (!batch.isEmpty() && !write(batch)) {
+            log.error("[ALARM] alarms lost on shutdown: count={}", batch.size());
+        }
+    }
+
+    // 첫 알람 이후 flush-ms 동안 batch-size까지 모음
+    private void collect(List<CreateAlarmRequest> batch) throws InterruptedException {
+        CreateAlarmRequest first = queue.poll(flushMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            CreateAlarmRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 배치 저장
+     *
+     * @return 끝났으면 true (제약 위반 행은 버림), 일시적 오류로 다시 시도해야 하면 false
+     */
+    boolean write(List<CreateAlarmRequest> batch) {
+        try {
+            insert(batch);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[ALARM] batch insert rejected, retrying row by row: size={}", batch.size(), e);
+        } catch (DataAccessException e) {
+            log.warn("[ALARM] batch insert failed, will retry: size={}", batch.size(), e);
+            return false;
+        }
+
+        List<CreateAlarmRequest> retry = new ArrayList<>();
+        for (CreateAlarmRequest request : batch) {
+            try {
+                insert(List.of(request));
+            } catch (DataIntegrityViolationException rowError) {
+                log.error("[ALARM] alarm dropped: userId={}", request.userId(), rowError);
+            } catch (DataAccessException rowError) {
+                retry.add(request);
+            }
+        }
+        batch.clear();
+        batch.addAll(retry);
+        return retry.isEmpty();
+    }
+
+    // 자체 트랜잭션으로 저장, 전달은 그 트랜잭션 커밋 후 (호출 측 트랜잭션과 무관)
+    private void insert(List<CreateAlarmRequest> requests) {
+        transactionTemplate.executeWithoutResult(status ->
+                alarmPushService.publish(alarmBulkRepository.insertAll(requests)));
+    }
+}
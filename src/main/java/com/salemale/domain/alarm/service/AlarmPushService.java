@@ -0,0 +1,94 @@
+package com.salemale.domain.alarm.service;
+
+import com.salemale.domain.alarm.dto.AlarmDtos.AlarmPushMessage;
+import com.salemale.domain.alarm.repository.AlarmBulkRepository.InsertedAlarm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 알람 실시간 푸시 (/user/queue/alarms)
+ * - 저장된 알람이 커밋되면 미읽음 카운터를 올리고, 접속 중인 사용자에게 알람 + 최신 미읽음 개수를 보낸다.
+ * - 접속하지 않은 사용자에게는 브로커가 아무것도 보내지 않으며, 다음 접속 시 REST로 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmPushService {
+
+    static final String DESTINATION = "/queue/alarms";
+
+    private final AlarmUnreadCounter unreadCounter;
+
+    // SimpMessagingTemplate 직접 주입 금지 (WS 설정과의 순환 의존 차단)
+    private final ObjectProvider<SimpMessagingTemplate> templateProvider;
+
+    /**
+     * 새로 저장된 알람 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void publish(List<InsertedAlarm> alarms) {
+        publish(alarms, List.of());
+    }
+
+    /**
+     * 저장된 알람 반영 (트랜잭션 안이면 커밋 후)
+     *
+     * @param created 새 행 (미읽음 개수 증가)
+     * @param merged  기존 안 읽은 행에 합쳐진 알람 (미읽음 개수 그대로)
+     */
+    public void publish(List<InsertedAlarm> created, List<InsertedAlarm> merged) {
+        if (created.isEmpty() && merged.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(created, merged);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(created, merged);
+            }
+        });
+    }
+
+    private void deliver(List<InsertedAlarm> created, List<InsertedAlarm> merged) {
+        List<InsertedAlarm> alarms = new ArrayList<>(created);
+        alarms.addAll(merged);
+        try {
+            Map<Long, Integer> deltas = created.stream()
+                    .collect(Collectors.toMap(InsertedAlarm::userId, alarm -> 1, Integer::sum));
+            Map<Long, Long> unread = new HashMap<>(unreadCounter.increment(deltas));
+            for (InsertedAlarm alarm : merged) {
+                unread.computeIfAbsent(alarm.userId(), unreadCounter::get);
+            }
+
+            SimpMessagingTemplate template = templateProvider.getIfAvailable();
+            if (template == null) {
+                return;
+            }
+            for (InsertedAlarm alarm : alarms) {
+                template.convertAndSendToUser(String.valueOf(alarm.userId()), DESTINATION, new AlarmPushMessage(
+                        alarm.alarmId(),
+                        alarm.content(),
+                        alarm.mergedCount(),
+                        alarm.createdAt(),
+                        unread.get(alarm.userId())
+                ));
+            }
+        } catch (Exception e) {
+            // 알람은 이미 저장되어 있으므로 푸시 실패는 기록만 (클라이언트는 REST로 다시 조회 가능)
+            log.warn("[ALARM] push failed: alarms={}", alarms.size(), e);
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package com.salemale.domain.alarm.service;
 
+import com.salemale.common.code.status.ErrorStatus;
+import com.salemale.common.exception.GeneralException;
+import com.salemale.domain.alarm.dto.AlarmDtos.AlarmPageResponse;
 import com.salemale.domain.alarm.dto.AlarmDtos.AlarmResponse;
 import com.salemale.domain.alarm.dto.AlarmDtos.CreateAlarmRequest;
 import com.salemale.domain.alarm.dto.AlarmDtos.DeleteManyRequest;
+import com.salemale.domain.alarm.repository.AlarmBulkRepository;
+import com.salemale.domain.alarm.repository.AlarmBulkRepository.InsertedAlarm;
 import com.salemale.domain.alarm.entity.Alarm;
 import com.salemale.domain.alarm.repository.AlarmRepository;
-import com.salemale.domain.user.entity.User;
 import com.salemale.domain.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,42 +30,92 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class AlarmService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final AlarmRepository alarmRepository;
+    private final AlarmBulkRepository alarmBulkRepository;
+    private final AlarmBatchWriter alarmBatchWriter;
+    private final ChatAlarmCoalescer chatAlarmCoalescer;
+    private final AlarmPushService alarmPushService;
+    private final AlarmUnreadCounter alarmUnreadCounter;
     private final UserRepository userRepository;
 
-    // 알람 생성
-    @Transactional
+    // 알람 생성 (사용자 존재 확인 후 적재 큐에 넣음, 저장은 AlarmBatchWriter가 모아서 다중 행 INSERT)
     public void createAlarm(CreateAlarmRequest req) {
-        User user = userRepository.findById(req.userId())
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        if (!userRepository.existsById(req.userId())) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        alarmBatchWriter.enqueue(req);
+    }
 
-        Alarm alarm = Alarm.builder()
-                .user(user)
-                .content(req.content())
-                .isRead(false)
-                .readAt(null)
-                .build();
+    // 알람 일괄 생성 (경매 마감 등 대량 발생 시, 사용자 조회 없이 호출 측 트랜잭션에서 다중 행 INSERT)
+    @Transactional
+    public int createAlarms(List<CreateAlarmRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return 0;
+        }
+        List<InsertedAlarm> inserted = alarmBulkRepository.insertAll(requests);
+        alarmPushService.publish(inserted);
+        return inserted.size();
+    }
 
-        alarmRepository.save(alarm);
+    /**
+     * 채팅 새 메시지 알람 (커밋 후 ChatAlarmCoalescer로 넘겨 수신자 + 채팅방 단위로 합침)
+     */
+    public void enqueueChatAlarm(Long receiverId, Long chatId, String content) {
+        afterCommit(() -> chatAlarmCoalescer.offer(receiverId, chatId, content));
     }
 
-    // 알람 목록 조회
-    public List<AlarmResponse> getUserAlarms(Long userId) {
-        return alarmRepository.findActiveByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(AlarmResponse::from)
-                .toList();
+    /**
+     * 알람 목록 조회 (키셋 페이지, 최신순)
+     * - 히스토리 길이와 관계없이 limit + 1 행만 읽어 다음 페이지 존재 여부를 판단한다.
+     *
+     * @param before     직전 페이지의 nextCursor ("<createdAt>,<alarmId>", 첫 페이지면 null)
+     * @param limit      페이지 크기 (1 ~ MAX_PAGE_SIZE로 보정)
+     * @param unreadOnly true면 안 읽은 알람만
+     */
+    public AlarmPageResponse getUserAlarms(Long userId, String before, int limit, boolean unreadOnly) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<Alarm> rows;
+        if (before == null || before.isBlank()) {
+            rows = unreadOnly
+                    ? alarmRepository.findFirstUnreadPage(userId, pageable)
+                    : alarmRepository.findFirstPage(userId, pageable);
+        } else {
+            Cursor cursor = Cursor.parse(before);
+            rows = unreadOnly
+                    ? alarmRepository.findUnreadPageBefore(userId, cursor.createdAt(), cursor.alarmId(), pageable)
+                    : alarmRepository.findPageBefore(userId, cursor.createdAt(), cursor.alarmId(), pageable);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<Alarm> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Alarm last = page.get(page.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getAlarmId()).format();
+        }
+
+        return new AlarmPageResponse(
+                page.stream().map(AlarmResponse::from).toList(),
+                hasNext,
+                nextCursor
+        );
     }
 
-    // 안 읽은 알람 개수
+    // 안 읽은 알람 개수 (Redis 카운터, 없으면 DB에서 세어 채움)
     public long unreadCount(Long userId) {
-        return alarmRepository.countByUser_IdAndIsReadFalseAndDeletedAtIsNull(userId);
+        return alarmUnreadCounter.get(userId);
     }
 
     // 전체 읽음 처리
     @Transactional
     public int markAllRead(Long userId) {
-        return alarmRepository.markAllRead(userId, LocalDateTime.now());
+        int updated = alarmRepository.markAllRead(userId, LocalDateTime.now());
+        afterCommit(() -> alarmUnreadCounter.reset(userId));
+        return updated;
     }
 
     // 단일 삭제
@@ -67,6 +126,7 @@ public class AlarmService {
             // 내 알람이 아니거나 이미 삭제된 경우
             throw new EntityNotFoundException("삭제할 알람이 없거나 권한이 없습니다.");
         }
+        afterCommit(() -> alarmUnreadCounter.evict(userId));
     }
 
     // 여러 개 삭제
@@ -76,11 +136,50 @@ public class AlarmService {
             return;
         }
         alarmRepository.softDeleteMany(userId, alarmIds, LocalDateTime.now());
+        afterCommit(() -> alarmUnreadCounter.evict(userId));
     }
 
     // 전체 삭제
     @Transactional
     public void deleteAll(Long userId) {                     // [ADD]
         alarmRepository.softDeleteAll(userId, LocalDateTime.now());
+        afterCommit(() -> alarmUnreadCounter.evict(userId));
+    }
+
+    // 목록 커서 ("<createdAt ISO-8601>,<alarmId>")
+    private record Cursor(LocalDateTime createdAt, Long alarmId) {
+
+        static Cursor parse(String value) {
+            int comma = value.lastIndexOf(',');
+            if (comma <= 0) {
+                throw new GeneralException(ErrorStatus.ALARM_INVALID_CURSOR);
+            }
+            try {
+                return new Cursor(
+                        LocalDateTime.parse(value.substring(0, comma).trim()),
+                        Long.valueOf(value.substring(comma + 1).trim())
+                );
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new GeneralException(ErrorStatus.ALARM_INVALID_CURSOR);
+            }
+        }
+
+        String format() {
+            return createdAt + "," + alarmId;
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백된 변경이 큐나 미읽음 카운터에 반영되지 않도록)
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,219 @@
+package com.salemale.domain.alarm.service;
+
+import com.salemale.domain.alarm.repository.AlarmBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 미읽음 알람 개수 (Redis 카운터, alarm:unread:{userId})
+ * - 카운터가 있을 때만 알람 생성 시 증가시키고, 없으면 DB에서 세어 채운다. (없는 키를 0부터 세면 과소 집계되므로)
+ * - 모두 읽음 시 0, 삭제 시 키 제거 후 다음 조회 때 DB에서 다시 채운다.
+ * - 경합으로 어긋난 값은 reconcile()이 주기적으로 DB 기준으로 맞춘다.
+ * - Redis 장애 시 DB COUNT로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmUnreadCounter {
+
+    private static final String KEY = "alarm:unread:"; // alarm:unread:{userId}
+    private static final String KEY_RECONCILE_LOCK = "alarm:unread:reconcile-lock";
+    private static final Duration TTL = Duration.ofDays(7);
+    private static final int RECONCILE_CHUNK = 500;
+
+    /*
+     KEYS = 카운터 키, ARGV[i] = i번째 키 증가량, ARGV[#KEYS + 1] = TTL(초)
+     반환: 키별 증가 후 값, 키가 없으면 -1
+     */
+    private static final DefaultRedisScript<List> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local result = {}
+            local ttl = ARGV[#KEYS + 1]
+            for i, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 1 then
+                result[i] = redis.call('INCRBY', key, ARGV[i])
+                redis.call('EXPIRE', key, ttl)
+              else
+                result[i] = -1
+              end
+            end
+            return result
+            """, List.class);
+
+    /*
+     값이 expected 그대로일 때만 교체 (reconcile 중 증가분 덮어쓰기 방지)
+     KEYS[1] = 카운터 키, ARGV[1] = expected, ARGV[2] = 새 값, ARGV[3] = TTL(초)
+     */
+    private static final DefaultRedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AlarmBulkRepository alarmBulkRepository;
+
+    /**
+     * 미읽음 개수 조회 (카운터가 없으면 DB에서 세어 채움)
+     */
+    public long get(Long userId) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(KEY + userId);
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ALARM] unread counter read failed, falling back to db: userId={}", userId, e);
+            return countFromDb(userId);
+        }
+        return load(Map.of(userId, 0)).get(userId);
+    }
+
+    /**
+     * 알람 생성 반영
+     *
+     * @param deltas userId → 새 알람 수 (이미 DB에 커밋된 알람)
+     * @return userId → 반영 후 미읽음 개수
+     */
+    public Map<Long, Long> increment(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> userIds = new ArrayList<>(deltas.keySet());
+        Map<Long, Long> counts = new HashMap<>();
+        Map<Long, Integer> missing = new HashMap<>();
+        try {
+            List<String> keys = userIds.stream().map(id -> KEY + id).toList();
+            Object[] args = new Object[keys.size() + 1];
+            for (int i = 0; i < userIds.size(); i++) {
+                args[i] = String.valueOf(deltas.get(userIds.get(i)));
+            }
+            args[keys.size()] = String.valueOf(TTL.toSeconds());
+
+            List<?> result = stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, args);
+            for (int i = 0; i < userIds.size(); i++) {
+                long value = ((Number) result.get(i)).longValue();
+                if (value < 0) {
+                    missing.put(userIds.get(i), deltas.get(userIds.get(i)));
+                } else {
+                    counts.put(userIds.get(i), value);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ALARM] unread counter increment failed, counting from db: users={}", userIds.size(), e);
+            userIds.forEach(id -> missing.put(id, deltas.get(id)));
+        }
+        counts.putAll(load(missing));
+        return counts;
+    }
+
+    // 모두 읽음 → 0
+    public void reset(Long userId) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY + userId, "0", TTL);
+        } catch (RuntimeException e) {
+            log.warn("[ALARM] unread counter reset failed: userId={}", userId, e);
+        }
+    }
+
+    // 삭제 등 증감량을 모르는 변경 → 다음 조회 때 DB에서 다시 채움
+    public void evict(Long userId) {
+        try {
+            stringRedisTemplate.delete(KEY + userId);
+        } catch (RuntimeException e) {
+            log.warn("[ALARM] unread counter evict failed: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 카운터를 DB 기준으로 보정 (기본 10분, 여러 노드 중 하나만 실행)
+     */
+    @Scheduled(fixedDelayString = "${alarm.unread.reconcile-ms:600000}",
+            initialDelayString = "${alarm.unread.reconcile-ms:600000}")
+    public void reconcile() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(KEY_RECONCILE_LOCK, "1", Duration.ofMinutes(5));
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+
+            int fixed = 0;
+            List<String> keys = new ArrayList<>(RECONCILE_CHUNK);
+            ScanOptions options = ScanOptions.scanOptions().match(KEY + "[0-9]*").count(RECONCILE_CHUNK).build();
+            try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                    if (keys.size() == RECONCILE_CHUNK) {
+                        fixed += reconcile(keys);
+                        keys.clear();
+                    }
+                }
+            }
+            if (!keys.isEmpty()) {
+                fixed += reconcile(keys);
+            }
+            log.info("[ALARM] unread counters reconciled: fixed={}", fixed);
+        } catch (RuntimeException e) {
+            log.error("[ALARM] unread counter reconcile failed", e);
+        }
+    }
+
+    private int reconcile(List<String> keys) {
+        List<String> cached = stringRedisTemplate.opsForValue().multiGet(keys);
+        List<Long> userIds = keys.stream().map(key -> Long.valueOf(key.substring(KEY.length()))).toList();
+        Map<Long, Long> actual = alarmBulkRepository.countUnread(userIds);
+
+        int fixed = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String expected = cached == null ? null : cached.get(i);
+            String value = String.valueOf(actual.getOrDefault(userIds.get(i), 0L));
+            if (expected == null || expected.equals(value)) {
+                continue;
+            }
+            Long swapped = stringRedisTemplate.execute(COMPARE_AND_SET_SCRIPT, List.of(keys.get(i)),
+                    expected, value, String.valueOf(TTL.toSeconds()));
+            if (Long.valueOf(1L).equals(swapped)) {
+                fixed++;
+            }
+        }
+        return fixed;
+    }
+
+    // DB에서 세어 카운터가 없을 때만 채움 (DB 값이 이미 이번 알람을 포함하므로 증가량은 더하지 않음)
+    private Map<Long, Long> load(Map<Long, Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> ids = userIds.keySet();
+        Map<Long, Long> counts = new HashMap<>(alarmBulkRepository.countUnread(ids));
+        for (Long id : ids) {
+            long count = counts.getOrDefault(id, 0L);
+            counts.put(id, count);
+            try {
+                stringRedisTemplate.opsForValue().setIfAbsent(KEY + id, String.valueOf(count), TTL);
+            } catch (RuntimeException e) {
+                log.warn("[ALARM] unread counter load failed: userId={}", id, e);
+            }
+        }
+        return counts;
+    }
+
+    private long countFromDb(Long userId) {
+        return alarmBulkRepository.countUnread(List.of(userId)).getOrDefault(userId, 0L);
+    }
+}
@@ -0,0 +1,134 @@
+package com.salemale.domain.alarm.service;
+
+import com.salemale.domain.alarm.repository.AlarmBulkRepository;
+import com.salemale.domain.alarm.repository.AlarmBulkRepository.CoalescedAlarm;
+import com.salemale.domain.alarm.repository.AlarmBulkRepository.InsertedAlarm;
+import com.salemale.global.ws.PresenceService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 "새 메시지" 알람 합치기 (수신자 + 채팅방 단위)
+ * - 메시지마다 알람 행을 넣는 대신 window-ms 동안 메모리에 모았다가, 수신자의 같은 채팅방 안 읽은 알람(ref_key = chat:{chatId})
+ *   한 행에 개수(merged_count)와 최신 미리보기만 갱신한다. 안 읽은 알람이 없을 때만 새로 INSERT한다.
+ * - 수신자가 어느 노드에서든 /topic/chats/{chatId}를 구독 중이면(채팅방을 보고 있으면) 알람을 만들지 않는다. (PresenceService)
+ * - 배치는 한 트랜잭션으로 저장한다. 제약 위반(탈퇴 사용자 FK 등)이면 행 단위로 다시 저장해 실패한 행만 버리고,
+ *   그 밖의 DB 오류(연결 끊김 등)면 배치를 버퍼에 되돌려 다음 flush에서 다시 시도한다.
+ * - 메모리 버퍼이므로 비정상 종료 시 window-ms 이내의 알람은 잃을 수 있다. (정상 종료 시에는 모두 저장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatAlarmCoalescer {
+
+    private static final String REF_KEY_PREFIX = "chat:";
+
+    private final AlarmBulkRepository alarmBulkRepository;
+    private final AlarmPushService alarmPushService;
+    private final PresenceService presenceService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 새 메시지 알람 추가 (커밋된 메시지만 넘길 것)
+     */
+    public void offer(Long receiverId, Long chatId, String content) {
+        if (presenceService.isViewing(receiverId, PresenceService.chatTarget(chatId))) {
+            return;
+        }
+        pending.merge(new Key(receiverId, chatId), new Pending(content, 1),
+                (prev, next) -> new Pending(next.content(), prev.count() + next.count()));
+    }
+
+    @Scheduled(fixedDelayString = "${alarm.coalesce.window-ms:3000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<CoalescedAlarm> batch = new ArrayList<>(pending.size());
+        for (Key key : List.copyOf(pending.keySet())) {
+            Pending value = pending.remove(key);
+            if (value != null) {
+                batch.add(new CoalescedAlarm(key.receiverId(), REF_KEY_PREFIX + key.chatId(), value.content(), value.count()));
+            }
+        }
+
+        List<InsertedAlarm> saved;
+        try {
+            saved = merge(batch);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[ALARM] chat alarm batch rejected, retrying row by row: keys={}", batch.size(), e);
+            saved = mergeRowByRow(batch);
+        } catch (DataAccessException e) {
+            // 배치 트랜잭션은 롤백됐으므로 그대로 되돌려도 중복 합산되지 않는다
+            batch.forEach(this::requeue);
+            log.warn("[ALARM] chat alarm flush failed, requeued: keys={}", batch.size(), e);
+            return;
+        }
+
+        // 기존 행에 합쳐진 알람은 merged_count가 이번에 넘긴 개수보다 크다 (미읽음 개수는 그대로)
+        Map<String, Integer> counts = new HashMap<>();
+        batch.forEach(alarm -> counts.put(alarm.userId() + ":" + alarm.refKey(), alarm.count()));
+        List<InsertedAlarm> created = new ArrayList<>();
+        List<InsertedAlarm> merged = new ArrayList<>();
+        for (InsertedAlarm alarm : saved) {
+            Integer count = counts.get(alarm.userId() + ":" + alarm.refKey());
+            (count != null && alarm.mergedCount() > count ? merged : created).add(alarm);
+        }
+        alarmPushService.publish(created, merged);
+        log.debug("[ALARM] chat alarms coalesced: keys={}, created={}, merged={}",
+                batch.size(), created.size(), merged.size());
+    }
+
+    // 제약 위반 행만 버리고, 일시적 오류 행은 버퍼로 되돌림
+    private List<InsertedAlarm> mergeRowByRow(List<CoalescedAlarm> batch) {
+        List<InsertedAlarm> saved = new ArrayList<>();
+        for (CoalescedAlarm alarm : batch) {
+            try {
+                saved.addAll(merge(List.of(alarm)));
+            } catch (DataIntegrityViolationException rowError) {
+                log.error("[ALARM] chat alarm dropped: userId={}, refKey={}", alarm.userId(), alarm.refKey(), rowError);
+            } catch (DataAccessException rowError) {
+                requeue(alarm);
+                log.warn("[ALARM] chat alarm requeued: userId={}, refKey={}", alarm.userId(), alarm.refKey(), rowError);
+            }
+        }
+        return saved;
+    }
+
+    // UPDATE(합치기)와 INSERT를 한 트랜잭션으로 (실패 시 합친 개수도 함께 롤백)
+    private List<InsertedAlarm> merge(List<CoalescedAlarm> alarms) {
+        return transactionTemplate.execute(status -> alarmBulkRepository.mergeAll(alarms));
+    }
+
+    // 그 사이 들어온 알람이 있으면 개수만 더하고 미리보기는 최신 것을 유지
+    private void requeue(CoalescedAlarm alarm) {
+        Long chatId = Long.valueOf(alarm.refKey().substring(REF_KEY_PREFIX.length()));
+        pending.merge(new Key(alarm.userId(), chatId), new Pending(alarm.content(), alarm.count()),
+                (newer, failed) -> new Pending(newer.content(), newer.count() + failed.count()));
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    private record Key(Long receiverId, Long chatId) {
+    }
+
+    private record Pending(String content, int count) {
+    }
+}
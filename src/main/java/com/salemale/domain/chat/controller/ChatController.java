@@ -42,6 +42,18 @@ public class ChatController {
         List<ChatSummaryResponse> result = chatService.getChatSummaries(me, page, size);
         return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
+
+    /**
+     채팅 미읽음 배지 API
+     - 안 읽은 메시지가 있는 채팅방 수와 전체 미읽음 메시지 수 (나간 채팅방 제외)
+     */
+    @Operation(summary = "채팅 미읽음 개수 조회", description = "안 읽은 메시지가 있는 채팅방 수와 전체 미읽음 메시지 수를 반환합니다.")
+    @GetMapping("/chats/unread-count")
+    public ResponseEntity<ApiResponse<UnreadSummaryResponse>> getUnreadSummary(
+            @RequestHeader("user-id") Long me
+    ) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(chatService.getUnreadSummary(me)));
+    }
     /**
      낙찰된 itemId만으로 채팅 자동 생성/재사용
      - item.seller / item.winner 를 Chat에 매핑
@@ -78,19 +90,39 @@ public class ChatController {
      채팅방 입장 API
      - 읽지 않은 메세지 전체 읽음 처리 + 메시지 오름차순 목록 반환
      - 프론트는 받은 리스트를 그대로 아래로 붙이면 새 메시지가 아래로 쌓임
+     - 위로 스크롤: beforeMessageId = 현재 가장 오래된 메시지 ID
+     - 재접속 후 따라잡기: afterMessageId = 마지막으로 받은 메시지 ID (hasMore면 마지막 ID로 반복)
      */
     @Operation(summary = "채팅방 입장", description = "해당 채팅방의 메시지들이 반환되며 읽지 않은 메시지는 모두 읽음 처리됩니다.")
     @PostMapping("/chats/{chatId}/enter")
     public ResponseEntity<ApiResponse<ChatEnterResponse>> enter(
             @RequestHeader("user-id") Long me,
             @PathVariable Long chatId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Long beforeMessageId, // 이 메시지 이전 창
+            @RequestParam(required = false) Long afterMessageId,  // 이 메시지 이후 창
             @RequestParam(defaultValue = "50") int size
     ) {
-        ChatEnterResponse resp = chatService.enter(me, chatId, page, size);
+        ChatEnterResponse resp = chatService.enter(me, chatId, beforeMessageId, afterMessageId, size);
         return ResponseEntity.ok(ApiResponse.onSuccess(resp));
     }
 
+    /**
+     재접속 따라잡기 API
+     - 마지막으로 받은 메시지(afterMessageId) 이후 메시지만 오름차순으로 반환 (읽음 처리 없음)
+     - 서버 메모리의 최근 메시지 버퍼에서 바로 내려주고, 끊긴 동안 너무 많이 쌓였으면 DB에서 조회
+     - hasMore면 마지막 messageId로 반복 요청
+     */
+    @Operation(summary = "재접속 메시지 따라잡기", description = "afterMessageId 이후 메시지를 반환합니다. 최근 메시지는 DB 조회 없이 반환됩니다.")
+    @GetMapping("/chats/{chatId}/messages/since")
+    public ResponseEntity<ApiResponse<ChatCatchUpResponse>> catchUp(
+            @RequestHeader("user-id") Long me,
+            @PathVariable Long chatId,
+            @RequestParam Long afterMessageId,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(chatService.catchUp(me, chatId, afterMessageId, size)));
+    }
+
     /**
      메세지 읽음 처리 API
      -채팅방 입장 시: 해당 방의 '내가 안 읽은' 메시지 전체 읽음 처리
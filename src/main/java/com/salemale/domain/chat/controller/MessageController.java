@@ -3,13 +3,13 @@ package com.salemale.domain.chat.controller; // 메시지 관련 컨트롤러
 import com.salemale.common.response.ApiResponse;
 import com.salemale.domain.chat.dto.MessageDtos.MessageResponse;
 import com.salemale.domain.chat.dto.MessageDtos.*; // 메시지 요청/응답 DTO 묶음
+import com.salemale.domain.chat.service.ChatImageService; // 채팅 이미지 업로드
+import com.salemale.domain.chat.service.ChatImageService.ChatImage;
 import com.salemale.domain.chat.service.MessageService; // 메시지 비즈니스 로직 서비스
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor; // 생성자 자동 생성
 import org.springframework.http.ResponseEntity; // HTTP 응답 객체
 import org.springframework.web.bind.annotation.*; // REST 매핑용 어노테이션
-import com.salemale.domain.chat.entity.Message;
-import com.salemale.domain.s3.service.S3Service;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -28,7 +28,7 @@ import java.security.Principal;
 public class MessageController {
 
     private final MessageService messageService; // 메시지 서비스
-    private final S3Service s3Service;
+    private final ChatImageService chatImageService;
 
     /*
      메시지 전송 API
@@ -44,25 +44,43 @@ public class MessageController {
         return ResponseEntity.ok(ApiResponse.onSuccess(resp));
     }
 
+    @Operation(summary = "이미지 업로드 URL 발급",
+            description = "채팅 이미지를 S3에 직접 올릴 presigned PUT URL을 발급합니다. 같은 Content-Type으로 PUT 한 뒤 key로 이미지를 전송합니다.")
+    @PostMapping("/messages/image/upload-url")
+    public ResponseEntity<ApiResponse<ImageUploadUrlResponse>> issueImageUploadUrl(
+            @RequestHeader("user-id") Long me,
+            @RequestBody ImageUploadUrlRequest request
+    ) {
+        ImageUploadUrlResponse resp = chatImageService.issueUploadUrl(me, request.getChatId(), request.getContentType());
+        return ResponseEntity.ok(ApiResponse.onSuccess(resp));
+    }
+
+    @Operation(summary = "이미지 전송(업로드 완료 후)",
+            description = "presigned URL로 올린 이미지(key)로 메시지를 저장합니다. 썸네일/중간 크기는 저장 후 비동기로 생성됩니다.")
+    @PostMapping(value = "/messages/image", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<MessageResponse>> sendUploadedImage(
+            @RequestHeader("user-id") Long me,
+            @RequestBody SendImageRequest request
+    ) {
+        // S3 확인은 트랜잭션 밖에서
+        ChatImage image = chatImageService.confirmUpload(me, request.getChatId(), request.getKey());
+        MessageResponse saved = messageService.sendImage(me, request.getChatId(), image);
+        return ResponseEntity.ok(ApiResponse.onSuccess(saved));
+    }
+
     @Operation(summary = "이미지 전송(REST)",
-            description = "이미지를 업로드하고, 업로드 URL로 메시지를 저장합니다. 브로드캐스트는 Service에서 처리합니다.")
+            description = "이미지를 서버를 거쳐 업로드하고 메시지를 저장합니다. (기존 클라이언트용, 가능하면 upload-url 방식 사용)")
     @PostMapping(value = "/messages/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<MessageResponse>> sendImage(
             @RequestHeader("user-id") Long me,
             @RequestParam Long chatId,
             @RequestPart("file") MultipartFile file
     ) {
-        // 1) 이미지 업로드 → 공개 URL
-        String imageUrl = s3Service.uploadToTemp(file);
-
-        // 2) 메시지 저장 (type = IMAGE)
-        SendMessageRequest req = SendMessageRequest.builder()
-                .chatId(chatId)
-                .content(imageUrl)
-                .type(Message.MessageType.IMAGE)
-                .build();
+        // 1) chats/{chatId}/ 아래로 업로드 (temp 아님 → 이동 불필요)
+        ChatImage image = chatImageService.uploadDirect(me, chatId, file);
 
-        MessageResponse saved = messageService.send(me, req);
+        // 2) 메시지 저장 (type = IMAGE), 변형본은 커밋 후 생성
+        MessageResponse saved = messageService.sendImage(me, chatId, image);
         return ResponseEntity.ok(ApiResponse.onSuccess(saved));
     }
 }
@@ -4,6 +4,7 @@ import com.salemale.domain.chat.dto.MessageDtos;
 import com.salemale.domain.chat.dto.MessageDtos.MessageResponse;
 import com.salemale.domain.chat.dto.WsMessage;
 import com.salemale.domain.chat.service.MessageService;
+import com.salemale.domain.chat.service.ReadReceiptAggregator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -20,6 +21,7 @@ import java.security.Principal;
 public class MessageWsController {
 
     private final MessageService messageService;
+    private final ReadReceiptAggregator readReceiptAggregator;
 
     @MessageMapping("/chats/{chatId}/send")
     @SendTo("/topic/chats/{chatId}")
@@ -43,4 +45,15 @@ public class MessageWsController {
 
         return messageService.send(me, req);
     }
+
+    // 읽음 보고: 화면에 표시한 마지막 메시지까지 읽음 (모아서 반영 후 상대에게 읽음 알림)
+    @MessageMapping("/chats/{chatId}/read")
+    public void readUpTo(@DestinationVariable Long chatId,
+                         @Payload MessageDtos.ReadUpToRequest payload,
+                         Principal principal) {
+        if (principal == null || payload == null || payload.getLastMessageId() == null) {
+            return;
+        }
+        readReceiptAggregator.record(Long.valueOf(principal.getName()), chatId, payload.getLastMessageId());
+    }
 }
@@ -34,6 +34,13 @@ public class ChatDtos {
         private Long unreadCount;
     }
 
+    // 채팅 미읽음 배지: 안 읽은 메시지가 있는 채팅방 수 + 전체 미읽음 메시지 수
+    @Getter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class UnreadSummaryResponse {
+        private long unreadChats;
+        private long unreadMessages;
+    }
+
     /**
      * (프론트 요청으로 추가)채팅방 목록 요약 응답
      * partner: 현재 사용자(me)가 판매자면 구매자, 구매자면 판매자
@@ -97,16 +104,23 @@ public class ChatDtos {
     public static class ChatEnterResponse {
         private Long chatId;
         private Long readerId;
-        private int updatedCount;        // 이번에 읽음 처리된 개수
+        private int updatedCount;        // 이번 입장으로 읽음 처리되는 개수 (DB 반영은 ReadReceiptAggregator가 모아서)
         private int unreadCountAfter;    // 처리 후 남은 미읽음(보통 0)
-        private int page;
         private int size;
-        private long totalElements;
-        private int totalPages;
+        private boolean hasMore;         // 요청 방향(이전/이후)으로 더 남은 메시지가 있는지
         private List<MessageBrief> messages;
         private boolean canSend;   // 메시지 전송 가능 여부
     }
 
+    // 재접속 따라잡기 응답: afterMessageId 이후 메시지 (오름차순)
+    @Getter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class ChatCatchUpResponse {
+        private Long chatId;
+        private boolean fromMemory;      // 최근 메시지 버퍼에서 내려줬는지 (false면 DB 조회)
+        private boolean hasMore;         // 이후 메시지가 더 있는지 (마지막 messageId로 다시 요청)
+        private List<MessageBrief> messages;
+    }
+
     // 입장 시 반환할 메시지 간략 DTO (오름차순)
     @Getter @NoArgsConstructor @AllArgsConstructor @Builder
     public static class MessageBrief {
@@ -116,5 +130,7 @@ public class ChatDtos {
         private MessageType type;
         private boolean read;
         private LocalDateTime sentAt;
+        private String thumbnailUrl;     // IMAGE 메시지만
+        private String mediumUrl;
     }
 }
@@ -40,6 +40,8 @@ public class MessageDtos {
         private boolean read;           // 읽음 여부
         private LocalDateTime sentAt;   // 메시지 전송 시각
         private boolean ignored;
+        private String thumbnailUrl;    // IMAGE: 썸네일 (생성 전이면 content 원본으로 대신 표시)
+        private String mediumUrl;       // IMAGE: 중간 크기 (확대 보기용)
     }
 
     // 채팅방 단위로 읽음 처리 결과 응답
@@ -50,4 +52,40 @@ public class MessageDtos {
         private int updatedCount;      // 이번에 true 로 바뀐 메시지 수
         private int unreadCountAfter;  // 처리 후 남은 미읽음 수(보통 0)
     }
+
+    // 채팅 이미지 업로드 URL 발급 요청 (presigned PUT)
+    @Getter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class ImageUploadUrlRequest {
+        private Long chatId;
+        private String contentType;     // image/jpeg, image/png, image/gif, image/webp
+    }
+
+    // 채팅 이미지 업로드 URL 발급 결과: uploadUrl로 같은 Content-Type을 붙여 PUT 후 key로 메시지 전송
+    @Getter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class ImageUploadUrlResponse {
+        private String key;
+        private String uploadUrl;
+        private LocalDateTime expiresAt;
+    }
+
+    // 업로드를 마친 이미지로 메시지 전송
+    @Getter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class SendImageRequest {
+        private Long chatId;
+        private String key;             // 업로드 URL 발급 시 받은 키
+    }
+
+    // STOMP 읽음 보고 (/app/chats/{chatId}/read): 화면에 표시한 마지막 메시지 ID
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class ReadUpToRequest {
+        private Long lastMessageId;
+    }
+
+    // 상대에게 보내는 읽음 알림 (/user/queue/read-receipts): 이 방에서 readerId가 lastReadMessageId까지 읽음
+    @Getter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class ReadReceipt {
+        private Long chatId;
+        private Long readerId;
+        private Long lastReadMessageId;
+    }
 }
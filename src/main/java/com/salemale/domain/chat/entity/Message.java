@@ -50,6 +50,13 @@ public class Message extends BaseEntity {
     @Column(name = "type", nullable = false, columnDefinition = "VARCHAR(20)")
     private MessageType type;
 
+    // IMAGE 메시지의 변형본 URL (비동기 생성, 그 외 타입은 null)
+    @Column(name = "thumbnail_url", length = 300)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 300)
+    private String mediumUrl;
+
     public enum MessageType {
         TEXT, IMAGE, URL
     }
@@ -0,0 +1,8 @@
+package com.salemale.domain.chat.event;
+
+/*
+ 채팅 이미지 메시지가 저장되었음을 알리는 이벤트.
+ - 아웃박스(CHAT_IMAGE_SENT)로 전달되어 ChatImageVariantHandler가 원본에서 썸네일/중간 크기 변형본을 만든다.
+ - 변형본 키는 메시지 저장 시 정해져 이미 메시지에 URL로 기록되어 있다.
+ */
+public record ChatImageSentEvent(Long chatId, Long messageId, String originalKey, String thumbnailKey, String mediumKey) {}
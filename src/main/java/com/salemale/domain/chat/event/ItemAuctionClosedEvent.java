@@ -3,5 +3,6 @@ package com.salemale.domain.chat.event;
 /*
  경매가 정상 종료되어 winner가 확정되었음을 알리는 도메인 이벤트.
  - Chat 도메인에서 수신하여 채팅방 자동 생성에 사용
+ - 아웃박스(AUCTION_CLOSED)로 전달되며, 일괄 마감 시 낙찰 상품마다 한 건씩 배치로 기록된다.
  */
 public record ItemAuctionClosedEvent(Long itemId) {}
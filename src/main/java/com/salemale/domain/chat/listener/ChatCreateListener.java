@@ -1,36 +1,42 @@
 package com.salemale.domain.chat.listener;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.salemale.domain.chat.event.ItemAuctionClosedEvent;
 import com.salemale.domain.chat.service.ChatService;
+import com.salemale.global.common.outbox.OutboxEventType;
+import com.salemale.global.common.outbox.OutboxHandler;
+import com.salemale.global.common.outbox.OutboxMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.transaction.event.TransactionPhase;
 
 /*
- 낙찰(경매 종료) 이벤트를 수신하여
+ 낙찰(경매 종료) 이벤트를 아웃박스에서 수신하여
  ChatService를 통해 채팅방을 자동 생성/재사용한다.
+ - 마감 트랜잭션과 분리된 디스패처 스레드에서 실행되며, 실패하면 아웃박스가 재시도한다.
+ - 이미 만든 방은 재사용하므로 같은 이벤트가 다시 와도 안전하다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ChatCreateListener {
+public class ChatCreateListener implements OutboxHandler {
 
     private final ChatService chatService;
+    private final ObjectMapper objectMapper;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onAuctionClosed(ItemAuctionClosedEvent event) {
-        Long itemId = event.itemId();
-        try {
-            var resp = chatService.createChatForItemWinner(itemId);
-            log.info("[CHAT] auto-created/reused chatId={} for itemId={}", resp.getChatId(), itemId);
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.AUCTION_CLOSED;
+    }
+
+    @Override
+    public void handle(OutboxMessage message) throws Exception {
+        Long itemId = objectMapper.readValue(message.payload(), ItemAuctionClosedEvent.class).itemId();
+
+        var resp = chatService.createChatForItemWinner(itemId);
+        log.info("[CHAT] auto-created/reused chatId={} for itemId={}", resp.getChatId(), itemId);
 
-            // 최초 안내 메시지 자동 전송
-            // messageService.sendSystemMessage(resp.getChatId(), "낙찰 완료! 대화가 시작되었습니다.");
-        } catch (Exception e) {
-            // 이 트랜잭션은 커밋된 상태이므로, 실패해도 경매 확정에는 영향 없음
-            log.error("[CHAT] auto-create failed for itemId={}", itemId, e);
-        }
+        // 최초 안내 메시지 자동 전송
+        // messageService.sendSystemMessage(resp.getChatId(), "낙찰 완료! 대화가 시작되었습니다.");
     }
 }
@@ -0,0 +1,182 @@
+package com.salemale.domain.chat.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salemale.domain.chat.event.ChatImageSentEvent;
+import com.salemale.domain.s3.service.S3Service;
+import com.salemale.global.common.outbox.OutboxEventType;
+import com.salemale.global.common.outbox.OutboxHandler;
+import com.salemale.global.common.outbox.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+
+/*
+ 채팅 이미지 변형본 생성 (아웃박스 CHAT_IMAGE_SENT)
+ - 원본을 한 번 내려받아 썸네일(thumb.jpg)과 중간 크기(medium.jpg)를 만들어 올린다. 원본보다 크게 늘리지 않는다.
+ - 생성은 chatImageExecutor에서 돌고 handle()은 작업을 넘기기만 한다. (아웃박스 루프가 디코딩에 묶여 채팅 전달이 늦어지지 않도록)
+   풀이 가득 차면 예외를 던져 아웃박스가 백오프 후 다시 넘기게 한다.
+ - 디코딩은 서브샘플링으로 중간 크기 근처까지만 읽는다. (원본 해상도 전체를 힙에 올리지 않음)
+ - 같은 키에 덮어쓰므로 재전달되어도 결과가 같다.
+ - JDK ImageIO가 읽지 못하는 형식(webp 등)은 변형본 키에 원본을 복사해 URL이 항상 유효하게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatImageVariantHandler implements OutboxHandler {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    private final S3Service s3Service;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("chatImageExecutor")
+    private Executor imageExecutor;
+
+    @Value("${chat.image.thumbnail-size:240}")
+    private int thumbnailSize;
+
+    @Value("${chat.image.medium-size:960}")
+    private int mediumSize;
+
+    @Value("${chat.image.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    // 서브샘플링 후 디코딩 결과의 메모리 상한 (가로 x 세로)
+    @Value("${chat.image.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.CHAT_IMAGE_SENT;
+    }
+
+    @Override
+    public void handle(OutboxMessage message) throws Exception {
+        ChatImageSentEvent event = objectMapper.readValue(message.payload(), ChatImageSentEvent.class);
+        // 거절(RejectedExecutionException)은 그대로 올려 아웃박스 재전달에 맡긴다
+        imageExecutor.execute(() -> {
+            try {
+                generate(event);
+            } catch (Exception e) {
+                // 변형본이 없어도 클라이언트는 원본으로 대체 표시
+                log.warn("[CHAT] image variants failed: messageId={}, key={}, error={}",
+                        event.messageId(), event.originalKey(), e.toString());
+            }
+        });
+    }
+
+    private void generate(ChatImageSentEvent event) throws Exception {
+        BufferedImage original = read(event.originalKey());
+        if (original == null) {
+            s3Service.copy(event.originalKey(), event.thumbnailKey());
+            s3Service.copy(event.originalKey(), event.mediumKey());
+            log.info("[CHAT] image variants copied (undecodable): messageId={}, key={}",
+                    event.messageId(), event.originalKey());
+            return;
+        }
+
+        s3Service.putBytes(event.thumbnailKey(), encode(resize(original, thumbnailSize)), CONTENT_TYPE);
+        s3Service.putBytes(event.mediumKey(), encode(resize(original, mediumSize)), CONTENT_TYPE);
+        log.debug("[CHAT] image variants created: messageId={}, decoded={}x{}",
+                event.messageId(), original.getWidth(), original.getHeight());
+    }
+
+    // 원본 디코딩 (지원하지 않는 형식이거나 너무 크면 null)
+    // - 헤더의 크기만 먼저 읽고, 긴 변이 mediumSize 이상 남는 최대 간격으로 행/열을 건너뛰며 읽는다.
+    private BufferedImage read(String key) throws Exception {
+        try (ResponseInputStream<GetObjectResponse> in = s3Service.open(key);
+             ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = stream == null ? null : ImageIO.getImageReaders(stream);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int step = subsampling(width, height, mediumSize);
+
+                long pixels = (long) ceilDiv(width, step) * ceilDiv(height, step);
+                if (pixels > maxPixels) {
+                    log.warn("[CHAT] image too large to decode: key={}, size={}x{}", key, width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param); // GIF는 첫 프레임
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변을 step으로 나눠도 maxEdge 이상이 되는 가장 큰 간격 (작은 이미지는 1)
+    static int subsampling(int width, int height, int maxEdge) {
+        return Math.max(1, Math.max(width, height) / Math.max(1, maxEdge));
+    }
+
+    private static int ceilDiv(int value, int step) {
+        return (value + step - 1) / step;
+    }
+
+    // 긴 변이 maxEdge가 되도록 축소, 투명 영역은 흰 배경으로 (JPEG는 알파 없음)
+    private BufferedImage resize(BufferedImage source, int maxEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, targetWidth, targetHeight);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image) throws Exception {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
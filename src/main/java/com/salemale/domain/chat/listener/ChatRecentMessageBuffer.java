@@ -0,0 +1,255 @@
+package com.salemale.domain.chat.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salemale.domain.chat.dto.MessageDtos.MessageResponse;
+import com.salemale.domain.chat.dto.MessageDtos.ReadReceipt;
+import com.salemale.domain.chat.service.ReadReceiptAggregator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼 (재접속 따라잡기용)
+ * - brokerChannel 인터셉터로 /topic/chats/{chatId} 브로드캐스트를 받아 채팅방마다 최근 capacity개를 보관한다.
+ *   (redis 브로커 모드에서는 다른 노드가 중계한 메시지도 brokerChannel을 지나므로 모든 노드의 버퍼가 같은 메시지를 본다)
+ * - 순번은 messageId(전역 시퀀스)를 그대로 쓴다. 어느 노드에 재접속해도 같은 기준으로 "X 이후"를 요청할 수 있다.
+ * - 버퍼는 가장 오래된 항목을 밀어낸 시점부터 그 ID 이후만 온전히 보장하며(coveredFrom),
+ *   요청한 X가 그보다 이전이거나 버퍼에 없는 메시지면 비어 있는 결과를 돌려 호출 측이 DB로 조회하게 한다. (커서 검증도 DB와 같게)
+ * - 메시지의 읽음 여부(read)는 전송 시점 값이므로, 같은 채널로 지나가는 읽음 알림(/user/{id}/queue/read-receipts)에서
+ *   사용자별 "X까지 읽음"을 함께 보관해 readUpTo로 덧씌울 수 있게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRecentMessageBuffer implements ChannelInterceptor {
+
+    private static final String CHAT_TOPIC = "/topic/chats/";
+    private static final String USER_PREFIX = "/user/";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.catch-up.capacity:200}")
+    private int capacity;
+
+    @Value("${chat.catch-up.max-chats:10000}")
+    private int maxChats;
+
+    @Value("${chat.catch-up.idle-ms:1800000}")
+    private long idleMillis;
+
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gaugeMapSize("chat.catchup.rings", List.of(), rings);
+    }
+
+    /**
+     * brokerChannel 인터셉터: 채팅방 브로드캐스트를 버퍼에 적재하고, 읽음 알림으로 사용자별 읽은 위치를 갱신
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        try {
+            if (destination.startsWith(CHAT_TOPIC)) {
+                Long chatId = Long.valueOf(destination.substring(CHAT_TOPIC.length()));
+                MessageResponse response = objectMapper.readValue(payload, MessageResponse.class);
+                if (response.getMessageId() != null && !response.isIgnored()) {
+                    append(chatId, response);
+                }
+            } else if (destination.startsWith(USER_PREFIX) && destination.endsWith(ReadReceiptAggregator.DESTINATION)) {
+                ReadReceipt receipt = objectMapper.readValue(payload, ReadReceipt.class);
+                markRead(receipt.getChatId(), receipt.getReaderId(), receipt.getLastReadMessageId());
+            }
+        } catch (Exception e) {
+            // /topic/chats/{chatId}/... 등 다른 형식은 대상 아님
+            log.trace("[CHAT] catch-up buffer skipped: dest={}", destination);
+        }
+        return message;
+    }
+
+    /**
+     * afterMessageId 이후 메시지 (오름차순, 최대 limit + 1개)
+     *
+     * @return 버퍼가 그 구간을 온전히 갖고 있지 않으면 empty (DB로 조회)
+     */
+    public Optional<List<MessageResponse>> since(Long chatId, long afterMessageId, int limit) {
+        Ring ring = rings.get(chatId);
+        if (ring == null) {
+            return Optional.empty();
+        }
+        return ring.since(afterMessageId, limit);
+    }
+
+    /**
+     * readerId가 이 채팅방에서 읽었다고 알려진 마지막 messageId (모르면 0)
+     * - 상대가 보낸 이 ID 이하 메시지는 전송 시점 read 값과 관계없이 읽음
+     */
+    public long readUpTo(Long chatId, Long readerId) {
+        Ring ring = rings.get(chatId);
+        return ring == null ? 0L : ring.readUpTo(readerId);
+    }
+
+    /**
+     * 채팅방 참여자 ID - 채팅방마다 처음 한 번만 loader로 읽고 버퍼에 함께 보관
+     */
+    public long[] participants(Long chatId, Supplier<long[]> loader) {
+        Ring ring = rings.get(chatId);
+        if (ring == null) {
+            return loader.get();
+        }
+        return ring.participants(loader);
+    }
+
+    // 오래 메시지가 없던 채팅방 버퍼 정리
+    @Scheduled(fixedDelayString = "${chat.catch-up.sweep-ms:60000}")
+    public void sweep() {
+        long threshold = System.currentTimeMillis() - idleMillis;
+        rings.values().removeIf(ring -> ring.lastAppendAt < threshold);
+    }
+
+    private void markRead(Long chatId, Long readerId, Long upToMessageId) {
+        if (chatId == null || readerId == null || upToMessageId == null) {
+            return;
+        }
+        Ring ring = rings.get(chatId);
+        if (ring != null) {
+            ring.markRead(readerId, upToMessageId); // 버퍼가 없으면 이후 메시지는 모두 읽음 알림보다 새것
+        }
+    }
+
+    private void append(Long chatId, MessageResponse response) {
+        Ring ring = rings.get(chatId);
+        if (ring == null) {
+            if (rings.size() >= maxChats) {
+                return; // 상한 초과: 이 채팅방은 DB로 따라잡기
+            }
+            ring = rings.computeIfAbsent(chatId, id -> new Ring(capacity, response.getMessageId()));
+        }
+        ring.add(response);
+    }
+
+    /**
+     * 고정 크기 원형 버퍼 (messageId 오름차순 유지)
+     */
+    static final class Ring {
+
+        private final MessageResponse[] slots;
+        private int head; // 가장 오래된 항목 위치
+        private int size;
+        private long coveredFrom; // 이 ID 이후 메시지는 모두 보관 중
+        private boolean anchored; // coveredFrom이 이 채팅방의 실제 메시지 ID인지 (밀려난 메시지)
+        private final Map<Long, Long> readUpTo = new HashMap<>(); // 읽은 사용자 → 읽은 마지막 messageId
+        private long[] participants;
+        private volatile long lastAppendAt = System.currentTimeMillis();
+
+        Ring(int capacity, long firstMessageId) {
+            this.slots = new MessageResponse[capacity];
+            this.coveredFrom = firstMessageId - 1; // 첫 메시지 이전 구간은 알 수 없음
+        }
+
+        synchronized void add(MessageResponse response) {
+            long id = response.getMessageId();
+            lastAppendAt = System.currentTimeMillis();
+            if (id <= coveredFrom) {
+                return; // 이미 밀려난 구간
+            }
+
+            // 보통은 가장 큰 ID가 뒤에 붙는다. 늦게 커밋된 이전 메시지만 자리를 찾아 끼워 넣는다.
+            int pos = size;
+            while (pos > 0 && at(pos - 1).getMessageId() >= id) {
+                if (at(pos - 1).getMessageId() == id) {
+                    return; // 중복 (@SendTo + 아웃박스 재전달 등)
+                }
+                pos--;
+            }
+
+            if (size == slots.length) {
+                if (pos == 0) {
+                    coveredFrom = id; // 가장 오래된 것보다 오래됨 → 버리고 보장 구간만 당김
+                    anchored = true;
+                    return;
+                }
+                coveredFrom = at(0).getMessageId();
+                anchored = true;
+                slots[head] = null;
+                head = (head + 1) % slots.length;
+                size--;
+                pos--;
+            }
+            for (int i = size; i > pos; i--) {
+                slots[index(i)] = at(i - 1);
+            }
+            slots[index(pos)] = response;
+            size++;
+        }
+
+        synchronized Optional<List<MessageResponse>> since(long afterMessageId, int limit) {
+            if (afterMessageId < coveredFrom || (afterMessageId == coveredFrom && !anchored)) {
+                return Optional.empty();
+            }
+            boolean found = afterMessageId == coveredFrom;
+            List<MessageResponse> result = new ArrayList<>(Math.min(size, limit + 1));
+            for (int i = 0; i < size && result.size() <= limit; i++) {
+                long id = at(i).getMessageId();
+                if (id == afterMessageId) {
+                    found = true;
+                } else if (id > afterMessageId) {
+                    if (!found) {
+                        break;
+                    }
+                    result.add(at(i));
+                }
+            }
+            // 버퍼가 모르는 커서(다른 채팅방 메시지, 아직 이 노드에 오지 않은 메시지 등)는 DB에서 판정
+            return found ? Optional.of(result) : Optional.empty();
+        }
+
+        synchronized void markRead(Long readerId, long upToMessageId) {
+            readUpTo.merge(readerId, upToMessageId, Math::max);
+        }
+
+        synchronized long readUpTo(Long readerId) {
+            return readUpTo.getOrDefault(readerId, 0L);
+        }
+
+        synchronized long[] participants(Supplier<long[]> loader) {
+            if (participants == null) {
+                participants = loader.get();
+            }
+            return participants;
+        }
+
+        private MessageResponse at(int i) {
+            return slots[index(i)];
+        }
+
+        private int index(int i) {
+            return (head + i) % slots.length;
+        }
+    }
+}
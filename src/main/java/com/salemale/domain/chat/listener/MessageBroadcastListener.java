@@ -1,39 +1,47 @@
 package com.salemale.domain.chat.listener;
 
-import com.salemale.domain.chat.service.MessageSentEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salemale.domain.chat.dto.MessageDtos.MessageResponse;
+import com.salemale.global.common.outbox.OutboxEventType;
+import com.salemale.global.common.outbox.OutboxHandler;
+import com.salemale.global.common.outbox.OutboxMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
-import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+/*
+ 메시지 저장 이벤트를 아웃박스에서 수신하여 채팅방 구독자에게 브로드캐스트한다.
+ - 전송 요청 스레드가 아니라 커밋 이후 디스패처 스레드에서 실행된다.
+ - 재전달될 수 있으므로 클라이언트는 messageId로 중복을 걸러야 한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class MessageBroadcastListener {
+public class MessageBroadcastListener implements OutboxHandler {
 
     // SimpMessagingTemplate 직접 주입 금지
     // 필요 시점에만 지연 조회(순환 의존 완전 차단)
     private final ObjectProvider<SimpMessagingTemplate> templateProvider;
+    private final ObjectMapper objectMapper;
 
-    @EventListener
-    public void onMessageSent(MessageSentEvent event) {
-        var dto = event.getPayload();
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.MESSAGE_SENT;
+    }
+
+    @Override
+    public void handle(OutboxMessage message) throws Exception {
+        MessageResponse dto = objectMapper.readValue(message.payload(), MessageResponse.class);
 
-        // 필요할 때만 실제 빈 조회 (없으면 null)
+        // 필요할 때만 실제 빈 조회 (없으면 재시도)
         SimpMessagingTemplate template = templateProvider.getIfAvailable();
         if (template == null) {
-            log.warn("[WS] SimpMessagingTemplate not available yet. skip broadcast. chatId={}, messageId={}",
-                    dto.getChatId(), dto.getMessageId());
-            return;
+            throw new IllegalStateException("SimpMessagingTemplate not available yet. chatId=" + dto.getChatId());
         }
 
-        try {
-            template.convertAndSend("/topic/chats/" + dto.getChatId(), dto);
-            log.debug("[WS] broadcast chatId={} messageId={}", dto.getChatId(), dto.getMessageId());
-        } catch (Exception e) {
-            log.warn("[WS] broadcast failed chatId={} cause={}", dto.getChatId(), e.getMessage());
-        }
+        template.convertAndSend("/topic/chats/" + dto.getChatId(), dto);
+        log.debug("[WS] broadcast chatId={} messageId={}", dto.getChatId(), dto.getMessageId());
     }
 }
@@ -1,6 +1,6 @@
 package com.salemale.domain.chat.listener;
 
-import com.salemale.domain.chat.service.ChatService;
+import com.salemale.domain.chat.service.ReadReceiptAggregator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -15,12 +15,13 @@ import java.security.Principal;
 @RequiredArgsConstructor
 public class StompSubscribeListener {
 
-    private final ChatService chatService;
+    private final ReadReceiptAggregator readReceiptAggregator;
 
     /**
      * STOMP SUBSCRIBE 이벤트 리스너
-     * - /topic/chats/{chatId} 로 구독 들어오면 해당 방의 '내가 안 읽은' 메시지를 일괄 읽음 처리
-     * - 잘못된 목적지 형식/숫자 파싱 실패/권한 문제 등은 로그만 남기고 무시
+     * - /topic/chats/{chatId} 로 구독 들어오면 해당 방의 '내가 안 읽은' 메시지를 읽음 처리하도록 기록
+     *   (바로 UPDATE하지 않고 ReadReceiptAggregator가 모아서 반영, 참여자 검증도 반영 시점에 수행)
+     * - 잘못된 목적지 형식/숫자 파싱 실패 등은 로그만 남기고 무시
      */
     @EventListener
     public void onSubscribe(SessionSubscribeEvent event) {
@@ -49,15 +50,12 @@ public class StompSubscribeListener {
             Long chatId = Long.valueOf(last.trim());
             Long me = Long.valueOf(principal.getName().trim());
 
-            // 읽음 처리 (권한/참여자 검증은 Service 내부에서 수행)
-            chatService.markAllReadInChat(me, chatId);
+            // 읽음 처리 기록 (보고 있는 동안 들어온 메시지까지 포함)
+            readReceiptAggregator.record(me, chatId, ReadReceiptAggregator.ALL);
 
-            log.debug("[STOMP SUBSCRIBE] user={} subscribed to {}, marked unread as read.", me, destination);
+            log.debug("[STOMP SUBSCRIBE] user={} subscribed to {}, read receipt recorded.", me, destination);
         } catch (NumberFormatException e) {
             log.warn("[STOMP SUBSCRIBE] invalid chatId in destination: {}", destination);
-        } catch (Exception e) {
-            // 참여자가 아님, 이미 나간 방 등은 Service에서 IllegalState/EntityNotFound 등 던질 수 있음 → 로그만 남기고 무시
-            log.info("[STOMP SUBSCRIBE] markAllRead skipped. dest={}, cause={}", destination, e.getMessage());
         }
     }
 }
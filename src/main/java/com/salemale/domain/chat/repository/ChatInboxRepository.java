@@ -0,0 +1,174 @@
+package com.salemale.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * chat_inbox 프로젝션 갱신 (V18 마이그레이션 참고)
+ * - 채팅 목록 조회(ChatRepository.findChatSummaries)가 읽는 참여자별 요약 행을 도메인 변경과 같은 트랜잭션에서 갱신한다.
+ * - 갱신은 모두 (user_id, chat_id) PK 기준 UPDATE라 채팅방 크기와 무관하게 상수 비용이다.
+ * - unread_count가 미읽음 개수의 원본 역할을 하므로 목록/배지/읽음 처리 결과 모두 message를 세지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatInboxRepository {
+
+    // 채팅방 생성 시 두 참여자 행 생성 (상대/상품 스냅샷)
+    private static final String CREATE_SQL = """
+            INSERT INTO chat_inbox (user_id, chat_id, partner_id, partner_nickname, partner_profile_image,
+                                    partner_region_id, partner_region_name, item_id, item_title, item_image_url,
+                                    last_activity_at, unread_count)
+            SELECT p.user_id,
+                   c.chat_id,
+                   p.partner_id,
+                   u.nickname,
+                   u.profile_image,
+                   r.region_id,
+                   CONCAT(r.sido, ' ', r.sigungu, ' ', r.eupmyeondong),
+                   i.item_id,
+                   i.title,
+                   ii.image_url,
+                   c.last_message_at,
+                   0
+              FROM chat c
+             CROSS JOIN LATERAL (VALUES (c.seller_id, c.buyer_id),
+                                        (c.buyer_id, c.seller_id)) p (user_id, partner_id)
+              JOIN users u ON u.id = p.partner_id
+              JOIN item i ON i.item_id = c.item_id
+              LEFT JOIN user_region ur ON ur.user_id = u.id AND ur.is_primary = TRUE
+              LEFT JOIN region r ON r.region_id = ur.region_id
+              LEFT JOIN LATERAL (SELECT image_url
+                                   FROM item_image ii2
+                                  WHERE ii2.item_id = i.item_id
+                                  ORDER BY ii2.image_order ASC
+                                  LIMIT 1) ii ON TRUE
+             WHERE c.chat_id = :chatId
+                ON CONFLICT (user_id, chat_id) DO NOTHING
+            """;
+
+    // 새 메시지 반영 (두 참여자 모두 마지막 메시지 갱신, 수신자만 미읽음 +1 / 보낸 사람 스냅샷 갱신)
+    private static final String MESSAGE_SENT_SQL = """
+            UPDATE chat_inbox
+               SET last_content          = :content,
+                   last_type             = :type,
+                   last_sent_at          = :sentAt,
+                   last_activity_at      = GREATEST(last_activity_at, :sentAt),
+                   unread_count          = unread_count + CASE WHEN user_id = :receiverId THEN 1 ELSE 0 END,
+                   partner_nickname      = CASE WHEN user_id = :receiverId THEN :senderNickname
+                                                ELSE partner_nickname END,
+                   partner_profile_image = CASE WHEN user_id = :receiverId THEN :senderProfileImage
+                                                ELSE partner_profile_image END
+             WHERE chat_id = :chatId
+               AND (last_sent_at IS NULL OR last_sent_at <= :sentAt)
+            """;
+
+    // 마지막 메시지보다 늦게 커밋된 이전 메시지 (미읽음만 반영)
+    private static final String LATE_MESSAGE_SQL = """
+            UPDATE chat_inbox
+               SET unread_count = unread_count + 1
+             WHERE chat_id = :chatId
+               AND user_id = :receiverId
+               AND last_sent_at > :sentAt
+            """;
+
+    // 읽음 처리한 개수만큼 차감 (그 사이 커밋된 새 메시지의 증가분은 유지)
+    private static final String MARK_READ_SQL = """
+            UPDATE chat_inbox
+               SET unread_count = GREATEST(unread_count - :readCount, 0)
+             WHERE user_id = :userId
+               AND chat_id = :chatId
+            RETURNING unread_count
+            """;
+
+    private static final String FIND_UNREAD_PAGE_SQL = """
+            SELECT chat_id, unread_count
+              FROM chat_inbox
+             WHERE user_id = :userId
+               AND deleted_at IS NULL
+             ORDER BY last_activity_at DESC, chat_id DESC
+            OFFSET :offset LIMIT :limit
+            """;
+
+    // 안 읽은 메시지가 있는 채팅방 수 + 전체 미읽음 메시지 수 (ix_chat_inbox_user_unread)
+    private static final String UNREAD_TOTALS_SQL = """
+            SELECT COUNT(*) AS chats, COALESCE(SUM(unread_count), 0) AS messages
+              FROM chat_inbox
+             WHERE user_id = :userId
+               AND deleted_at IS NULL
+               AND unread_count > 0
+            """;
+
+    private static final String EXIT_SQL = """
+            UPDATE chat_inbox
+               SET deleted_at = :deletedAt
+             WHERE user_id = :userId
+               AND chat_id = :chatId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void create(Long chatId) {
+        jdbcTemplate.update(CREATE_SQL, new MapSqlParameterSource("chatId", chatId));
+    }
+
+    public void messageSent(Long chatId, Long receiverId, String content, String type, LocalDateTime sentAt,
+                            String senderNickname, String senderProfileImage) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("chatId", chatId)
+                .addValue("receiverId", receiverId)
+                .addValue("content", content)
+                .addValue("type", type)
+                .addValue("sentAt", Timestamp.valueOf(sentAt))
+                .addValue("senderNickname", senderNickname)
+                .addValue("senderProfileImage", senderProfileImage);
+        jdbcTemplate.update(MESSAGE_SENT_SQL, params);
+        jdbcTemplate.update(LATE_MESSAGE_SQL, params);
+    }
+
+    /**
+     * 읽음 처리 반영
+     *
+     * @param readCount 이번에 읽음으로 바뀐 메시지 수
+     * @return 남은 미읽음 개수 (행이 없으면 0)
+     */
+    public int markRead(Long userId, Long chatId, int readCount) {
+        List<Integer> remaining = jdbcTemplate.queryForList(MARK_READ_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("chatId", chatId)
+                .addValue("readCount", readCount), Integer.class);
+        return remaining.isEmpty() ? 0 : remaining.get(0);
+    }
+
+    // 내 채팅방 (최근 대화 순) + 미읽음 개수
+    public List<UnreadRow> findUnreadPage(Long userId, int offset, int limit) {
+        return jdbcTemplate.query(FIND_UNREAD_PAGE_SQL, new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("offset", offset)
+                        .addValue("limit", limit),
+                (rs, rowNum) -> new UnreadRow(rs.getLong("chat_id"), rs.getLong("unread_count")));
+    }
+
+    public UnreadTotals countUnread(Long userId) {
+        return jdbcTemplate.queryForObject(UNREAD_TOTALS_SQL, new MapSqlParameterSource("userId", userId),
+                (rs, rowNum) -> new UnreadTotals(rs.getLong("chats"), rs.getLong("messages")));
+    }
+
+    public void exit(Long userId, Long chatId, LocalDateTime deletedAt) {
+        jdbcTemplate.update(EXIT_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("chatId", chatId)
+                .addValue("deletedAt", Timestamp.valueOf(deletedAt)));
+    }
+
+    public record UnreadRow(Long chatId, long unreadCount) {
+    }
+
+    public record UnreadTotals(long chats, long messages) {
+    }
+}
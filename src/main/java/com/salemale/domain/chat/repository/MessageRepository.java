@@ -2,6 +2,7 @@ package com.salemale.domain.chat.repository;
 
 import com.salemale.domain.chat.entity.Chat; //채팅방 정보
 import com.salemale.domain.chat.entity.Message; //메시지 내용
+import com.salemale.domain.chat.repository.projection.UnreadSplitRow; //입장 시 읽음 처리 개수
 import org.springframework.data.jpa.repository.JpaRepository; // JPA 기본 기능
 import java.util.Optional; //null 대신 사용
 
@@ -11,18 +12,70 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 //채팅방 입장시 메세지 조회를 위함
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
     //채팅방의 최근 메세지 조회
     Optional<Message> findTopByChatOrderBySentAtDesc(Chat chat);
-    //목록에 읽지 않은 메세지 카운트
-    long countByChat_ChatIdAndSender_IdNotAndIsReadFalse(Long chatId, Long myId);
 
-    // 채팅방의 메시지를 시간 오름차순으로 페이징 조회
-    Page<Message> findByChat_ChatIdOrderBySentAtAsc(Long chatId, Pageable pageable);
+    /*
+     메시지 키셋 조회 (ix_message_chat_sent_at, COUNT/OFFSET 없음)
+     - 기준은 (sentAt, messageId), 조회 개수는 Pageable 크기로 제한 (page는 항상 0)
+     - findLatest / findBefore: 최신순, findAfter: 기준 이후 오래된 순 (재접속 시 따라잡기)
+     */
+    @Query("""
+        select m
+          from Message m
+         where m.chat.chatId = :chatId
+         order by m.sentAt desc, m.messageId desc
+    """)
+    List<Message> findLatest(@Param("chatId") Long chatId, Pageable pageable);
+
+    @Query("""
+        select m
+          from Message m
+         where m.chat.chatId = :chatId
+           and (m.sentAt < :sentAt or (m.sentAt = :sentAt and m.messageId < :messageId))
+         order by m.sentAt desc, m.messageId desc
+    """)
+    List<Message> findBefore(@Param("chatId") Long chatId,
+                             @Param("sentAt") LocalDateTime sentAt,
+                             @Param("messageId") Long messageId,
+                             Pageable pageable);
+
+    @Query("""
+        select m
+          from Message m
+         where m.chat.chatId = :chatId
+           and (m.sentAt > :sentAt or (m.sentAt = :sentAt and m.messageId > :messageId))
+         order by m.sentAt asc, m.messageId asc
+    """)
+    List<Message> findAfter(@Param("chatId") Long chatId,
+                            @Param("sentAt") LocalDateTime sentAt,
+                            @Param("messageId") Long messageId,
+                            Pageable pageable);
+
+    // 커서 메시지의 전송 시각 (같은 채팅방 메시지만)
+    @Query("""
+        select m.sentAt
+          from Message m
+         where m.messageId = :messageId
+           and m.chat.chatId = :chatId
+    """)
+    Optional<LocalDateTime> findSentAt(@Param("chatId") Long chatId, @Param("messageId") Long messageId);
+
+    // 상대가 보낸 안 읽은 메시지 수 (전체, upTo 이하) - ix_message_chat_unread 부분 인덱스만 읽음
+    @Query("""
+        select count(m) as total,
+               coalesce(sum(case when m.messageId <= :upTo then 1 else 0 end), 0) as upTo
+          from Message m
+         where m.chat.chatId = :chatId
+           and m.isRead = false
+           and m.sender.id <> :me
+    """)
+    UnreadSplitRow countUnreadSplit(@Param("chatId") Long chatId, @Param("me") Long me, @Param("upTo") Long upTo);
 
     // 채팅방의 '상대가 보낸' & '아직 안 읽은' 메시지를 전부 읽음 처리
     @Modifying(clearAutomatically = true, flushAutomatically = true)
@@ -34,17 +87,4 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
            and m.sender.id <> :me
     """)
     int markAllReadInChat(@Param("chatId") Long chatId, @Param("me") Long me);
-
-    // [ADDED] 특정 chatId들의 미읽음 개수 한 번에 조회 (상대가 보낸 & isRead=false)
-    @Query("""
-        select m.chat.chatId as chatId,
-               sum(case when (m.isRead = false and m.sender.id <> :uid) then 1 else 0 end) as unreadCount
-          from Message m
-         where m.chat.chatId in :chatIds
-         group by m.chat.chatId
-    """)
-    List<Object[]> findUnreadCountsByChatIds(
-            @Param("uid") Long uid,
-            @Param("chatIds") List<Long> chatIds
-    );
 }
@@ -0,0 +1,120 @@
+package com.salemale.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽음 처리 일괄 반영 (ReadReceiptAggregator가 모은 "messageId X까지 읽음" 요청)
+ * - (채팅방, 읽은 사용자, X) 묶음을 한 문장으로 처리한다: 상대가 보낸 X 이하의 안 읽은 메시지를 읽음으로 바꾸고,
+ *   바뀐 개수만큼 chat_inbox.unread_count를 차감한 뒤 채팅방별 결과를 돌려준다.
+ * - 참여자가 아닌 사용자의 요청은 chat 조인에서 걸러진다.
+ * - 이미 모두 읽은 방은 결과에 없다. (읽음 알림을 다시 보내지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReadReceiptRepository {
+
+    private static final int CHUNK_SIZE = 1000; // 행당 파라미터 3개
+
+    private static final String READ_PREFIX = """
+            WITH req (chat_id, user_id, up_to) AS (VALUES """;
+    private static final String READ_ROW = "(?::bigint, ?::bigint, ?::bigint)";
+    private static final String READ_SUFFIX = """
+                 ),
+                 target AS (
+                     SELECT r.chat_id, r.user_id, r.up_to,
+                            CASE WHEN c.seller_id = r.user_id THEN c.buyer_id ELSE c.seller_id END AS partner_id
+                       FROM req r
+                       JOIN chat c ON c.chat_id = r.chat_id
+                      WHERE r.user_id IN (c.seller_id, c.buyer_id)
+                 ),
+                 updated AS (
+                     UPDATE message m
+                        SET is_read = TRUE
+                       FROM target t
+                      WHERE m.chat_id = t.chat_id
+                        AND m.sender_id <> t.user_id
+                        AND m.is_read = FALSE
+                        AND m.message_id <= t.up_to
+                     RETURNING t.chat_id, t.user_id, t.partner_id, m.message_id
+                 ),
+                 counted AS (
+                     SELECT chat_id, user_id, partner_id, COUNT(*) AS cnt, MAX(message_id) AS last_id
+                       FROM updated
+                      GROUP BY chat_id, user_id, partner_id
+                 ),
+                 inbox AS (
+                     UPDATE chat_inbox ci
+                        SET unread_count = GREATEST(ci.unread_count - c.cnt, 0)
+                       FROM counted c
+                      WHERE ci.user_id = c.user_id
+                        AND ci.chat_id = c.chat_id
+                     RETURNING ci.user_id, ci.chat_id, ci.unread_count
+                 )
+            SELECT c.chat_id, c.user_id, c.partner_id, c.cnt, c.last_id, COALESCE(i.unread_count, 0) AS unread_after
+              FROM counted c
+              LEFT JOIN inbox i ON i.user_id = c.user_id AND i.chat_id = c.chat_id
+            """;
+
+    private static final RowMapper<ReadResult> ROW_MAPPER = (rs, rowNum) -> new ReadResult(
+            rs.getLong("chat_id"),
+            rs.getLong("user_id"),
+            rs.getLong("partner_id"),
+            rs.getInt("cnt"),
+            rs.getLong("last_id"),
+            rs.getInt("unread_after")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 읽음으로 바뀐 메시지가 있는 (채팅방, 사용자)별 결과
+     */
+    public List<ReadResult> markReadUpTo(List<ReadRequest> requests) {
+        List<ReadResult> results = new ArrayList<>();
+        for (int from = 0; from < requests.size(); from += CHUNK_SIZE) {
+            List<ReadRequest> chunk = requests.subList(from, Math.min(from + CHUNK_SIZE, requests.size()));
+            results.addAll(jdbcTemplate.query(sql(chunk.size()), ROW_MAPPER, params(chunk)));
+        }
+        return results;
+    }
+
+    private String sql(int rows) {
+        StringBuilder sql = new StringBuilder(READ_PREFIX.length() + READ_SUFFIX.length() + rows * (READ_ROW.length() + 2));
+        sql.append(READ_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(READ_ROW);
+        }
+        return sql.append(READ_SUFFIX).toString();
+    }
+
+    private Object[] params(List<ReadRequest> chunk) {
+        List<Object> params = new ArrayList<>(chunk.size() * 3);
+        for (ReadRequest request : chunk) {
+            params.add(request.chatId());
+            params.add(request.userId());
+            params.add(request.upToMessageId());
+        }
+        return params.toArray();
+    }
+
+    public record ReadRequest(Long chatId, Long userId, long upToMessageId) {
+    }
+
+    /**
+     * @param readCount         이번에 읽음으로 바뀐 메시지 수
+     * @param lastReadMessageId 이번에 읽음으로 바뀐 메시지 중 가장 큰 ID
+     * @param unreadAfter       처리 후 남은 미읽음 개수
+     */
+    public record ReadResult(Long chatId, Long userId, Long partnerId, int readCount, Long lastReadMessageId,
+                             int unreadAfter) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.salemale.domain.chat.repository.projection;
+
+// 한 채팅방에서 내가 안 읽은 (상대가 보낸) 메시지 수: 전체 / 기준 messageId 이하
+public interface UnreadSplitRow {
+    Long getTotal();
+    Long getUpTo();
+}
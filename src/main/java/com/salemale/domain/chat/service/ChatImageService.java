@@ -0,0 +1,185 @@
+package com.salemale.domain.chat.service;
+
+import com.salemale.common.code.status.ErrorStatus;
+import com.salemale.common.exception.GeneralException;
+import com.salemale.domain.chat.dto.MessageDtos.ImageUploadUrlResponse;
+import com.salemale.domain.chat.entity.Chat;
+import com.salemale.domain.chat.repository.ChatRepository;
+import com.salemale.domain.item.service.ImageService;
+import com.salemale.domain.s3.service.S3Service;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ 채팅 이미지 저장 위치/업로드 관리
+ - 원본과 변형본은 chats/{chatId}/{uuid}/ 아래에 둔다. (original.{ext}, thumb.jpg, medium.jpg)
+ - 클라이언트는 presigned PUT URL로 원본을 직접 올리고, 받은 키로 메시지를 보낸다. (바이트가 앱 서버를 거치지 않음)
+ - presigned PUT은 업로드 크기를 제한하지 못하므로 업로드는 스테이징(uploads/chats/...)에 받는다.
+   확인(크기 검사)을 통과한 것만 chats/ 로 옮기고, 확인되지 않은 스테이징 파일은 주기적으로 지운다.
+ - 변형본은 메시지 저장 후 아웃박스(CHAT_IMAGE_SENT)로 비동기 생성된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChatImageService {
+
+    private static final String PREFIX = "chats/";
+    private static final String STAGING_PREFIX = "uploads/" + PREFIX;
+
+    // 허용 Content-Type → 원본 확장자
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif",
+            "image/webp", "webp"
+    );
+
+    // uploads/chats/{chatId}/{uuid}/original.{ext} (클라이언트가 올린 확인 전 원본)
+    private static final Pattern STAGING_KEY = Pattern.compile(
+            "^uploads/chats/(\\d+)/([0-9a-f\\-]{36})/original\\.(jpg|png|gif|webp)$");
+
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // ImageService와 같은 10MB
+
+    private final ChatRepository chatRepository;
+    private final S3Service s3Service;
+    private final ImageService imageService;
+
+    @Value("${chat.image.upload-url-ttl-seconds:300}")
+    private long uploadUrlTtlSeconds;
+
+    // 이 시간이 지나도 확인되지 않은 스테이징 파일은 삭제 (URL 만료 후 업로드 완료까지 여유를 둔다)
+    @Value("${chat.image.staging-retention-seconds:3600}")
+    private long stagingRetentionSeconds;
+
+    @Value("${chat.image.staging-cleanup-batch:1000}")
+    private int stagingCleanupBatch;
+
+    /**
+     * 원본 업로드용 presigned PUT URL 발급 (참여자만, 스테이징 키)
+     */
+    public ImageUploadUrlResponse issueUploadUrl(Long me, Long chatId, String contentType) {
+        checkParticipant(me, chatId);
+
+        String extension = contentType == null ? null : EXTENSIONS.get(contentType.toLowerCase());
+        if (extension == null) {
+            throw new GeneralException(ErrorStatus.IMAGE_EXTENSION_INVALID);
+        }
+
+        String key = STAGING_PREFIX + chatId + "/" + UUID.randomUUID() + "/original." + extension;
+        Duration ttl = Duration.ofSeconds(uploadUrlTtlSeconds);
+        return ImageUploadUrlResponse.builder()
+                .key(key)
+                .uploadUrl(s3Service.presignPut(key, contentType.toLowerCase(), ttl))
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build();
+    }
+
+    /**
+     * 클라이언트가 올린 원본 확인 (참여자, 키 형식/채팅방 일치, 실제 업로드 여부, 크기) 후 chats/ 로 이동
+     * - 크기를 넘는 파일은 지우고 거절한다. (presigned PUT은 크기를 제한하지 못함)
+     * - 이미 이동된 키로 다시 확인하면(재시도) 이동된 원본을 그대로 쓴다.
+     */
+    public ChatImage confirmUpload(Long me, Long chatId, String key) {
+        checkParticipant(me, chatId);
+
+        Matcher matcher = key == null ? null : STAGING_KEY.matcher(key);
+        if (matcher == null || !matcher.matches() || !matcher.group(1).equals(String.valueOf(chatId))) {
+            throw new GeneralException(ErrorStatus.INVALID_IMAGE_URL);
+        }
+        String originalKey = key.substring("uploads/".length());
+
+        HeadObjectResponse head = s3Service.head(key).orElse(null);
+        if (head == null) {
+            if (s3Service.head(originalKey).isPresent()) {
+                return toChatImage(originalKey);
+            }
+            throw new GeneralException(ErrorStatus.IMAGE_NOT_UPLOADED);
+        }
+        if (head.contentLength() != null && head.contentLength() > MAX_FILE_SIZE) {
+            s3Service.deleteFile(key);
+            throw new GeneralException(ErrorStatus.IMAGE_SIZE_EXCEEDED);
+        }
+
+        s3Service.copy(key, originalKey);
+        s3Service.deleteFile(key);
+        return toChatImage(originalKey);
+    }
+
+    /**
+     * 확인되지 않은(버려진/크기 초과) 스테이징 업로드 정리
+     * - 삭제는 멱등이라 여러 노드가 같이 돌아도 된다.
+     */
+    @Scheduled(fixedDelayString = "${chat.image.staging-cleanup-ms:600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void cleanupStaging() {
+        try {
+            Instant before = Instant.now().minusSeconds(stagingRetentionSeconds);
+            List<String> keys = s3Service.listKeysModifiedBefore(STAGING_PREFIX, before, stagingCleanupBatch);
+            keys.forEach(s3Service::deleteFile);
+            if (!keys.isEmpty()) {
+                log.info("[CHAT] unconfirmed image uploads removed: count={}", keys.size());
+            }
+        } catch (Exception e) {
+            log.warn("[CHAT] image staging cleanup failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * 서버 경유 업로드 (기존 multipart 클라이언트용) - 같은 위치에 올리고 변형본도 같은 방식으로 만든다.
+     */
+    public ChatImage uploadDirect(Long me, Long chatId, MultipartFile file) {
+        checkParticipant(me, chatId);
+        imageService.validateFile(file);
+
+        String extension = EXTENSIONS.get(String.valueOf(file.getContentType()).toLowerCase());
+        if (extension == null) {
+            throw new GeneralException(ErrorStatus.IMAGE_EXTENSION_INVALID);
+        }
+        String key = PREFIX + chatId + "/" + UUID.randomUUID() + "/original." + extension;
+        s3Service.upload(key, file);
+        return toChatImage(key);
+    }
+
+    private ChatImage toChatImage(String originalKey) {
+        String dir = originalKey.substring(0, originalKey.lastIndexOf('/') + 1);
+        String thumbnailKey = dir + "thumb.jpg";
+        String mediumKey = dir + "medium.jpg";
+        return new ChatImage(
+                originalKey, s3Service.publicUrl(originalKey),
+                thumbnailKey, s3Service.publicUrl(thumbnailKey),
+                mediumKey, s3Service.publicUrl(mediumKey)
+        );
+    }
+
+    private void checkParticipant(Long me, Long chatId) {
+        Chat chat = chatRepository.findById(chatId)
+                .orElseThrow(() -> new EntityNotFoundException("채팅방이 존재하지 않습니다."));
+        if (!chat.getSeller().getId().equals(me) && !chat.getBuyer().getId().equals(me)) {
+            throw new IllegalStateException("참여자가 아닙니다.");
+        }
+    }
+
+    // 원본과 변형본의 키/공개 URL (변형본은 아직 없을 수 있음)
+    public record ChatImage(String originalKey, String originalUrl,
+                            String thumbnailKey, String thumbnailUrl,
+                            String mediumKey, String mediumUrl) {
+    }
+}
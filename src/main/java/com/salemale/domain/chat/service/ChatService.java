@@ -1,33 +1,45 @@
 package com.salemale.domain.chat.service; // 채팅 비즈니스 로직 계층
 
+import com.salemale.common.code.status.ErrorStatus;
+import com.salemale.common.exception.GeneralException;
 import com.salemale.domain.chat.dto.BlockResponse;
 import com.salemale.domain.chat.dto.ChatDtos.*; // DTO
 import com.salemale.domain.chat.dto.MessageDtos;
 import com.salemale.domain.chat.dto.BlockStatusResponse; //차단 여부
 import com.salemale.domain.chat.entity.Chat; // 채팅 엔티티
 import com.salemale.domain.chat.entity.Message; //메시지 엔티티
+import com.salemale.domain.chat.repository.ChatInboxRepository; // 채팅 목록 프로젝션
 import com.salemale.domain.chat.repository.ChatRepository; // 채팅 리포지토리
 import com.salemale.domain.chat.repository.MessageRepository; // 메시지 리포지토리
 import com.salemale.domain.chat.repository.projection.ChatSummaryRow; // 요약 프로젝션
+import com.salemale.domain.chat.repository.projection.UnreadSplitRow; // 입장 시 읽음 처리 개수
 import com.salemale.domain.chat.entity.Message.MessageType; // enum 매핑용
+import com.salemale.domain.chat.listener.ChatRecentMessageBuffer; // 재접속 따라잡기 버퍼
 import com.salemale.domain.item.entity.Item; // 아이템 엔티티
 import com.salemale.domain.item.repository.ItemRepository;
 import com.salemale.domain.user.entity.BlockList;
 import com.salemale.domain.user.entity.User; // 유저 엔티티
 // import com.salemale.domain.user.repository.UserRepository; // 유저 리포지토리 -> 아이템 참조로 변경
 import com.salemale.domain.user.repository.BlockListRepository;
+import com.salemale.domain.user.service.BlockListCache;
+import com.salemale.domain.user.service.BlockedIds;
 import com.salemale.domain.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException; // 예외 처리용
 import lombok.RequiredArgsConstructor; // 생성자 주입
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.data.domain.Pageable;
@@ -44,11 +56,18 @@ import com.salemale.domain.alarm.dto.AlarmDtos.CreateAlarmRequest;       // 알
 @Transactional(readOnly = true)
 public class ChatService {
 
+    private static final int MAX_MESSAGE_WINDOW = 100; // 입장 시 한 번에 내려주는 최대 메시지 수
+
     private final ChatRepository chatRepository; // 채팅 DB 접근
     private final MessageRepository messageRepository; // 메시지 조회용
     private final UserRepository userRepository; // 유저 정보 조회
     private final ItemRepository itemRepository; // 상품 정보 조회
     private final BlockListRepository blockListRepository;
+    private final BlockListCache blockListCache;
+    private final ReadReceiptAggregator readReceiptAggregator; // 입장 시 읽음 처리는 모아서 반영
+    private final ChatRecentMessageBuffer recentMessageBuffer; // 재접속 따라잡기 (메모리)
+    private final ChatInboxRepository chatInboxRepository; // 채팅 목록 프로젝션
+    private final PlatformTransactionManager transactionManager; // 따라잡기 DB 대체 조회용
 
     private final AlarmService alarmService;   // 알람용 추가
 
@@ -58,9 +77,8 @@ public class ChatService {
 
         List<ChatSummaryRow> rows = chatRepository.findChatSummaries(me, offset, size);
 
-        // 내가 차단한 사용자 id 목록을 한 번에 조회
-        List<Long> blockedUserIds = blockListRepository.findBlockedUserIds(me);
-        java.util.Set<Long> blockedSet = new java.util.HashSet<>(blockedUserIds);
+        // 내가 차단한 사용자 id 목록 (캐시)
+        BlockedIds blockedSet = blockListCache.blockedIds(me);
 
 
         return rows.stream().map(r -> {
@@ -130,35 +148,27 @@ public class ChatService {
      * 채팅방 목록 조회
      * USER_ID로 내가 속한 채팅방의 chatId들만 반환(soft delete 제외, 최신 메시지 순)
      * */
-    public List<ChatIdUnread> getMyChatIds(Long me, int page, int size) { // [CHANGED] 구현 교체
-        // 1) 내 채팅방 id들만 (soft delete 제외 + 최신순) 페이징 조회
-        var idPage = chatRepository.findChatIdsByUserOrderByLastMessageAtDesc(
-                me, PageRequest.of(page, size)
-        );
-        List<Long> chatIds = idPage.getContent();
-        if (chatIds.isEmpty()) return List.of();
-
-        // 2) 해당 chatId들의 미읽음 개수를 한 번에 집계 (상대가 보낸 & isRead=false)
-        //    List<Object[]> findUnreadCountsByChatIds(Long uid, List<Long> chatIds)
-        var rows = messageRepository.findUnreadCountsByChatIds(me, chatIds);
-
-        // (chatId -> count) 매핑
-        Map<Long, Long> countMap = new HashMap<>();
-        for (Object[] r : rows) {
-            Long chatId = (Long) r[0];
-            Long cnt = (r[1] == null) ? 0L : ((Number) r[1]).longValue();
-            countMap.put(chatId, cnt);
-        }
+    public List<ChatIdUnread> getMyChatIds(Long me, int page, int size) {
+        int offset = Math.max(page, 0) * Math.max(size, 1);
 
-        // 3) 정렬된 chatIds 순서 유지하며 DTO로 변환
-        return chatIds.stream()
-                .map(id -> ChatIdUnread.builder()
-                        .chatId(id)
-                        .unreadCount(countMap.getOrDefault(id, 0L))
+        // chat_inbox의 미읽음 카운터를 그대로 사용 (message 집계 없음)
+        return chatInboxRepository.findUnreadPage(me, offset, size).stream()
+                .map(row -> ChatIdUnread.builder()
+                        .chatId(row.chatId())
+                        .unreadCount(row.unreadCount())
                         .build())
                 .toList();
     }
 
+    // 미읽음 배지 (안 읽은 메시지가 있는 채팅방 수 + 전체 미읽음 메시지 수)
+    public UnreadSummaryResponse getUnreadSummary(Long me) {
+        ChatInboxRepository.UnreadTotals totals = chatInboxRepository.countUnread(me);
+        return UnreadSummaryResponse.builder()
+                .unreadChats(totals.chats())
+                .unreadMessages(totals.messages())
+                .build();
+    }
+
     /**
      채팅방 나가기(삭제)
      - sellerDeletedAt 또는 buyerDeletedAt에 시간 기록
@@ -194,6 +204,7 @@ public class ChatService {
             throw new IllegalStateException("대화 참여자가 아닙니다.");
         }
         chatRepository.save(chat);
+        chatInboxRepository.exit(me, chatId, now);
     }
 
     // 경매 종료 시 chat 자동 생성용
@@ -225,13 +236,20 @@ public class ChatService {
                 .item(item)
                 .lastMessageAt(LocalDateTime.now())
                 .build());
+        chatInboxRepository.create(saved.getChatId());
 
 
         return new ChatResponse(saved.getChatId());
     }
 
-    @Transactional
-    public ChatEnterResponse enter(Long me, Long chatId, int page, int size) {
+    /**
+     * 채팅방 입장 (읽음 처리 + 메시지 창 조회)
+     * - 커서 없음: 가장 최근 size개
+     * - beforeMessageId: 그 메시지보다 이전 size개 (위로 스크롤)
+     * - afterMessageId: 그 메시지 이후 size개 (재접속 시 마지막으로 본 메시지부터 따라잡기)
+     * - 어느 경우든 messages는 오름차순이며, COUNT 없이 size + 1개를 읽어 hasMore를 판단한다.
+     */
+    public ChatEnterResponse enter(Long me, Long chatId, Long beforeMessageId, Long afterMessageId, int size) {
         Chat chat = chatRepository.findById(chatId)
                 .orElseThrow(() -> new EntityNotFoundException("채팅방이 존재하지 않습니다."));
 
@@ -243,23 +261,56 @@ public class ChatService {
         // 한쪽이라도 나갔으면 입력 비활성
         boolean canSend = (chat.getSellerDeletedAt() == null && chat.getBuyerDeletedAt() == null);
 
-        // 메시지는 오래된→최신 오름차순으로 아래로 쌓이도록
-        // 1) 읽지 않은 메세지 일괄 읽음 처리
-        int updated = messageRepository.markAllReadInChat(chatId, me);
-        int unreadAfter = (int) messageRepository.countByChat_ChatIdAndSender_IdNotAndIsReadFalse(chatId, me);
+        // 메시지 조회 (키셋)
+        if (beforeMessageId != null && afterMessageId != null) {
+            throw new GeneralException(ErrorStatus.CHAT_CURSOR_CONFLICT);
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_MESSAGE_WINDOW);
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<Message> rows;
+        if (afterMessageId != null) {
+            LocalDateTime sentAt = messageRepository.findSentAt(chatId, afterMessageId)
+                    .orElseThrow(() -> new GeneralException(ErrorStatus.CHAT_CURSOR_NOT_FOUND));
+            rows = messageRepository.findAfter(chatId, sentAt, afterMessageId, pageable);
+        } else if (beforeMessageId != null) {
+            LocalDateTime sentAt = messageRepository.findSentAt(chatId, beforeMessageId)
+                    .orElseThrow(() -> new GeneralException(ErrorStatus.CHAT_CURSOR_NOT_FOUND));
+            rows = messageRepository.findBefore(chatId, sentAt, beforeMessageId, pageable);
+        } else {
+            rows = messageRepository.findLatest(chatId, pageable);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<Message> window = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+        if (afterMessageId == null) {
+            Collections.reverse(window); // 최신순으로 읽은 창을 오름차순으로
+        }
 
-        // 메시지 조회 (페이징)
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Message> pageResult = messageRepository.findByChat_ChatIdOrderBySentAtAsc(chatId, pageable);
+        // 읽음 처리: 보여 줄 창의 마지막 메시지까지 기록 (ReadReceiptAggregator가 모아서 반영)
+        // - 이전 창(beforeMessageId)은 이미 지나간 구간이므로 기록하지 않는다.
+        long readUpTo = (beforeMessageId == null && !window.isEmpty())
+                ? window.get(window.size() - 1).getMessageId()
+                : 0L;
+        if (readUpTo > 0) {
+            readReceiptAggregator.record(me, chatId, readUpTo);
+        }
+        // 응답 개수는 실제로 읽음 처리될 범위(상대가 보낸 안 읽은 메시지 중 readUpTo 이하) 기준
+        // - 창보다 오래된 안 읽은 메시지도 함께 읽음 처리되고, 창 이후 메시지는 안 읽은 채로 남는다.
+        UnreadSplitRow unread = messageRepository.countUnreadSplit(chatId, me, readUpTo);
+        int updated = unread.getUpTo().intValue();
+        int unreadAfter = (int) (unread.getTotal() - unread.getUpTo());
 
-        List<MessageBrief> messages = pageResult.getContent().stream()
+        List<MessageBrief> messages = window.stream()
                 .map(m -> MessageBrief.builder()
                         .messageId(m.getMessageId())
                         .senderId(m.getSender().getId())
                         .content(m.getContent())
                         .type(m.getType())
-                        .read(m.isRead())
+                        .read(m.isRead() || isReadNow(m, me, readUpTo))
                         .sentAt(m.getSentAt())
+                        .thumbnailUrl(m.getThumbnailUrl())
+                        .mediumUrl(m.getMediumUrl())
                         .build())
                 .toList();
 
@@ -268,15 +319,106 @@ public class ChatService {
                 .readerId(me)
                 .updatedCount(updated)
                 .unreadCountAfter(unreadAfter)
-                .page(pageResult.getNumber())
-                .size(pageResult.getSize())
-                .totalElements(pageResult.getTotalElements())
-                .totalPages(pageResult.getTotalPages())
+                .size(limit)
+                .hasMore(hasMore)
                 .messages(messages)
                 .canSend(canSend)
                 .build();
     }
 
+    /**
+     * 재접속 따라잡기: afterMessageId 이후 메시지 (오름차순, 최대 size개)
+     * - 최근 메시지 링 버퍼가 그 구간을 갖고 있으면 DB 조회 없이 내려준다. (참여자 정보도 채팅방마다 한 번만 조회)
+     *   읽음 여부는 버퍼가 본 읽음 알림(readUpTo)으로 덧씌운다.
+     * - 끊겨 있던 동안 버퍼 크기보다 많이 쌓였거나, 이 노드에 버퍼가 없거나, 버퍼가 모르는 커서면 DB 키셋 조회로 대신한다.
+     *   (알 수 없는 커서는 어느 경로든 CHAT_CURSOR_NOT_FOUND)
+     * - 메모리 경로에서는 트랜잭션을 열지 않고, DB로 대신할 때만 읽기 전용 트랜잭션을 연다.
+     * - 읽음 처리는 하지 않는다. (구독/읽음 보고로 처리됨)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatCatchUpResponse catchUp(Long me, Long chatId, Long afterMessageId, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_MESSAGE_WINDOW);
+
+        Optional<List<MessageDtos.MessageResponse>> buffered = recentMessageBuffer.since(chatId, afterMessageId, limit);
+        if (buffered.isEmpty()) {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            return readOnly.execute(status -> catchUpFromDb(me, chatId, afterMessageId, limit));
+        }
+
+        long[] participants = recentMessageBuffer.participants(chatId, () -> {
+            Chat chat = chatRepository.findById(chatId)
+                    .orElseThrow(() -> new EntityNotFoundException("채팅방이 존재하지 않습니다."));
+            return new long[]{chat.getSeller().getId(), chat.getBuyer().getId()};
+        });
+        if (participants[0] != me && participants[1] != me) {
+            throw new IllegalStateException("대화 참여자가 아닙니다.");
+        }
+
+        List<MessageDtos.MessageResponse> rows = buffered.get();
+        boolean hasMore = rows.size() > limit;
+        List<MessageBrief> messages = (hasMore ? rows.subList(0, limit) : rows).stream()
+                .map(m -> {
+                    // 받는 사람이 이 메시지 이후까지 읽었다는 읽음 알림을 봤으면 읽음
+                    long recipient = m.getSenderId() == participants[0] ? participants[1] : participants[0];
+                    boolean read = m.isRead() || m.getMessageId() <= recentMessageBuffer.readUpTo(chatId, recipient);
+                    return MessageBrief.builder()
+                            .messageId(m.getMessageId())
+                            .senderId(m.getSenderId())
+                            .content(m.getContent())
+                            .type(m.getType())
+                            .read(read)
+                            .sentAt(m.getSentAt())
+                            .thumbnailUrl(m.getThumbnailUrl())
+                            .mediumUrl(m.getMediumUrl())
+                            .build();
+                })
+                .toList();
+        return ChatCatchUpResponse.builder()
+                .chatId(chatId)
+                .fromMemory(true)
+                .hasMore(hasMore)
+                .messages(messages)
+                .build();
+    }
+
+    // 버퍼에 없는 구간 → DB (읽기 전용 트랜잭션 안에서 호출)
+    private ChatCatchUpResponse catchUpFromDb(Long me, Long chatId, Long afterMessageId, int limit) {
+        Chat chat = chatRepository.findById(chatId)
+                .orElseThrow(() -> new EntityNotFoundException("채팅방이 존재하지 않습니다."));
+        if (!chat.getSeller().getId().equals(me) && !chat.getBuyer().getId().equals(me)) {
+            throw new IllegalStateException("대화 참여자가 아닙니다.");
+        }
+        LocalDateTime sentAt = messageRepository.findSentAt(chatId, afterMessageId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.CHAT_CURSOR_NOT_FOUND));
+        List<Message> rows = messageRepository.findAfter(chatId, sentAt, afterMessageId, PageRequest.of(0, limit + 1));
+
+        boolean hasMore = rows.size() > limit;
+        List<MessageBrief> messages = (hasMore ? rows.subList(0, limit) : rows).stream()
+                .map(m -> MessageBrief.builder()
+                        .messageId(m.getMessageId())
+                        .senderId(m.getSender().getId())
+                        .content(m.getContent())
+                        .type(m.getType())
+                        .read(m.isRead())
+                        .sentAt(m.getSentAt())
+                        .thumbnailUrl(m.getThumbnailUrl())
+                        .mediumUrl(m.getMediumUrl())
+                        .build())
+                .toList();
+        return ChatCatchUpResponse.builder()
+                .chatId(chatId)
+                .fromMemory(false)
+                .hasMore(hasMore)
+                .messages(messages)
+                .build();
+    }
+
+    // 이번 입장으로 읽음 처리되는 메시지 (상대가 보낸 안 읽은 메시지 중 readUpTo 이하)
+    private boolean isReadNow(Message m, Long me, long readUpTo) {
+        return !m.isRead() && !m.getSender().getId().equals(me) && m.getMessageId() <= readUpTo;
+    }
+
     // (변경) 채팅방 단위로 '내가 안 읽은' 메시지 전체 읽음 처리
     @Transactional
     public MessageDtos.ReadAllResponse markAllReadInChat(Long me, Long chatId) {
@@ -288,8 +430,7 @@ public class ChatService {
         }
 
         int updated = messageRepository.markAllReadInChat(chatId, me); // 일괄 업데이트
-        int unreadAfter = (int) messageRepository
-                .countByChat_ChatIdAndSender_IdNotAndIsReadFalse(chatId, me);
+        int unreadAfter = chatInboxRepository.markRead(me, chatId, updated); // 카운터에서 차감
 
         return MessageDtos.ReadAllResponse.builder()
                 .chatId(chatId)
@@ -329,6 +470,7 @@ public class ChatService {
                 .blocker(meUser)
                 .blocked(partner)
                 .build());
+        blockListCache.invalidate(me); // 커밋 후 모든 노드의 차단 목록 캐시 갱신
 
         return BlockResponse.builder()
                 .blockedUserId(partnerId)
@@ -362,6 +504,7 @@ public class ChatService {
         }
 
         blockListRepository.deleteByBlocker_IdAndBlocked_Id(me, partnerId);
+        blockListCache.invalidate(me); // 커밋 후 모든 노드의 차단 목록 캐시 갱신
 
         return BlockResponse.builder()
                 .blockedUserId(partnerId)
@@ -384,10 +527,10 @@ public class ChatService {
                 : chat.getSeller().getId();
 
         boolean iBlockedPartner =
-                blockListRepository.existsByBlocker_IdAndBlocked_Id(me, partnerId);
+                blockListCache.isBlocked(me, partnerId);
 
         boolean partnerBlockedMe =
-                blockListRepository.existsByBlocker_IdAndBlocked_Id(partnerId, me);
+                blockListCache.isBlocked(partnerId, me);
 
         return new BlockStatusResponse(iBlockedPartner, partnerBlockedMe);
     }
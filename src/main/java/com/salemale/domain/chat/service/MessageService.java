@@ -3,22 +3,25 @@ package com.salemale.domain.chat.service; // 메시지 관련 비즈니스 로
 import com.salemale.domain.chat.dto.MessageDtos.*; // 메시지 요청/응답 DTO
 import com.salemale.domain.chat.entity.Chat; // 채팅 엔티티
 import com.salemale.domain.chat.entity.Message; // 메시지 엔티티
+import com.salemale.domain.chat.event.ChatImageSentEvent; // 이미지 변형본 생성 이벤트
+import com.salemale.domain.chat.repository.ChatInboxRepository; // 채팅 목록 프로젝션
 import com.salemale.domain.chat.repository.ChatRepository; // 채팅 리포지토리
 import com.salemale.domain.chat.repository.MessageRepository; // 메시지 리포지토리
+import com.salemale.domain.chat.service.ChatImageService.ChatImage; // 업로드된 채팅 이미지
 import com.salemale.domain.user.entity.User; // 유저 엔티티
 import com.salemale.domain.user.repository.UserRepository; // 유저 리포지토리
-import com.salemale.domain.user.repository.BlockListRepository; // 차단
+import com.salemale.domain.user.service.BlockListCache; // 차단 목록 캐시
+import com.salemale.global.common.outbox.OutboxEventType; // 아웃박스 이벤트 종류
+import com.salemale.global.common.outbox.OutboxWriter; // 브로드캐스트 아웃박스 기록
 import jakarta.persistence.EntityNotFoundException; // 예외처리용
 import lombok.RequiredArgsConstructor; // 생성자 자동 주입
 import org.springframework.stereotype.Service; // 서비스 빈 등록
 import org.springframework.transaction.annotation.Transactional; // 트랜잭션 관리
-import org.springframework.context.ApplicationEventPublisher;
 import java.time.LocalDateTime; // 시간 기록용
 import lombok.extern.slf4j.Slf4j; //로깅용
 import org.springframework.messaging.simp.SimpMessagingTemplate; // WS 브로드캐스트용
 
 import com.salemale.domain.alarm.service.AlarmService;                    // 알람용 추가
-import com.salemale.domain.alarm.dto.AlarmDtos.CreateAlarmRequest;       // 알람용 추가
 
 /*
  MessageService
@@ -32,11 +35,12 @@ public class MessageService {
 
     private final MessageRepository messageRepository;
     private final ChatRepository chatRepository;
+    private final ChatInboxRepository chatInboxRepository; // 채팅 목록 프로젝션
     private final UserRepository userRepository;
-    private final BlockListRepository blockListRepository;
+    private final BlockListCache blockListCache; // 차단 여부는 캐시에서 (전송마다 DB 조회 없음)
 
-    //브로드캐스트는 이벤트로 위임(템플릿 의존 제거)
-    private final ApplicationEventPublisher eventPublisher;
+    //브로드캐스트는 아웃박스로 위임(템플릿 의존 제거, 커밋 이후 디스패처가 전달)
+    private final OutboxWriter outboxWriter;
     private final AlarmService alarmService;   // 알람용 추가
 
     /*
@@ -46,6 +50,25 @@ public class MessageService {
      */
     @Transactional
     public MessageResponse send(Long me, SendMessageRequest req) {
+        return send(me, req, null);
+    }
+
+    /*
+     이미지 메시지 전송
+     - content는 원본 URL, 썸네일/중간 크기 URL은 미리 정해 두고 변형본은 커밋 후 아웃박스로 생성
+     - 클라이언트는 변형본이 준비되기 전까지(404) content 원본으로 표시
+     */
+    @Transactional
+    public MessageResponse sendImage(Long me, Long chatId, ChatImage image) {
+        SendMessageRequest req = SendMessageRequest.builder()
+                .chatId(chatId)
+                .content(image.originalUrl())
+                .type(Message.MessageType.IMAGE)
+                .build();
+        return send(me, req, image);
+    }
+
+    private MessageResponse send(Long me, SendMessageRequest req, ChatImage image) {
         Chat chat = chatRepository.findById(req.getChatId())
                 .orElseThrow(() -> new EntityNotFoundException("채팅방이 존재하지 않습니다."));
 
@@ -71,14 +94,14 @@ public class MessageService {
         Long receiverId = senderId.equals(sellerId) ? buyerId : sellerId;
 
         // 내가 상대를 차단한 경우 → 메시지 저장 X
-        if (blockListRepository.existsByBlocker_IdAndBlocked_Id(me, receiverId)) {
+        if (blockListCache.isBlocked(me, receiverId)) {
             return MessageResponse.builder()
                     .ignored(true)     // 무시하기
                     .build();
         }
 
         // 상대가 나를 차단한 경우 → 메시지 저장 X
-        if (blockListRepository.existsByBlocker_IdAndBlocked_Id(receiverId, me)) {
+        if (blockListCache.isBlocked(receiverId, me)) {
             return MessageResponse.builder()
                     .ignored(true)     // 무시하기
                     .build();
@@ -90,6 +113,8 @@ public class MessageService {
                 .sender(sender)
                 .content(req.getContent())
                 .type(req.getType())
+                .thumbnailUrl(image == null ? null : image.thumbnailUrl())
+                .mediumUrl(image == null ? null : image.mediumUrl())
                 .sentAt(LocalDateTime.now())
                 .isRead(false)
                 .isDeleted(false)
@@ -102,6 +127,10 @@ public class MessageService {
         chat.updateLastMessageAt(saved.getSentAt());
         chatRepository.save(chat);
 
+        // 채팅 목록 행 갱신 (마지막 메시지, 수신자 미읽음 +1)
+        chatInboxRepository.messageSent(chat.getChatId(), receiverId, saved.getContent(), saved.getType().name(),
+                saved.getSentAt(), sender.getNickname(), sender.getProfileImage());
+
 
         // 발신자 = 수신자 케이스는 방어
         if (!receiverId.equals(senderId)) {
@@ -109,7 +138,7 @@ public class MessageService {
             String preview = content.length() > 10 ? content.substring(0, 10) + "..." : content;
 
             String msgForReceiver = "새 메시지가 도착했습니다: " + preview;
-            alarmService.createAlarm(new CreateAlarmRequest(receiverId, msgForReceiver));
+            alarmService.enqueueChatAlarm(receiverId, chat.getChatId(), msgForReceiver); // 커밋 후 채팅방 단위로 합쳐 저장
         }
 
         // 응답 DTO 생성
@@ -121,10 +150,19 @@ public class MessageService {
                 .type(saved.getType())
                 .read(saved.isRead())
                 .sentAt(saved.getSentAt())
+                .thumbnailUrl(saved.getThumbnailUrl())
+                .mediumUrl(saved.getMediumUrl())
                 .build();
 
-        // 저장 완료 이벤트 발행 → Listener에서 WS 브로드캐스트
-        eventPublisher.publishEvent(new MessageSentEvent(dto)); // 새 이벤트 클래스
+        // 같은 트랜잭션에 아웃박스 기록 → 커밋 후 MessageBroadcastListener에서 WS 브로드캐스트
+        outboxWriter.append(OutboxEventType.MESSAGE_SENT, String.valueOf(dto.getMessageId()), dto);
+
+        // 이미지면 변형본 생성도 같은 트랜잭션에 기록 (전송 응답은 생성을 기다리지 않음)
+        if (image != null) {
+            outboxWriter.append(OutboxEventType.CHAT_IMAGE_SENT, String.valueOf(dto.getMessageId()),
+                    new ChatImageSentEvent(chat.getChatId(), saved.getMessageId(),
+                            image.originalKey(), image.thumbnailKey(), image.mediumKey()));
+        }
 
         return dto;
 
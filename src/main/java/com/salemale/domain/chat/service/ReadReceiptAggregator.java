@@ -0,0 +1,105 @@
+package com.salemale.domain.chat.service;
+
+import com.salemale.domain.chat.dto.MessageDtos.ReadReceipt;
+import com.salemale.domain.chat.repository.ReadReceiptRepository;
+import com.salemale.domain.chat.repository.ReadReceiptRepository.ReadRequest;
+import com.salemale.domain.chat.repository.ReadReceiptRepository.ReadResult;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 읽음 처리 모으기 (채팅방 + 읽은 사용자 단위)
+ * - 구독/입장/읽음 보고마다 UPDATE하지 않고 "messageId X까지 읽음"을 메모리에 가장 큰 X만 남겨 두었다가,
+ *   flush-ms마다 ReadReceiptRepository 한 문장으로 message.is_read / chat_inbox.unread_count에 반영한다.
+ * - 실제로 읽음으로 바뀐 메시지가 있을 때만 상대에게 /user/queue/read-receipts 로 읽음 알림을 보낸다.
+ *   (재구독이 반복돼도 이미 읽은 방은 쓰기/알림이 없음)
+ * - 메모리 버퍼이므로 비정상 종료 시 flush-ms 이내의 읽음 처리는 잃을 수 있다. (다음 입장/구독 때 다시 처리됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadReceiptAggregator {
+
+    public static final String DESTINATION = "/queue/read-receipts";
+
+    // 채팅방을 보고 있는 동안 들어온 메시지까지 모두 읽음 (구독 시)
+    public static final long ALL = Long.MAX_VALUE;
+
+    private final ReadReceiptRepository readReceiptRepository;
+
+    // SimpMessagingTemplate 직접 주입 금지 (WS 설정과의 순환 의존 차단)
+    private final ObjectProvider<SimpMessagingTemplate> templateProvider;
+
+    private final Map<Key, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * readerId가 chatId 방에서 upToMessageId까지 읽음 (참여자 검증은 반영 시점에 수행)
+     */
+    public void record(Long readerId, Long chatId, long upToMessageId) {
+        if (readerId == null || chatId == null) {
+            return;
+        }
+        pending.merge(new Key(chatId, readerId), upToMessageId, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<ReadRequest> batch = new ArrayList<>(pending.size());
+        for (Key key : List.copyOf(pending.keySet())) {
+            Long upTo = pending.remove(key);
+            if (upTo != null) {
+                batch.add(new ReadRequest(key.chatId(), key.readerId(), upTo));
+            }
+        }
+
+        List<ReadResult> results;
+        try {
+            results = readReceiptRepository.markReadUpTo(batch);
+        } catch (DataAccessException e) {
+            // 다음 주기에 다시 시도 (그 사이 들어온 요청과는 큰 값으로 합쳐짐)
+            batch.forEach(req -> record(req.userId(), req.chatId(), req.upToMessageId()));
+            log.error("[CHAT] read receipt flush failed: keys={}", batch.size(), e);
+            return;
+        }
+
+        SimpMessagingTemplate template = templateProvider.getIfAvailable();
+        if (template != null) {
+            for (ReadResult result : results) {
+                try {
+                    template.convertAndSendToUser(String.valueOf(result.partnerId()), DESTINATION, ReadReceipt.builder()
+                            .chatId(result.chatId())
+                            .readerId(result.userId())
+                            .lastReadMessageId(result.lastReadMessageId())
+                            .build());
+                } catch (Exception e) {
+                    // 읽음은 이미 반영됨, 상대는 다음 입장 시 read 플래그로 확인
+                    log.warn("[CHAT] read receipt push failed: chatId={}, readerId={}",
+                            result.chatId(), result.userId(), e);
+                }
+            }
+        }
+        log.debug("[CHAT] read receipts flushed: keys={}, changed={}", batch.size(), results.size());
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    private record Key(Long chatId, Long readerId) {
+    }
+}
@@ -13,6 +13,7 @@ import com.salemale.domain.item.dto.response.ItemRegisterResponse;
 import com.salemale.domain.item.entity.Item;
 import com.salemale.domain.item.entity.ItemImage;
 import com.salemale.domain.item.enums.AuctionSortType;
+import com.salemale.domain.item.event.AuctionRegisteredEvent;
 import com.salemale.domain.item.repository.ItemRepository;
 import com.salemale.domain.s3.service.S3Service;
 import com.salemale.domain.user.entity.User;
@@ -23,6 +24,7 @@ import com.salemale.global.common.enums.ItemType;
 import com.salemale.global.common.enums.TradeMethod;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -46,6 +48,7 @@ public class HotdealService {
     private final UserRepository userRepository;
     private final HotdealStoreService hotdealStoreService;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher publisher;
 
     /**
      * 핫딜 상품 등록
@@ -120,6 +123,9 @@ public class HotdealService {
         // 8. 저장
         Item savedItem = itemRepository.save(hotdealItem);
 
+        // 커밋 이후 종료 타이머에 예약
+        publisher.publishEvent(new AuctionRegisteredEvent(savedItem.getItemId(), savedItem.getEndTime()));
+
         log.info("[핫딜 상품 등록 완료] 상품 ID: {}, 가게명: {}", savedItem.getItemId(), store.getStoreName());
 
         // 9. 응답 DTO 반환
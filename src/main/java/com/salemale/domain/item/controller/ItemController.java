@@ -7,11 +7,13 @@ import com.salemale.domain.item.service.PriceSuggestionService;
 import com.salemale.domain.item.dto.request.BidRequest;
 import com.salemale.domain.item.dto.request.ImageAnalysisRequest;
 import com.salemale.domain.item.dto.request.ItemRegisterRequest;
+import com.salemale.domain.item.dto.request.MaxBidRequest;
 import com.salemale.domain.item.dto.request.PriceSuggestionRequest;
 import com.salemale.domain.item.dto.response.*;
 import com.salemale.domain.item.dto.response.PriceSuggestionResponse;
 import com.salemale.domain.item.dto.response.detail.ItemDetailResponse;
 import com.salemale.domain.item.service.ItemService;
+import com.salemale.domain.item.service.ProxyBidService;
 import com.salemale.domain.item.enums.AuctionSortType;
 import com.salemale.domain.item.enums.AuctionStatus;
 import com.salemale.global.common.enums.Category;
@@ -47,6 +49,7 @@ public class ItemController {
     private final CurrentUserProvider currentUserProvider; // JWT에서 UID 추출
     private final ItemImageAiService geminiService;
     private final PriceSuggestionService priceSuggestionService;
+    private final ProxyBidService proxyBidService;
 
     /**
      * 경매 상품 찜하기
@@ -129,6 +132,42 @@ public class ItemController {
         return ResponseEntity.ok(ApiResponse.onSuccess(response));
     }
 
+    /**
+     * 자동(최대가) 입찰 등록/변경
+     * POST /auctions/{itemId}/max-bid
+     * - JWT 인증 필요 (Authorization: Bearer <token>)
+     * - 등록 즉시 다른 자동 입찰과 정산되며, 이후 다른 입찰이 들어오면 최대가까지 입찰 단위만큼 자동 응찰
+     */
+    @Operation(summary = "자동 입찰 등록", description = "최대 입찰가를 등록하면 다른 입찰에 최대가까지 자동으로 응찰합니다.")
+    @PostMapping("/{itemId}/max-bid")
+    public ResponseEntity<ApiResponse<MaxBidResponse>> registerMaxBid(
+            @Parameter(hidden = true) HttpServletRequest httpRequest,
+            @PathVariable Long itemId,
+            @Valid @RequestBody MaxBidRequest request
+    ) {
+        Long userId = currentUserProvider.getCurrentUserId(httpRequest);
+        MaxBidResponse response = proxyBidService.registerMaxBid(userId, itemId, request.getMaxPrice());
+
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
+    }
+
+    /**
+     * 자동 입찰 취소
+     * DELETE /auctions/{itemId}/max-bid
+     * - 이미 생성된 입찰 거래는 유지되고, 이후 자동 응찰만 중지
+     */
+    @Operation(summary = "자동 입찰 취소", description = "등록한 자동 입찰을 중지합니다. 이미 체결된 입찰은 유지됩니다.")
+    @DeleteMapping("/{itemId}/max-bid")
+    public ResponseEntity<ApiResponse<Void>> cancelMaxBid(
+            @Parameter(hidden = true) HttpServletRequest httpRequest,
+            @PathVariable Long itemId
+    ) {
+        Long userId = currentUserProvider.getCurrentUserId(httpRequest);
+        proxyBidService.cancelMaxBid(userId, itemId);
+
+        return ResponseEntity.ok(ApiResponse.onSuccess(null));
+    }
+
     /**
      * 경매 상품 상세 조회
      * GET /auctions/{itemId}
@@ -0,0 +1,17 @@
+package com.salemale.domain.item.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaxBidRequest {
+
+    @NotNull(message = "최대 입찰가는 필수입니다.")
+    @Positive(message = "최대 입찰가는 0보다 커야 합니다.")
+    private Integer maxPrice;
+}
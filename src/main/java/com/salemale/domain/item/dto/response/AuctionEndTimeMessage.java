@@ -0,0 +1,20 @@
+package com.salemale.domain.item.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// /topic/auctions/{itemId} 로 전송되는 종료 시간 변경 알림
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionEndTimeMessage {
+
+    private String type;            // END_TIME_EXTENDED
+    private Long itemId;            // 상품 ID
+    private LocalDateTime endTime;  // 연장된 종료 시간
+}
@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BidResponse {
@@ -18,9 +18,11 @@ public class BidResponse {
     private Long buyerId;                // 입찰자 ID
     private Integer bidPrice;            // 입찰한 가격
     private Integer previousPrice;       // 입찰 전 최고가
-    private Integer currentHighestPrice; // 입찰 후 최고가 (= bidPrice)
+    private Integer currentHighestPrice; // 입찰 후 최고가 (자동 입찰이 응답하면 bidPrice보다 높을 수 있음)
     private Integer bidIncrement;        // 최소 입찰 단위
     private Long bidCount;               // 총 입찰 수
     private LocalDateTime bidTime;       // 입찰 시각
-    private LocalDateTime endTime;       // 경매 종료 시간
+    private LocalDateTime endTime;       // 경매 종료 시간 (연장된 경우 연장 후 시간)
+    private Boolean endTimeExtended;     // 이 입찰로 종료 시간이 연장되었는지
+    private Boolean outbidByProxy;       // 다른 사용자의 자동 입찰에 의해 즉시 추월되었는지
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.salemale.domain.item.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaxBidResponse {
+
+    private Long maxBidId;               // 자동 입찰 ID
+    private Long itemId;                 // 상품 ID
+    private Integer maxPrice;            // 등록한 최대 입찰가
+    private Boolean active;              // 자동 입찰 활성 여부 (최대가 소진 시 false)
+    private Integer currentHighestPrice; // 정산 후 현재 최고가
+    private Long bidCount;               // 정산 후 총 입찰 수
+    private Boolean leading;             // 정산 후 본인이 최고 입찰자인지
+}
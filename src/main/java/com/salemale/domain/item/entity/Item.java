@@ -102,6 +102,12 @@ public class Item extends BaseEntity {
     @Builder.Default
     private Long bidCount = 0L;
 
+    // 낙관적 락 버전 (입찰 조건부 UPDATE에서도 함께 증가)
+    @Version
+    @Column(name = "version", nullable = false)
+    @Builder.Default
+    private Long version = 0L;
+
     // 상품 타입 (일반 경매 vs 핫딜)
     @Enumerated(EnumType.STRING)
     @Column(name = "item_type", nullable = false)
@@ -134,6 +140,19 @@ public class Item extends BaseEntity {
         this.bidCount++;
     }
 
+    // 자동 입찰 정산 결과 반영 (최종 현재가 + 생성된 입찰 거래 수만큼 입찰 수 증가)
+    public void applyProxyBids(Integer newPrice, int bidRows) {
+        this.currentPrice = newPrice;
+        this.bidCount += bidRows;
+    }
+
+    // 마감 직전 입찰로 종료 시간 연장 (더 늦은 경우에만)
+    public void extendEndTime(LocalDateTime newEndTime) {
+        if (newEndTime.isAfter(this.endTime)) {
+            this.endTime = newEndTime;
+        }
+    }
+
     // 경매가 종료되었는지 확인 @return 경매 종료 여부 (true: 종료됨, false: 진행 중)
     public boolean isAuctionEnded() {
         return LocalDateTime.now().isAfter(this.endTime);
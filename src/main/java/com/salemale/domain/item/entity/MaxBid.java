@@ -0,0 +1,51 @@
+package com.salemale.domain.item.entity;
+
+import com.salemale.domain.user.entity.User;
+import com.salemale.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 자동(최대가) 입찰: 다른 입찰이 들어오면 maxPrice까지 입찰 단위만큼 자동 응찰
+@Entity
+@Table(name = "max_bid")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MaxBid extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "max_bid_id")
+    private Long maxBidId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false)
+    private Item item;
+
+    @Column(name = "max_price", nullable = false)
+    private Integer maxPrice;
+
+    @Builder.Default
+    @Column(name = "active", nullable = false)
+    private boolean active = true;
+
+    // 최대 입찰가 변경 (비활성 상태였다면 다시 활성화)
+    public void changeMaxPrice(Integer maxPrice) {
+        this.maxPrice = maxPrice;
+        this.active = true;
+    }
+
+    // 자동 입찰 중지 (취소 또는 최대가 소진)
+    public void deactivate() {
+        this.active = false;
+    }
+}
@@ -0,0 +1,9 @@
+package com.salemale.domain.item.event;
+
+import java.time.LocalDateTime;
+
+/*
+ 마감 직전 입찰로 경매 종료 시간이 연장되었음을 알리는 도메인 이벤트.
+ - 종료 타이머 재예약 + /topic/auctions/{itemId} 구독자에게 새 종료 시간 전송
+ */
+public record AuctionEndTimeExtendedEvent(Long itemId, LocalDateTime endTime) {}
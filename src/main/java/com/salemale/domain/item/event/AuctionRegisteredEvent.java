@@ -0,0 +1,9 @@
+package com.salemale.domain.item.event;
+
+import java.time.LocalDateTime;
+
+/*
+ 경매(일반/핫딜) 상품이 등록되었음을 알리는 도메인 이벤트.
+ - 커밋 이후 종료 타이머에 예약 (horizon 밖이면 다음 적재 때 담김)
+ */
+public record AuctionRegisteredEvent(Long itemId, LocalDateTime endTime) {}
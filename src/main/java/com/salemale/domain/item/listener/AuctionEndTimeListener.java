@@ -0,0 +1,58 @@
+package com.salemale.domain.item.listener;
+
+import com.salemale.domain.item.dto.response.AuctionEndTimeMessage;
+import com.salemale.domain.item.event.AuctionEndTimeExtendedEvent;
+import com.salemale.domain.item.event.AuctionRegisteredEvent;
+import com.salemale.domain.item.service.AuctionEndTimer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionEndTimeListener {
+
+    private final AuctionEndTimer auctionEndTimer;
+
+    // SimpMessagingTemplate은 필요 시점에만 지연 조회 (MessageBroadcastListener와 동일)
+    private final ObjectProvider<SimpMessagingTemplate> templateProvider;
+
+    /**
+     * 새 경매 등록 → 커밋 이후 종료 타이머에 예약
+     */
+    @TransactionalEventListener
+    public void onAuctionRegistered(AuctionRegisteredEvent event) {
+        auctionEndTimer.schedule(event.itemId(), event.endTime());
+    }
+
+    /**
+     * 종료 시간 연장 반영 (트랜잭션 안에서 발행되면 커밋 이후, 밖이면 즉시)
+     * 1. 종료 타이머를 새 종료 시간으로 재예약
+     * 2. /topic/auctions/{itemId} 구독자에게 새 종료 시간 전송
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEndTimeExtended(AuctionEndTimeExtendedEvent event) {
+        auctionEndTimer.schedule(event.itemId(), event.endTime());
+
+        SimpMessagingTemplate template = templateProvider.getIfAvailable();
+        if (template == null) {
+            log.warn("[WS] SimpMessagingTemplate not available yet. skip end time push. itemId={}", event.itemId());
+            return;
+        }
+
+        try {
+            template.convertAndSend("/topic/auctions/" + event.itemId(), AuctionEndTimeMessage.builder()
+                    .type("END_TIME_EXTENDED")
+                    .itemId(event.itemId())
+                    .endTime(event.endTime())
+                    .build());
+            log.debug("[WS] end time extended itemId={} endTime={}", event.itemId(), event.endTime());
+        } catch (Exception e) {
+            log.warn("[WS] end time push failed itemId={} cause={}", event.itemId(), e.getMessage());
+        }
+    }
+}
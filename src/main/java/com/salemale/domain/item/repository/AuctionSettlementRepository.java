@@ -0,0 +1,126 @@
+package com.salemale.domain.item.repository;
+
+import com.salemale.domain.item.repository.projection.SettledAuctionRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경매 일괄 마감용 집합 쿼리 (PostgreSQL 전용)
+ * - 상품 수와 관계없이 청크당 락 1회 + 낙찰 UPDATE 1회 + 유찰 UPDATE 1회로 끝낸다.
+ * - 모든 메서드는 호출 측 트랜잭션 안에서 lockExpired → settleWithWinners → settleWithoutBids 순서로 호출해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuctionSettlementRepository {
+
+    // 입찰 트랜잭션과 같은 순서(item_id)로 락을 잡아 교착을 피한다
+    private static final String LOCK_EXPIRED_SQL = """
+            SELECT item_id
+              FROM item
+             WHERE item_id IN (:itemIds)
+               AND item_status = 'BIDDING'
+               AND end_time <= :now
+             ORDER BY item_id
+               FOR UPDATE
+            """;
+
+    // 상품별 최고 입찰(금액 내림차순, 같은 금액이면 먼저 입찰한 사람)을 낙찰자로 확정
+    private static final String SETTLE_WITH_WINNERS_SQL = """
+            UPDATE item i
+               SET item_status = 'SUCCESS',
+                   winner_id   = w.buyer_id,
+                   version     = i.version + 1,
+                   updated_at  = :now
+              FROM (SELECT DISTINCT ON (t.item_id) t.item_id, t.buyer_id, t.bid_price
+                      FROM item_transaction t
+                     WHERE t.item_id IN (:itemIds)
+                     ORDER BY t.item_id, t.bid_price DESC, t.created_at ASC) w
+             WHERE i.item_id = w.item_id
+               AND i.item_status = 'BIDDING'
+            RETURNING i.item_id, i.seller_id, i.title, w.buyer_id, w.bid_price
+            """;
+
+    // 낙찰 UPDATE 이후에도 입찰중으로 남은 상품 = 입찰이 없는 상품
+    private static final String SETTLE_WITHOUT_BIDS_SQL = """
+            UPDATE item
+               SET item_status = 'FAIL',
+                   version     = version + 1,
+                   updated_at  = :now
+             WHERE item_id IN (:itemIds)
+               AND item_status = 'BIDDING'
+            RETURNING item_id, seller_id, title
+            """;
+
+    private static final String FIND_OPEN_END_TIMES_SQL = """
+            SELECT item_id, end_time
+              FROM item
+             WHERE item_id IN (:itemIds)
+               AND item_status = 'BIDDING'
+               AND end_time > :now
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 종료 시간이 지난 입찰중 상품에 행 락을 건다.
+     * - 락을 기다리는 동안 커밋된 입찰(연장 포함)을 반영해 조건을 다시 평가하므로, 연장된 상품은 결과에서 빠진다.
+     *
+     * @return 락을 잡은(마감 대상) 상품 ID
+     */
+    public List<Long> lockExpired(Collection<Long> itemIds, LocalDateTime now) {
+        return jdbcTemplate.queryForList(LOCK_EXPIRED_SQL, params(itemIds, now), Long.class);
+    }
+
+    /**
+     * 입찰이 있는 상품을 낙찰 처리
+     * - 락 이후의 별도 문장이므로 락 대기 중 커밋된 입찰까지 보고 낙찰자를 고른다.
+     */
+    public List<SettledAuctionRow> settleWithWinners(Collection<Long> lockedIds, LocalDateTime now) {
+        return jdbcTemplate.query(SETTLE_WITH_WINNERS_SQL, params(lockedIds, now), (rs, rowNum) ->
+                new SettledAuctionRow(
+                        rs.getLong("item_id"),
+                        rs.getLong("seller_id"),
+                        rs.getString("title"),
+                        rs.getLong("buyer_id"),
+                        rs.getInt("bid_price")
+                ));
+    }
+
+    // 남은(입찰 없는) 상품을 유찰 처리
+    public List<SettledAuctionRow> settleWithoutBids(Collection<Long> lockedIds, LocalDateTime now) {
+        return jdbcTemplate.query(SETTLE_WITHOUT_BIDS_SQL, params(lockedIds, now), (rs, rowNum) ->
+                new SettledAuctionRow(
+                        rs.getLong("item_id"),
+                        rs.getLong("seller_id"),
+                        rs.getString("title"),
+                        null,
+                        null
+                ));
+    }
+
+    /**
+     * 아직 종료 전인(연장된) 입찰중 상품의 종료 시간
+     */
+    public Map<Long, LocalDateTime> findOpenEndTimes(Collection<Long> itemIds, LocalDateTime now) {
+        Map<Long, LocalDateTime> endTimes = new LinkedHashMap<>();
+        jdbcTemplate.query(FIND_OPEN_END_TIMES_SQL, params(itemIds, now), rs -> {
+            endTimes.put(rs.getLong("item_id"), rs.getTimestamp("end_time").toLocalDateTime());
+        });
+        return endTimes;
+    }
+
+    private MapSqlParameterSource params(Collection<Long> itemIds, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("itemIds", itemIds)
+                .addValue("now", Timestamp.valueOf(now));
+    }
+}
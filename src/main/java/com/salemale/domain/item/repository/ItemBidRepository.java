@@ -0,0 +1,75 @@
+package com.salemale.domain.item.repository;
+
+import com.salemale.domain.item.repository.projection.AppliedBidRow;
+import com.salemale.domain.item.repository.projection.BidSnapshot;
+import com.salemale.global.common.enums.ItemStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 입찰 조건부 반영 (PostgreSQL 전용)
+ * - 조건 확인, 갱신, 갱신 결과 조회를 한 문장으로 처리해 호출 측 캐시가 낡아도 DB 기준 값을 돌려준다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemBidRepository {
+
+    // prev: 같은 행을 먼저 잠그고 읽은 반영 직전 값 (RETURNING은 갱신 후 값만 돌려주므로)
+    private static final String APPLY_BID_SQL = """
+            UPDATE item i
+               SET current_price = :bidPrice,
+                   bid_count     = i.bid_count + 1,
+                   version       = i.version + 1,
+                   end_time      = GREATEST(i.end_time, :extendTo),
+                   updated_at    = :now
+              FROM (SELECT item_id, current_price, end_time
+                      FROM item
+                     WHERE item_id = :itemId
+                       FOR UPDATE) prev
+             WHERE i.item_id = prev.item_id
+               AND i.item_status = 'BIDDING'
+               AND i.end_time > :now
+               AND i.current_price + i.bid_increment <= :bidPrice
+            RETURNING i.item_id, i.seller_id, i.current_price, i.bid_increment, i.end_time, i.item_status,
+                      i.bid_count, i.version,
+                      prev.current_price AS previous_price, prev.end_time AS previous_end_time
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 입찰을 조건부로 반영합니다. (행 락은 호출 측 트랜잭션 끝까지 유지)
+     * - 입찰중 상태, 종료 전, 현재가 + 입찰 단위 이하 조건을 모두 만족할 때만 1행이 갱신됩니다.
+     * - 종료 시간이 extendTo보다 이르면 extendTo로 연장합니다. (마감 직전 입찰 연장, 비활성이면 extendTo = now)
+     *
+     * @return 반영 결과 (조건 불일치면 empty)
+     */
+    public Optional<AppliedBidRow> applyBid(Long itemId, Integer bidPrice, LocalDateTime now, LocalDateTime extendTo) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("itemId", itemId)
+                .addValue("bidPrice", bidPrice)
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("extendTo", Timestamp.valueOf(extendTo));
+        return jdbcTemplate.query(APPLY_BID_SQL, params, (rs, rowNum) ->
+                new AppliedBidRow(
+                        rs.getInt("previous_price"),
+                        rs.getTimestamp("previous_end_time").toLocalDateTime(),
+                        new BidSnapshot(
+                                rs.getLong("item_id"),
+                                rs.getLong("seller_id"),
+                                rs.getInt("current_price"),
+                                rs.getInt("bid_increment"),
+                                rs.getTimestamp("end_time").toLocalDateTime(),
+                                ItemStatus.valueOf(rs.getString("item_status")),
+                                rs.getLong("bid_count"),
+                                rs.getLong("version")
+                        )
+                )).stream().findFirst();
+    }
+}
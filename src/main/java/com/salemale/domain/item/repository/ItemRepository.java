@@ -1,6 +1,9 @@
 package com.salemale.domain.item.repository;
 
 import com.salemale.domain.item.entity.Item;
+import com.salemale.domain.item.repository.projection.AuctionEndRow;
+import com.salemale.domain.item.repository.projection.BidSnapshot;
+import com.salemale.domain.item.repository.projection.PreEndItemRow;
 import com.salemale.domain.user.entity.User;
 import com.salemale.global.common.enums.ItemStatus;
 import jakarta.persistence.LockModeType;
@@ -28,6 +31,49 @@ public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositor
     @Query("SELECT i FROM Item i WHERE i.itemId = :itemId")
     Optional<Item> findByIdWithLock(@Param("itemId") Long itemId);
 
+    /**
+     * 입찰 검증에 필요한 컬럼만 스냅샷으로 조회합니다. (락 없음, 연관 엔티티 로딩 없음)
+     */
+    @Query("SELECT new com.salemale.domain.item.repository.projection.BidSnapshot(" +
+            "i.itemId, i.seller.id, i.currentPrice, i.bidIncrement, i.endTime, i.itemStatus, i.bidCount, i.version) " +
+            "FROM Item i WHERE i.itemId = :itemId")
+    Optional<BidSnapshot> findBidSnapshotById(@Param("itemId") Long itemId);
+
+    /**
+     * 특정 상태의 상품 스냅샷을 itemId 오름차순으로 조회합니다. (키셋 페이징: afterItemId 이후부터)
+     */
+    @Query("SELECT new com.salemale.domain.item.repository.projection.BidSnapshot(" +
+            "i.itemId, i.seller.id, i.currentPrice, i.bidIncrement, i.endTime, i.itemStatus, i.bidCount, i.version) " +
+            "FROM Item i WHERE i.itemStatus = :status AND i.itemId > :afterItemId ORDER BY i.itemId ASC")
+    List<BidSnapshot> findBidSnapshotsByStatus(@Param("status") ItemStatus status,
+                                               @Param("afterItemId") Long afterItemId,
+                                               Pageable pageable);
+
+    /**
+     * 읽은 버전이 그대로일 때만 입찰을 반영합니다. (낙관적 입찰 전략용 compare-and-set)
+     * - ItemBidRepository.applyBid 조건에 version 일치 조건을 더한 것으로, 0이면 다른 입찰이 먼저 반영되었거나 조건 불일치입니다.
+     *
+     * @return 업데이트된 행 수 (0이면 충돌 또는 조건 불일치)
+     */
+    @Modifying
+    @Query("""
+            UPDATE Item i
+               SET i.currentPrice = :bidPrice,
+                   i.bidCount = i.bidCount + 1,
+                   i.version = i.version + 1,
+                   i.endTime = CASE WHEN i.endTime < :extendTo THEN :extendTo ELSE i.endTime END
+             WHERE i.itemId = :itemId
+               AND i.version = :version
+               AND i.itemStatus = com.salemale.global.common.enums.ItemStatus.BIDDING
+               AND i.endTime > :now
+               AND i.currentPrice + i.bidIncrement <= :bidPrice
+            """)
+    int applyBidIfVersion(@Param("itemId") Long itemId,
+                          @Param("bidPrice") Integer bidPrice,
+                          @Param("now") LocalDateTime now,
+                          @Param("extendTo") LocalDateTime extendTo,
+                          @Param("version") Long version);
+
     //상품 상세 조회 시 필요한 연관 엔티티를 한 번에 조회 (N+1 방지)
     @Query("SELECT i FROM Item i " +
             "JOIN FETCH i.seller " +
@@ -257,10 +303,16 @@ public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositor
             "WHERE i.itemId IN :itemIds")
     List<Item> findAllByItemIdInWithImages(@Param("itemIds") List<Long> itemIds);
 
-    // [알람용 추가] 종료 시간이 남은 입찰중인(BIDDING) 경매 조회
-    List<Item> findByEndTimeBetweenAndItemStatus(
-            LocalDateTime start,
-            LocalDateTime end,
-            ItemStatus status
-    );
+    // 종료 타이머 적재용: 주어진 구간에 끝나는 특정 상태 상품의 ID와 종료 시간만 조회
+    @Query("SELECT i.itemId AS itemId, i.endTime AS endTime FROM Item i " +
+            "WHERE i.itemStatus = :status AND i.endTime <= :until")
+    List<AuctionEndRow> findEndTimesByStatusUntil(@Param("status") ItemStatus status,
+                                                  @Param("until") LocalDateTime until);
+
+    // [알람용 추가] 종료 시간이 [start, end) 구간인 특정 상태 경매의 ID/판매자/제목 조회
+    @Query("SELECT i.itemId AS itemId, i.seller.id AS sellerId, i.title AS title FROM Item i " +
+            "WHERE i.itemStatus = :status AND i.endTime >= :start AND i.endTime < :end")
+    List<PreEndItemRow> findPreEndTargets(@Param("start") LocalDateTime start,
+                                          @Param("end") LocalDateTime end,
+                                          @Param("status") ItemStatus status);
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.salemale.domain.item.repository;
 
 import com.salemale.domain.item.entity.Item;
 import com.salemale.domain.item.entity.ItemTransaction;
+import com.salemale.domain.item.repository.projection.BidderRow;
+import com.salemale.domain.item.repository.projection.LeadingBidRow;
 import com.salemale.domain.user.entity.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -19,9 +21,6 @@ public interface ItemTransactionRepository extends JpaRepository<ItemTransaction
     //특정 경매 상품의 최고 입찰 조회 (금액이 가장 높은 입찰)
     Optional<ItemTransaction> findTopByItemOrderByBidPriceDescCreatedAtAsc(Item item);
 
-    // [알람용 추가] 특정 아이템에 대해 모든 입찰 내역 조회
-    List<ItemTransaction> findByItem(Item item);
-
     // 특정 사용자가 특정 상품에 입찰했는지 확인
     boolean existsByBuyerAndItem(User buyer, Item item);
 
@@ -63,4 +62,45 @@ public interface ItemTransactionRepository extends JpaRepository<ItemTransaction
             "    GROUP BY t2.item.itemId" +
             ")")
     List<ItemTransaction> findHighestBidsByItemIds(@Param("itemIds") List<Long> itemIds);
-}
\ No newline at end of file
+
+    /**
+     * 여러 상품의 최고 입찰자를 한 번에 조회 (상품당 정확히 한 행)
+     * - 금액이 같으면 먼저 입찰한 사람이 우선 (findTopByItemOrderByBidPriceDescCreatedAtAsc와 동일한 기준)
+     *
+     * @param itemIds 상품 ID 목록
+     * @return 상품별 최고 입찰자
+     */
+    @Query(value = """
+            SELECT DISTINCT ON (t.item_id)
+                   t.item_id   AS itemId,
+                   t.buyer_id  AS buyerId,
+                   t.bid_price AS bidPrice
+              FROM item_transaction t
+             WHERE t.item_id IN (:itemIds)
+             ORDER BY t.item_id, t.bid_price DESC, t.created_at ASC
+            """, nativeQuery = true)
+    List<LeadingBidRow> findLeadingBids(@Param("itemIds") Collection<Long> itemIds);
+
+    /**
+     * [알람용] 여러 상품의 입찰 참여자를 한 번에 조회 (상품 x 사용자당 한 행)
+     * - 입찰 건수가 아니라 참여자 수만큼만 반환하며, 최고 입찰자 판정 기준은 findLeadingBids와 같다.
+     *
+     * @param itemIds 상품 ID 목록
+     * @return 상품별 참여자 + 최고 입찰자 여부
+     */
+    @Query(value = """
+            SELECT b.item_id                 AS itemId,
+                   b.buyer_id                AS buyerId,
+                   (b.buyer_id = l.buyer_id) AS topBidder
+              FROM (SELECT DISTINCT t.item_id, t.buyer_id
+                      FROM item_transaction t
+                     WHERE t.item_id IN (:itemIds)) b
+              JOIN (SELECT DISTINCT ON (t.item_id) t.item_id, t.buyer_id
+                      FROM item_transaction t
+                     WHERE t.item_id IN (:itemIds)
+                     ORDER BY t.item_id, t.bid_price DESC, t.created_at ASC) l
+                ON l.item_id = b.item_id
+             ORDER BY b.item_id, b.buyer_id
+            """, nativeQuery = true)
+    List<BidderRow> findBidders(@Param("itemIds") Collection<Long> itemIds);
+}
@@ -0,0 +1,30 @@
+package com.salemale.domain.item.repository;
+
+import com.salemale.domain.item.entity.MaxBid;
+import com.salemale.domain.item.service.bid.ProxyEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MaxBidRepository extends JpaRepository<MaxBid, Long> {
+
+    // 사용자의 특정 상품 자동 입찰 조회 (상품별 하나)
+    @Query("SELECT m FROM MaxBid m WHERE m.item.itemId = :itemId AND m.user.id = :userId")
+    Optional<MaxBid> findByItemIdAndUserId(@Param("itemId") Long itemId, @Param("userId") Long userId);
+
+    // 상품의 활성 자동 입찰 (인메모리 자동 입찰 장부 로드용)
+    @Query("SELECT new com.salemale.domain.item.service.bid.ProxyEntry(" +
+            "m.maxBidId, m.user.id, m.maxPrice, m.createdAt) " +
+            "FROM MaxBid m WHERE m.item.itemId = :itemId AND m.active = true")
+    List<ProxyEntry> findActiveEntriesByItemId(@Param("itemId") Long itemId);
+
+    // 최대가가 소진된 자동 입찰 일괄 비활성화
+    @Modifying
+    @Query("UPDATE MaxBid m SET m.active = false WHERE m.maxBidId IN :maxBidIds")
+    int deactivateAll(@Param("maxBidIds") Collection<Long> maxBidIds);
+}
@@ -0,0 +1,14 @@
+package com.salemale.domain.item.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 조건부 입찰 반영 결과 (반영 직전 현재가/종료 시간 + 반영 후 상태)
+public record AppliedBidRow(
+        Integer previousPrice,
+        LocalDateTime previousEndTime,
+        BidSnapshot snapshot
+) {
+    public boolean endTimeExtended() {
+        return snapshot.endTime().isAfter(previousEndTime);
+    }
+}
@@ -0,0 +1,9 @@
+package com.salemale.domain.item.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 종료 타이머 적재용 (상품 ID + 종료 시간)
+public interface AuctionEndRow {
+    Long getItemId();
+    LocalDateTime getEndTime();
+}
@@ -0,0 +1,54 @@
+package com.salemale.domain.item.repository.projection;
+
+import com.salemale.common.code.status.ErrorStatus;
+import com.salemale.common.exception.GeneralException;
+import com.salemale.global.common.enums.ItemStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 검증에 필요한 상품 상태만 담은 불변 스냅샷
+ * - ItemRepository.findBidSnapshotById로 한 번에 조회 (판매자/이미지 등 연관 엔티티 로딩 없음)
+ * - 입찰이 수락되면 ItemBidRepository.applyBid가 돌려준 반영 후 상태로 새 스냅샷을 만든다.
+ */
+public record BidSnapshot(
+        Long itemId,
+        Long sellerId,
+        Integer currentPrice,
+        Integer bidIncrement,
+        LocalDateTime endTime,
+        ItemStatus itemStatus,
+        Long bidCount,
+        Long version
+) {
+
+    //입찰 가능 여부를 검증
+    public void validate(Long buyerId, Integer bidPrice, LocalDateTime now) {
+
+        // 1. 본인 상품 입찰 방지
+        if (sellerId.equals(buyerId)) {
+            throw new GeneralException(ErrorStatus.BID_SELF_AUCTION);
+        }
+
+        // 2. 경매 상태 확인 (BIDDING 상태여야 함)
+        if (itemStatus != ItemStatus.BIDDING) {
+            throw new GeneralException(ErrorStatus.AUCTION_NOT_BIDDING);
+        }
+
+        // 3. 경매 종료 시간 확인
+        if (now.isAfter(endTime)) {
+            throw new GeneralException(ErrorStatus.AUCTION_ALREADY_ENDED);
+        }
+
+        // 4. 최소 입찰 가격 확인 (현재가 + 최소 입찰 단위 이상)
+        long minimumBidPrice = (long) currentPrice + bidIncrement;
+        if (bidPrice < minimumBidPrice) {
+            throw new GeneralException(ErrorStatus.BID_AMOUNT_TOO_LOW);
+        }
+    }
+
+    // 아직 입찰을 받을 수 있는 상태인지 (캐시 유지 여부 판단용)
+    public boolean isOpen(LocalDateTime now) {
+        return itemStatus == ItemStatus.BIDDING && !now.isAfter(endTime);
+    }
+}
@@ -0,0 +1,8 @@
+package com.salemale.domain.item.repository.projection;
+
+// 상품별 입찰 참여자 (사용자당 한 행, topBidder = 현재 최고 입찰자 여부)
+public interface BidderRow {
+    Long getItemId();
+    Long getBuyerId();
+    Boolean getTopBidder();
+}
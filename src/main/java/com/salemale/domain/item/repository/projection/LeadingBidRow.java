@@ -0,0 +1,8 @@
+package com.salemale.domain.item.repository.projection;
+
+// 상품별 최고 입찰자 (금액 내림차순, 같은 금액이면 먼저 입찰한 사람)
+public interface LeadingBidRow {
+    Long getItemId();
+    Long getBuyerId();
+    Integer getBidPrice();
+}
@@ -0,0 +1,8 @@
+package com.salemale.domain.item.repository.projection;
+
+// 종료 전 알림 대상 상품 (엔티티/판매자 프록시 로딩 없이 필요한 컬럼만)
+public interface PreEndItemRow {
+    Long getItemId();
+    Long getSellerId();
+    String getTitle();
+}
@@ -0,0 +1,14 @@
+package com.salemale.domain.item.repository.projection;
+
+// 일괄 마감 결과 (낙찰이면 winnerId/finalPrice 존재, 유찰이면 null)
+public record SettledAuctionRow(
+        Long itemId,
+        Long sellerId,
+        String title,
+        Long winnerId,
+        Integer finalPrice
+) {
+    public boolean isSuccess() {
+        return winnerId != null;
+    }
+}
@@ -0,0 +1,143 @@
+package com.salemale.domain.item.service;
+
+import com.salemale.domain.alarm.dto.AlarmDtos.CreateAlarmRequest;
+import com.salemale.domain.alarm.service.AlarmService;
+import com.salemale.domain.chat.event.ItemAuctionClosedEvent;
+import com.salemale.domain.item.repository.AuctionSettlementRepository;
+import com.salemale.domain.item.repository.projection.SettledAuctionRow;
+import com.salemale.domain.item.service.bid.BidEngine;
+import com.salemale.domain.item.service.bid.ProxyBidBook;
+import com.salemale.global.common.outbox.OutboxEventType;
+import com.salemale.global.common.outbox.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 경매 마감 처리 (낙찰/유찰 + 알림 + 채팅방 생성 이벤트)
+ * - 종료 타이머(AuctionEndTimer)가 종료 시각에 맞춰, 주기 스케줄러(AuctionSchedulerService)가 누락분 안전망으로
+ *   만료 상품을 청크 단위로 closeExpired에 넘긴다.
+ * - 청크 하나를 상품 수와 무관하게 고정된 문장 수로 처리한다.
+ *   (행 락 1회 → DISTINCT ON 낙찰 UPDATE 1회 → 유찰 UPDATE 1회 → 알람 배치 INSERT 1회 → 아웃박스 배치 INSERT 1회)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionCloseService {
+
+    private final AuctionSettlementRepository settlementRepository;
+    private final BidEngine bidEngine;
+    private final ProxyBidBook proxyBidBook;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxWriter outboxWriter; //채팅방 생성을 위해 추가 (아웃박스로 커밋 후 전달)
+    private final AlarmService alarmService; //알람 생성을 위해 추가
+
+    @Value("${auction.close.defer-ms:5000}")
+    private long deferMillis;
+
+    /**
+     * 종료 시간이 지난 상품 일괄 마감
+     * - write-behind 입찰 모드라면 먼저 대기 중인 입찰을 DB에 반영한 뒤 마감한다. (트랜잭션 밖)
+     *   이 노드가 반영하지 못한 입찰(다른/죽은 노드가 들고 있는 것)이 남은 상품은 마감하지 않고 defer-ms 뒤로 미룬다.
+     * - 입찰과 경합하지 않도록 상품 행 락을 잡고 최신 종료 시간으로 다시 확인한다.
+     *
+     * @param itemIds 마감 후보 상품 ID (한 청크)
+     * @return 마감 결과 (연장 등으로 아직 종료 전인 상품의 현재 종료 시간, 보류한 상품의 재시도 시각 포함)
+     */
+    public CloseResult closeExpired(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return new CloseResult(0, 0, Map.of());
+        }
+
+        // 반영에 실패하면 낙찰자를 잘못 고를 수 있으므로 예외를 그대로 올려 다음 시도로 미룬다
+        bidEngine.flushPending();
+
+        Set<Long> unflushed = bidEngine.itemsWithUnflushedBids(itemIds);
+        List<Long> ready = itemIds.stream().filter(id -> !unflushed.contains(id)).toList();
+
+        CloseResult result = ready.isEmpty()
+                ? new CloseResult(0, 0, Map.of())
+                : transactionTemplate.execute(status -> settle(ready, LocalDateTime.now()));
+        if (unflushed.isEmpty()) {
+            return result;
+        }
+
+        log.warn("[AUCTION-CLOSE] deferred, bids not yet persisted: itemIds={}", unflushed);
+        Map<Long, LocalDateTime> pending = new HashMap<>(result.pending());
+        LocalDateTime retryAt = LocalDateTime.now().plus(Duration.ofMillis(deferMillis));
+        unflushed.forEach(itemId -> pending.put(itemId, retryAt));
+        return new CloseResult(result.succeeded(), result.failed(), pending);
+    }
+
+    // 한 청크 마감 (호출 측 트랜잭션에서 실행)
+    private CloseResult settle(Collection<Long> itemIds, LocalDateTime now) {
+        // 1. 마감 대상 행 락 (이미 마감됐거나 연장된 상품은 빠짐)
+        List<Long> lockedIds = settlementRepository.lockExpired(itemIds, now);
+        Map<Long, LocalDateTime> pending = settlementRepository.findOpenEndTimes(itemIds, now);
+        if (lockedIds.isEmpty()) {
+            return new CloseResult(0, 0, pending);
+        }
+
+        // 2. 낙찰 / 유찰 확정
+        List<SettledAuctionRow> succeeded = settlementRepository.settleWithWinners(lockedIds, now);
+        List<SettledAuctionRow> failed = settlementRepository.settleWithoutBids(lockedIds, now);
+
+        // 3. 알람 일괄 생성 (낙찰: 판매자 + 낙찰자, 유찰: 판매자)
+        List<CreateAlarmRequest> alarms = new ArrayList<>(succeeded.size() * 2 + failed.size());
+        for (SettledAuctionRow row : succeeded) {
+            alarms.add(new CreateAlarmRequest(row.sellerId(), "경매가 낙찰되어 채팅방이 생성되었습니다: " + row.title()));
+            alarms.add(new CreateAlarmRequest(row.winnerId(), "축하합니다! 경매에 낙찰되어 채팅방이 생성되었습니다: " + row.title()));
+        }
+        for (SettledAuctionRow row : failed) {
+            alarms.add(new CreateAlarmRequest(row.sellerId(), "경매가 유찰되었습니다: " + row.title()));
+        }
+        alarmService.createAlarms(alarms);
+
+        // 4. 종료된 상품의 자동 입찰 장부 폐기, 커밋 후 입찰 엔진의 상태 캐시도 비움
+        lockedIds.forEach(proxyBidBook::evict);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lockedIds.forEach(bidEngine::invalidate);
+            }
+        });
+
+        // 5. 트랜잭션 커밋 후 채팅 자동 생성, 채팅방 생성을 위해 추가 (낙찰 상품마다 한 건, 배치 기록)
+        outboxWriter.appendAll(OutboxEventType.AUCTION_CLOSED, succeeded.stream()
+                .collect(Collectors.toMap(
+                        row -> String.valueOf(row.itemId()),
+                        row -> new ItemAuctionClosedEvent(row.itemId()))));
+
+        log.info("[AUCTION-CLOSE] settled: candidates={}, success={}, fail={}, extended={}",
+                itemIds.size(), succeeded.size(), failed.size(), pending.size());
+        return new CloseResult(succeeded.size(), failed.size(), pending);
+    }
+
+    /**
+     * 일괄 마감 결과
+     *
+     * @param succeeded 낙찰 처리 수
+     * @param failed    유찰 처리 수
+     * @param pending   아직 종료 전인 상품 → 현재 종료 시간, 마감을 보류한 상품 → 재시도 시각 (다시 예약할 대상)
+     */
+    public record CloseResult(int succeeded, int failed, Map<Long, LocalDateTime> pending) {
+
+        public int closed() {
+            return succeeded + failed;
+        }
+    }
+}
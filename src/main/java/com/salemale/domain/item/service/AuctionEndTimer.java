@@ -0,0 +1,160 @@
+package com.salemale.domain.item.service;
+
+import com.salemale.domain.item.repository.ItemRepository;
+import com.salemale.domain.item.repository.projection.AuctionEndRow;
+import com.salemale.global.common.cluster.ClusterShardCoordinator;
+import com.salemale.global.common.cluster.ShardOwnershipChangedEvent;
+import com.salemale.global.common.enums.ItemStatus;
+import com.salemale.global.common.timer.HierarchicalTimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 종료 타이머 (인메모리 계층형 타이밍 휠)
+ * - 앞으로 horizon(기본 1시간) 안에 끝나는 입찰중 상품만 휠에 담는다.
+ *   기동 완료 시 DB에서 채우고, 이후에는 등록/연장 이벤트로 받으며 주기적으로 DB에서 다시 채운다.
+ * - 1초 tick 휠을 전용 스레드가 돌리므로 실제 종료 시각 약 1초 이내에 마감이 시작되며, item 테이블을 매 tick 스캔하지 않는다.
+ * - 같은 tick에 만료된 상품은 청크(auction.close.batch-size)로 묶어 auctionCloseExecutor에서 일괄 마감하고,
+ *   그 사이 종료 시간이 연장된 상품은 새 종료 시간으로 다시 예약한다.
+ * - DB 적재는 이 노드가 맡은 샤드의 상품만 한다. 등록/연장 이벤트로 받은 상품은 샤드와 무관하게 예약하며,
+ *   마감이 행 락으로 보호되므로 담당 노드와 겹쳐도 한 번만 마감된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionEndTimer {
+
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 60;  // 1초 x 60 → 1분 x 60 → 1시간 x 60
+    private static final int WHEEL_LEVELS = 3;
+
+    private final ItemRepository itemRepository;
+    private final AuctionCloseService auctionCloseService;
+    private final ClusterShardCoordinator shardCoordinator;
+
+    @Autowired
+    @Qualifier("auctionCloseExecutor")
+    private Executor closeExecutor;
+
+    @Value("${auction.end-timer.horizon-minutes:60}")
+    private long horizonMinutes;
+
+    @Value("${auction.end-timer.poll-ms:200}")
+    private long pollMillis;
+
+    @Value("${auction.close.batch-size:200}")
+    private int batchSize;
+
+    private HierarchicalTimingWheel<Long> wheel;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    void start() {
+        wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-end-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 종료 예약 (이미 예약된 상품이면 종료 시간 변경)
+     * - horizon 밖이면 휠에서 빼 두고 다음 적재 때 다시 담는다.
+     * - 이미 지난 종료 시간이면 바로 마감을 시작한다.
+     */
+    public void schedule(Long itemId, LocalDateTime endTime) {
+        long deadline = endTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long now = System.currentTimeMillis();
+
+        if (deadline > now + horizonMinutes * 60_000L) {
+            wheel.cancel(itemId);
+            return;
+        }
+        if (!wheel.schedule(itemId, deadline)) {
+            dispatch(List.of(itemId));
+        }
+    }
+
+    public void cancel(Long itemId) {
+        wheel.cancel(itemId);
+    }
+
+    // 기동 완료 시 최초 적재 (기동 중 지난 경매도 여기서 바로 마감)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        refresh();
+    }
+
+    /**
+     * horizon 안에 끝나는 입찰중 상품을 휠에 적재 (이미 지난 상품은 바로 마감)
+     */
+    @Scheduled(fixedDelayString = "${auction.end-timer.refresh-ms:300000}",
+            initialDelayString = "${auction.end-timer.refresh-ms:300000}")
+    public void refresh() {
+        LocalDateTime until = LocalDateTime.now().plusMinutes(horizonMinutes);
+        List<AuctionEndRow> rows = itemRepository.findEndTimesByStatusUntil(ItemStatus.BIDDING, until);
+        int loaded = 0;
+        for (AuctionEndRow row : rows) {
+            if (shardCoordinator.owns(row.getItemId())) {
+                schedule(row.getItemId(), row.getEndTime());
+                loaded++;
+            }
+        }
+        log.info("[END-TIMER] refreshed: loaded={}, scheduled={}", loaded, wheel.size());
+    }
+
+    // 다른 노드가 맡던 샤드를 넘겨받으면 바로 다시 적재 (다음 주기까지 기다리지 않음)
+    @EventListener
+    public void onShardOwnershipChanged(ShardOwnershipChangedEvent event) {
+        if (!event.acquired().isEmpty()) {
+            refresh();
+        }
+    }
+
+    private void tick() {
+        try {
+            List<Long> expired = wheel.advance(System.currentTimeMillis());
+            for (int from = 0; from < expired.size(); from += batchSize) {
+                dispatch(List.copyOf(expired.subList(from, Math.min(from + batchSize, expired.size()))));
+            }
+        } catch (Exception e) {
+            // 틱 스레드가 죽지 않도록 (누락분은 스케줄러 안전망이 처리)
+            log.error("[END-TIMER] tick failed", e);
+        }
+    }
+
+    private void dispatch(List<Long> itemIds) {
+        closeExecutor.execute(() -> {
+            try {
+                auctionCloseService.closeExpired(itemIds).pending()
+                        .forEach(this::schedule);
+            } catch (Exception e) {
+                log.error("[END-TIMER] close failed: itemIds={}", itemIds, e);
+            }
+        });
+    }
+}
@@ -1,12 +1,17 @@
 package com.salemale.domain.item.service;
 
-import com.salemale.domain.item.entity.Item;
-import com.salemale.domain.item.entity.ItemTransaction;
 import com.salemale.domain.item.repository.ItemRepository;
 import com.salemale.domain.item.repository.ItemTransactionRepository;
+import com.salemale.domain.item.repository.projection.AuctionEndRow;
+import com.salemale.domain.item.repository.projection.BidderRow;
+import com.salemale.domain.item.repository.projection.PreEndItemRow;
+import com.salemale.global.common.cluster.ClusterShardCoordinator;
 import com.salemale.global.common.enums.ItemStatus;
+import com.salemale.global.ws.PresenceService;
+import com.salemale.global.ws.PresenceService.View;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,13 +19,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import com.salemale.domain.chat.event.ItemAuctionClosedEvent; //채팅방 생성을 위해 추가
-import org.springframework.context.ApplicationEventPublisher; // 채팅방 생성을 위해 추가
-
 import com.salemale.domain.alarm.service.AlarmService;       // 알람 생성을 위해 추가
 import com.salemale.domain.alarm.dto.AlarmDtos.CreateAlarmRequest; // 알람 생성을 위해 추가
-import java.util.HashSet; //알람용 추가
-import java.util.Set; // 알람용 추가
+import java.util.ArrayList; //알람용 추가
+import java.util.Map; // 알람용 추가
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,159 +34,125 @@ public class AuctionSchedulerService {
     private final ItemRepository itemRepository;
     private final ItemTransactionRepository itemTransactionRepository;
 
-    private final ApplicationEventPublisher publisher; //채팅방 생성을 위해 추가
+    private final AuctionCloseService auctionCloseService; // 낙찰/유찰 처리
+    private final ClusterShardCoordinator shardCoordinator; // 노드 간 상품 샤드 분배
     private final AlarmService alarmService; //알람 생성을 위해 추가
-
-    // 1분마다 종료된 경매 처리 로직
-    @Scheduled(fixedRate = 60000) // 60000ms = 1분
-    @Transactional
+    private final PresenceService presenceService; // 경매 화면을 보고 있는 사용자는 알림 제외
+
+    @Value("${auction.close.batch-size:200}")
+    private int closeBatchSize;
+
+    /**
+     * 종료 누락분 안전망 (기본 10분 주기)
+     * - 정시 마감은 AuctionEndTimer가 담당하고, 여기서는 타이머가 놓친 상품(노드 재시작 직후, 예외 등)만 처리한다.
+     * - 청크마다 closeExpired의 짧은 트랜잭션으로 처리하므로 한 청크의 실패가 다른 청크 마감을 되돌리지 않는다.
+     * - 여러 노드가 떠 있으면 이 노드가 맡은 샤드의 상품만 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${auction.sweeper.interval-ms:600000}",
+            initialDelayString = "${auction.sweeper.interval-ms:600000}")
     public void processExpiredAuctions() {
-        log.info("경매 종료 처리 시작");
-
-        // 1. 종료 시간이 지난 BIDDING 상태 경매들 조회
-        LocalDateTime now = LocalDateTime.now();
-
-        // [알람용 추가] 종료 30~31분 전 경매에 알림 보내기
-        processSoonToExpireAuctions(now);
-
-        List<Item> expiredItems = itemRepository.findByEndTimeBeforeAndItemStatus(
-                now,
-                ItemStatus.BIDDING
-        );
+        // 1. 종료 시간이 지난 BIDDING 상태 경매 ID 조회 (item_status, end_time 인덱스)
+        List<Long> expiredIds = itemRepository.findEndTimesByStatusUntil(
+                ItemStatus.BIDDING,
+                LocalDateTime.now()
+        ).stream()
+                .map(AuctionEndRow::getItemId)
+                .filter(shardCoordinator::owns)
+                .toList();
+        if (expiredIds.isEmpty()) {
+            return;
+        }
 
-        log.info("종료 대상 경매: {}건", expiredItems.size());
+        log.info("종료 누락 경매: {}건", expiredIds.size());
 
-        // 2. 각 경매별로 처리
-        for (Item item : expiredItems) {
-            processAuction(item);
+        // 2. 청크 단위 일괄 마감
+        int closed = 0;
+        for (int from = 0; from < expiredIds.size(); from += closeBatchSize) {
+            List<Long> chunk = expiredIds.subList(from, Math.min(from + closeBatchSize, expiredIds.size()));
+            try {
+                closed += auctionCloseService.closeExpired(chunk).closed();
+            } catch (Exception e) {
+                log.error("경매 종료 처리 실패: itemIds={}", chunk, e);
+            }
         }
 
-        log.info("경매 종료 처리 완료");
+        log.info("경매 종료 처리 완료: {}/{}건", closed, expiredIds.size());
     }
 
-    private void processAuction(Item item) {
-        // 입찰 여부 확인
-        boolean hasBids = itemTransactionRepository.existsByItem(item);
-
-        if (hasBids) {
-            // 입찰이 있으면 최고 입찰자를 낙찰자로 설정
-            ItemTransaction winningBid = itemTransactionRepository
-                    .findTopByItemOrderByBidPriceDescCreatedAtAsc(item)
-                    .orElseThrow();
-
-            item.completeAuction(winningBid.getBuyer());
-            log.info("경매 낙찰 처리: itemId={}, winnerId={}, finalPrice={}",
-                    item.getItemId(),
-                    winningBid.getBuyer().getId(),
-                    winningBid.getBidPrice());
-
-            // 알림 생성 (판매자 + 낙찰자)
-            Long sellerId = item.getSeller().getId();
-            Long winnerId = winningBid.getBuyer().getId();
-            String title = item.getTitle();
-
-            // 판매자에게
-            String msgForSeller = "경매가 낙찰되어 채팅방이 생성되었습니다: " + title;
-            alarmService.createAlarm(new CreateAlarmRequest(sellerId, msgForSeller));
-
-            // 낙찰자에게
-            String msgForWinner = "축하합니다! 경매에 낙찰되어 채팅방이 생성되었습니다: " + title;
-            alarmService.createAlarm(new CreateAlarmRequest(winnerId, msgForWinner));
-
-
-            // 트랜잭션 커밋 후 채팅 자동 생성, 채팅방 생성을 위해 추가
-            publisher.publishEvent(new ItemAuctionClosedEvent(item.getItemId()));
-
-
-        } else {
-            // 입찰이 없으면 유찰 처리
-            item.failAuction();
-            log.info("경매 유찰 처리: itemId={}", item.getItemId());
-
-            // 알림 생성 (판매자만)
-            Long sellerId = item.getSeller().getId();
-            String title = item.getTitle();
-
-            String msgForSeller = "경매가 유찰되었습니다: " + title;
-            alarmService.createAlarm(new CreateAlarmRequest(sellerId, msgForSeller));
-        }
+    // [알람용 추가] 1분마다 종료 30~31분 전 경매에 알림 보내기
+    @Scheduled(fixedRate = 60000) // 60000ms = 1분
+    @Transactional
+    public void processPreEndAlarms() {
+        processSoonToExpireAuctions(LocalDateTime.now());
     }
 
-    // [알람용 추가] 종료 30분 전 알림
+    /**
+     * [알람용 추가] 종료 30분 전 알림
+     * - 대상 상품 조회 1회 + 참여자(상품 x 사용자, 최고 입찰자 여부 포함) 조회 1회 + 알람 배치 INSERT 1회
+     * - 비용이 입찰 건수가 아니라 참여자 수에 비례한다.
+     * - 지금 그 경매(/topic/auctions/{itemId})를 보고 있는 사용자는 남은 시간을 이미 보고 있으므로 제외한다.
+     */
     private void processSoonToExpireAuctions(LocalDateTime now) {
         LocalDateTime from = now.plusMinutes(30);
         LocalDateTime to = now.plusMinutes(31); // 1분 구간
 
-        List<Item> soonEndingItems = itemRepository.findByEndTimeBetweenAndItemStatus(
+        // 이 노드가 리스를 가진 샤드만 (여러 노드가 같은 알림을 중복 발송하지 않도록, Redis 장애로 전체 샤드를 맡은 동안에도)
+        List<PreEndItemRow> soonEndingItems = itemRepository.findPreEndTargets(
                 from,
                 to,
                 ItemStatus.BIDDING
-        );
+        ).stream().filter(item -> shardCoordinator.ownsExclusively(item.getItemId())).toList();
 
         if (soonEndingItems.isEmpty()) return;
 
         log.info("30분 전 알림 대상 경매: {}건", soonEndingItems.size());
 
-        for (Item item : soonEndingItems) {
-            sendPreEndAlarm(item);
-        }
-    }
-
-    // [알람용 추가] 개별 아이템에 대한 30분 전 알림 생성
-    private void sendPreEndAlarm(Item item) {
-        Long sellerId = item.getSeller().getId();
-        String title  = item.getTitle();
+        Map<Long, PreEndItemRow> itemsById = soonEndingItems.stream()
+                .collect(Collectors.toMap(PreEndItemRow::getItemId, Function.identity()));
+        List<CreateAlarmRequest> alarms = new ArrayList<>();
+        List<View> views = new ArrayList<>(); // alarms와 같은 순서의 (수신자, 경매)
 
         // 1) 판매자에게 알림
-        String msgForSeller = "경매 종료 30분 전입니다: " + title;
-        alarmService.createAlarm(new CreateAlarmRequest(sellerId, msgForSeller));
-
-        // 2) 모든 입찰 내역 조회
-        List<ItemTransaction> bids = itemTransactionRepository.findByItem(item);
-        if (bids.isEmpty()) {
-            log.info("입찰자가 없어 30분 전 입찰자 알림 스킵: itemId={}", item.getItemId());
-            return;
+        for (PreEndItemRow item : soonEndingItems) {
+            alarms.add(new CreateAlarmRequest(item.getSellerId(), "경매 종료 30분 전입니다: " + item.getTitle()));
+            views.add(new View(item.getSellerId(), PresenceService.itemTarget(item.getItemId())));
         }
 
-        // 3) 현재 최고 입찰자 계산
-        ItemTransaction highestBid = bids.stream()
-                .sorted((a, b) -> {
-                    int priceCompare = b.getBidPrice().compareTo(a.getBidPrice()); // 높은 금액 우선
-                    if (priceCompare != 0) return priceCompare;
-                    // 금액 같으면 더 먼저 입찰한 사람 우선
-                    return a.getCreatedAt().compareTo(b.getCreatedAt());
-                })
-                .findFirst()
-                .orElseThrow();
-
-        Long highestBidderId = highestBid.getBuyer().getId();
-
-        // 4) 같은 사람이 여러 번 입찰했을 수 있으니, 유저 기준으로 중복 제거
-        Set<Long> notified = new HashSet<>();
-
-        for (ItemTransaction bid : bids) {
-            Long bidderId = bid.getBuyer().getId();
+        // 2) 입찰 참여자에게 알림 (쿼리에서 이미 사용자 기준으로 중복 제거됨)
+        int bidders = 0;
+        for (BidderRow bidder : itemTransactionRepository.findBidders(itemsById.keySet())) {
+            PreEndItemRow item = itemsById.get(bidder.getItemId());
 
             // 판매자에게는 위에서 이미 보냈으니 제외
-            if (bidderId.equals(sellerId)) continue;
-
-            // 같은 유저가 여러 번 입찰했으면 한 번만 보냄
-            if (!notified.add(bidderId)) continue;
+            if (bidder.getBuyerId().equals(item.getSellerId())) continue;
 
             String msg;
-            if (bidderId.equals(highestBidderId)) {
+            if (Boolean.TRUE.equals(bidder.getTopBidder())) {
                 // 현재 최고 입찰자 전용 메시지
-                msg = "현재 최고 입찰가입니다. 경매 종료 30분 전입니다: " + title;
+                msg = "현재 최고 입찰가입니다. 경매 종료 30분 전입니다: " + item.getTitle();
             } else {
                 // 그냥 입찰에 참여한 사람 메시지
-                msg = "참여 중인 경매 종료 30분 전입니다: " + title;
+                msg = "참여 중인 경매 종료 30분 전입니다: " + item.getTitle();
             }
+            alarms.add(new CreateAlarmRequest(bidder.getBuyerId(), msg));
+            views.add(new View(bidder.getBuyerId(), PresenceService.itemTarget(item.getItemId())));
+            bidders++;
+        }
 
-            alarmService.createAlarm(new CreateAlarmRequest(bidderId, msg));
+        // 3) 경매 화면을 보고 있는 사용자 제외 (Redis 파이프라인 1회)
+        boolean[] viewing = presenceService.areViewing(views);
+        List<CreateAlarmRequest> targets = new ArrayList<>(alarms.size());
+        for (int i = 0; i < alarms.size(); i++) {
+            if (!viewing[i]) {
+                targets.add(alarms.get(i));
+            }
         }
 
-        log.info("30분 전 알림 생성(판매자+입찰자): itemId={}, sellerId={}, bidders={}",
-                item.getItemId(), sellerId, notified.size());
+        // 4) 한 번에 저장
+        alarmService.createAlarms(targets);
+
+        log.info("30분 전 알림 생성(판매자+입찰자): items={}, bidders={}, sent={}, skippedViewing={}",
+                soonEndingItems.size(), bidders, targets.size(), alarms.size() - targets.size());
     }
 
-}
\ No newline at end of file
+}
@@ -12,23 +12,30 @@ import com.salemale.domain.item.dto.response.detail.ItemDetailResponse;
 import com.salemale.domain.item.entity.*;
 import com.salemale.domain.item.enums.AuctionSortType;
 import com.salemale.domain.item.enums.AuctionStatus;
+import com.salemale.domain.item.event.AuctionEndTimeExtendedEvent;
+import com.salemale.domain.item.event.AuctionRegisteredEvent;
 import com.salemale.domain.item.repository.ItemRepository;
 import com.salemale.domain.item.repository.ItemTransactionRepository;
 import com.salemale.domain.item.repository.ReviewRepository;
 import com.salemale.domain.item.repository.UserLikedRepository;
+import com.salemale.domain.item.service.bid.BidEngine;
+import com.salemale.domain.item.service.bid.BidMetrics;
 import com.salemale.domain.region.entity.Region;
 import com.salemale.domain.s3.service.S3Service;
 import com.salemale.domain.user.entity.User;
-import com.salemale.domain.user.repository.BlockListRepository;
+import com.salemale.domain.user.service.BlockListCache;
+import com.salemale.domain.user.service.BlockedIds;
 import com.salemale.domain.user.repository.UserRegionRepository;
 import com.salemale.domain.user.repository.UserRepository;
 import com.salemale.global.common.enums.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -36,8 +43,6 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 @Slf4j
@@ -55,7 +60,11 @@ public class ItemService {
     private final ImageService imageService;
     private final RecommendationService recommendationService;
     private final ReviewRepository reviewRepository;
-    private final BlockListRepository blockListRepository; //차단 조회용
+    private final BlockListCache blockListCache; //차단 조회용 (캐시)
+    private final BidEngine bidEngine; // 입찰 처리 (auction.bid.mode로 전략 선택)
+    private final BidMetrics bidMetrics;
+    private final ProxyBidService proxyBidService; // 자동 입찰 정산
+    private final ApplicationEventPublisher publisher; // 상품 등록 / 종료 시간 연장 이벤트
 
     //찜하기
     @Transactional
@@ -216,6 +225,9 @@ public class ItemService {
         // 6. 저장 및 결과 변수 분리
         Item savedItem = itemRepository.save(newItem); // 재할당되는 변수를 분리
 
+        // 커밋 이후 종료 타이머에 예약
+        publisher.publishEvent(new AuctionRegisteredEvent(savedItem.getItemId(), savedItem.getEndTime()));
+
         // 7. Response DTO 반환
         return ItemRegisterResponse.builder()
                 .sellerId(seller.getId())
@@ -229,80 +241,35 @@ public class ItemService {
 
     /**
      * 경매 상품에 입찰
+     * - 상품별 단일 작성자 레인(BidEngine)에서 검증/저장하므로 요청 스레드는 DB 락이나 커넥션을 잡고 기다리지 않는다.
+     * - 수락된 뒤 다른 사용자의 자동 입찰이 응찰할 수 있으면 바로 정산한다.
+     * - 종료 N분 이내 입찰이면 종료 시간이 연장된다. (auction.soft-close.minutes)
      * 
      * @param userId 입찰자의 사용자 ID (JWT에서 추출)
      * @param itemId 입찰할 상품의 ID
      * @param request 입찰 요청 (입찰 가격)
      * @return 입찰 결과 (거래 ID, 입찰가, 이전가, 입찰 수 등)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션은 입찰 엔진이 직접 짧게 관리
     public BidResponse bidOnItem(Long userId, Long itemId, BidRequest request) {
 
-        // 1. 입찰자 조회 (UID 기반)
-        User buyer = userRepository.findById(userId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-
-        // 2. 상품 조회 (비관적 락 사용 - 동시성 제어)
-        Item item = itemRepository.findByIdWithLock(itemId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.ITEM_NOT_FOUND));
-
-        // 3. 입찰 전 현재가 저장 (previousPrice로 사용)
-        Integer previousPrice = item.getCurrentPrice();
-
-        // 4. 입찰 검증
-        validateBid(buyer, item, request.getBidPrice());
-
-        // 5. 입찰 거래 생성
-        ItemTransaction transaction = ItemTransaction.builder()
-                .buyer(buyer)
-                .item(item)
-                .bidPrice(request.getBidPrice())
-                .build();
-        ItemTransaction savedTransaction = itemTransactionRepository.save(transaction);
-
-        // 6. Item의 현재가 업데이트
-        item.updateCurrentPrice(request.getBidPrice());
-        item.incrementBidCount();
-
-        // 7. 응답 DTO 생성
-        return BidResponse.builder()
-                .transactionId(savedTransaction.getTransactionId())
-                .itemId(item.getItemId())
-                .buyerId(buyer.getId())
-                .bidPrice(request.getBidPrice())
-                .previousPrice(previousPrice)
-                .currentHighestPrice(request.getBidPrice())
-                .bidIncrement(item.getBidIncrement())
-                .bidCount(item.getBidCount())
-                .bidTime(savedTransaction.getCreatedAt())
-                .endTime(item.getEndTime())
-                .build();
-    }
-
-
-    //입찰 가능 여부를 검증
-    private void validateBid(User buyer, Item item, Integer bidPrice) {
-
-        // 1. 본인 상품 입찰 방지
-        if (item.getSeller().getId().equals(buyer.getId())) {
-            throw new GeneralException(ErrorStatus.BID_SELF_AUCTION);
+        // 1. 입찰자 존재 확인 (UID 기반)
+        if (!userRepository.existsById(userId)) {
+            throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
         }
 
-        // 2. 경매 상태 확인 (BIDDING 상태여야 함)
-        if (!item.isBiddingStatus()) {
-            throw new GeneralException(ErrorStatus.AUCTION_NOT_BIDDING);
-        }
+        // 2. 검증 + 입찰 거래 저장 + 현재가 갱신
+        BidResponse response = bidMetrics.measure(bidEngine.mode(),
+                () -> bidEngine.placeBid(userId, itemId, request.getBidPrice()));
 
-        // 3. 경매 종료 시간 확인
-        if (item.isAuctionEnded()) {
-            throw new GeneralException(ErrorStatus.AUCTION_ALREADY_ENDED);
-        }
+        // 3. 자동 입찰 정산
+        response = proxyBidService.settleAfterBid(response);
 
-        // 4. 최소 입찰 가격 확인 (현재가 + 최소 입찰 단위 이상)
-        long minimumBidPrice = (long) item.getCurrentPrice() + item.getBidIncrement();
-        if (bidPrice < minimumBidPrice) {
-            throw new GeneralException(ErrorStatus.BID_AMOUNT_TOO_LOW);
+        // 4. 마감 직전 입찰로 종료 시간이 연장되었으면 타이머 재예약 + 구독자 알림
+        if (Boolean.TRUE.equals(response.getEndTimeExtended())) {
+            publisher.publishEvent(new AuctionEndTimeExtendedEvent(itemId, response.getEndTime()));
         }
+        return response;
     }
 
     /**
@@ -378,14 +345,7 @@ public class ItemService {
         );
 
         // ⭐ 차단한 판매자 ID 목록 조회 (로그인 상태일 때만)
-        Set<Long> tempblockedSellerIds = Collections.emptySet();
-        if (loginUserId != null) {
-            tempblockedSellerIds = blockListRepository.findBlockedUserIds(loginUserId)
-                    .stream()
-                    .collect(Collectors.toSet());
-        }
-
-        final Set<Long> blockedSellerIds = tempblockedSellerIds;
+        final BlockedIds blockedSellerIds = blockListCache.blockedIds(loginUserId); // 비로그인이면 빈 집합
         // ⭐ DTO 변환 + 차단 여부 계산
         List<AuctionListItemDTO> items = itemPage.getContent().stream()
                 .map(item -> {
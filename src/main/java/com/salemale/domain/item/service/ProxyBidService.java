@@ -0,0 +1,363 @@
+package com.salemale.domain.item.service;
+
+import com.salemale.common.code.status.ErrorStatus;
+import com.salemale.common.exception.GeneralException;
+import com.salemale.domain.item.dto.response.BidResponse;
+import com.salemale.domain.item.dto.response.MaxBidResponse;
+import com.salemale.domain.item.entity.Item;
+import com.salemale.domain.item.entity.ItemTransaction;
+import com.salemale.domain.item.entity.MaxBid;
+import com.salemale.domain.item.event.AuctionEndTimeExtendedEvent;
+import com.salemale.domain.item.repository.ItemRepository;
+import com.salemale.domain.item.repository.ItemTransactionRepository;
+import com.salemale.domain.item.repository.MaxBidRepository;
+import com.salemale.domain.item.repository.projection.LeadingBidRow;
+import com.salemale.domain.item.service.bid.BidEngine;
+import com.salemale.domain.item.service.bid.BidMode;
+import com.salemale.domain.item.service.bid.ProxyBidBook;
+import com.salemale.domain.item.service.bid.ProxyEntry;
+import com.salemale.domain.item.service.bid.SoftClosePolicy;
+import com.salemale.domain.user.entity.User;
+import com.salemale.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * 자동(최대가) 입찰 서비스
+ * - 사용자는 상품별로 최대 입찰가를 하나 등록하고, 다른 입찰이 들어오면 시스템이 입찰 단위만큼 대신 응찰한다.
+ * - 정산은 상품 행 락을 잡은 한 트랜잭션에서 max_bid의 활성 자동 입찰을 읽어 한 번에 계산한다.
+ *   (1) 최우선 자동 입찰(승자)과 차순위(경쟁자)를 정하고
+ *   (2) 진 자동 입찰은 각자의 최대가로 한 번씩, 승자는 min(본인 최대가, 차순위 최대가 + 입찰 단위)로 한 번 입찰 거래를 남긴다.
+ * - 클라이언트가 한 단위씩 재입찰하며 주고받던 왕복을 입찰 거래 몇 건으로 대체한다.
+ * - ProxyBidBook(노드 내 캐시)은 수동 입찰 후 정산이 필요한지 판단하는 힌트로만 쓰고,
+ *   등록/취소/소진이 커밋되면 모든 노드의 장부를 비운다.
+ * - 정산은 입찰 엔진을 거치지 않고 상품을 바꾸므로, 커밋 후 bidEngine.invalidate로 엔진의 캐시된 상태를 버린다.
+ * - redis 입찰 모드에서는 현재가의 원본이 Redis이므로 지원하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProxyBidService {
+
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemTransactionRepository itemTransactionRepository;
+    private final MaxBidRepository maxBidRepository;
+    private final ProxyBidBook proxyBidBook;
+    private final BidEngine bidEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final SoftClosePolicy softClosePolicy;
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * 자동 입찰 등록/변경 후 즉시 정산
+     *
+     * @param userId   등록자 ID
+     * @param itemId   상품 ID
+     * @param maxPrice 최대 입찰가
+     */
+    @Transactional
+    public MaxBidResponse registerMaxBid(Long userId, Long itemId, Integer maxPrice) {
+        ensureSupported();
+
+        // 1. 사용자 / 상품 조회 (상품은 정산까지 락 유지)
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+        Item item = itemRepository.findByIdWithLock(itemId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ITEM_NOT_FOUND));
+
+        // 2. 검증 (본인 상품 / 입찰중 / 종료 전, 최대가는 현재 선두면 현재가 초과, 아니면 현재가 + 입찰 단위 이상)
+        validateRegistration(item, userId);
+        Long leaderId = findLeaderId(itemId);
+        int minimumPrice = userId.equals(leaderId)
+                ? item.getCurrentPrice() + 1
+                : item.getCurrentPrice() + item.getBidIncrement();
+        if (maxPrice < minimumPrice) {
+            throw new GeneralException(ErrorStatus.MAX_BID_TOO_LOW);
+        }
+
+        // 3. 자동 입찰 저장 (상품별 하나, 있으면 최대가 변경)
+        MaxBid maxBid = maxBidRepository.findByItemIdAndUserId(itemId, userId)
+                .map(existing -> {
+                    existing.changeMaxPrice(maxPrice);
+                    return existing;
+                })
+                .orElseGet(() -> maxBidRepository.save(MaxBid.builder()
+                        .user(user)
+                        .item(item)
+                        .maxPrice(maxPrice)
+                        .build()));
+        ProxyEntry entry = new ProxyEntry(maxBid.getMaxBidId(), userId, maxPrice, maxBid.getCreatedAt());
+
+        // 4. 락 안에서 읽은 활성 자동 입찰에 반영해 정산 (장부는 커밋 이후 무효화)
+        TreeSet<ProxyEntry> proxies = activeProxies(itemId);
+        proxies.removeIf(existing -> existing.userId().equals(userId));
+        proxies.add(entry);
+
+        Optional<Settlement> settlement = settle(item, leaderId, proxies);
+        List<Long> exhausted = settlement.map(Settlement::exhaustedMaxBidIds).orElse(List.of());
+        boolean active = !exhausted.contains(maxBid.getMaxBidId());
+        if (settlement.filter(Settlement::endTimeExtended).isPresent()) {
+            publisher.publishEvent(new AuctionEndTimeExtendedEvent(itemId, item.getEndTime()));
+        }
+
+        afterCompletion(itemId, () -> {
+            proxyBidBook.invalidate(itemId);
+            if (settlement.isPresent()) {
+                bidEngine.invalidate(itemId); // 현재가/입찰 수/종료 시간이 바뀜
+            }
+        });
+
+        Long finalLeaderId = settlement.map(Settlement::winnerId).orElse(leaderId);
+        return MaxBidResponse.builder()
+                .maxBidId(maxBid.getMaxBidId())
+                .itemId(itemId)
+                .maxPrice(maxPrice)
+                .active(active)
+                .currentHighestPrice(item.getCurrentPrice())
+                .bidCount(item.getBidCount())
+                .leading(userId.equals(finalLeaderId))
+                .build();
+    }
+
+    /**
+     * 자동 입찰 취소
+     */
+    @Transactional
+    public void cancelMaxBid(Long userId, Long itemId) {
+        MaxBid maxBid = maxBidRepository.findByItemIdAndUserId(itemId, userId)
+                .filter(MaxBid::isActive)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MAX_BID_NOT_FOUND));
+
+        maxBid.deactivate();
+        afterCompletion(itemId, () -> proxyBidBook.invalidate(itemId));
+    }
+
+    /**
+     * 수동 입찰이 수락된 뒤 자동 입찰 정산
+     * - 응찰할 자동 입찰이 없으면 (대부분의 경우) 장부만 보고 락 없이 그대로 반환한다.
+     * - 장부는 힌트일 뿐이므로 정산은 락 안에서 max_bid를 다시 읽어 계산한다. (다른 노드의 취소/등록 반영)
+     * - 수동 입찰은 이미 커밋되었으므로 정산 실패가 입찰 자체를 실패시키지 않는다.
+     *
+     * @param response 수락된 수동 입찰 결과
+     * @return 정산 결과가 반영된 입찰 결과
+     */
+    public BidResponse settleAfterBid(BidResponse response) {
+        if (bidEngine.mode() == BidMode.REDIS) {
+            return response;
+        }
+
+        Long itemId = response.getItemId();
+        int minimumPrice = response.getCurrentHighestPrice() + response.getBidIncrement();
+        if (!proxyBidBook.hasChallenger(itemId, response.getBuyerId(), minimumPrice)) {
+            return response.toBuilder().outbidByProxy(false).build();
+        }
+
+        try {
+            Optional<Settlement> settlement = transactionTemplate.execute(status -> {
+                Item item = itemRepository.findByIdWithLock(itemId)
+                        .orElseThrow(() -> new GeneralException(ErrorStatus.ITEM_NOT_FOUND));
+                Optional<Settlement> result = settle(item, findLeaderId(itemId), activeProxies(itemId));
+                List<Long> exhausted = result.map(Settlement::exhaustedMaxBidIds).orElse(List.of());
+                afterCompletion(itemId, () -> {
+                    if (!exhausted.isEmpty()) {
+                        proxyBidBook.invalidate(itemId);
+                    } else if (result.isEmpty()) {
+                        proxyBidBook.evict(itemId); // 장부가 낡아 헛되이 락을 잡음 → 다음 입찰은 다시 로드
+                    }
+                    if (result.isPresent()) {
+                        bidEngine.invalidate(itemId); // 레인 캐시의 현재가/입찰 수/종료 시간이 낡음
+                    }
+                });
+                return result;
+            });
+
+            if (settlement == null || settlement.isEmpty()) {
+                return response.toBuilder().outbidByProxy(false).build();
+            }
+            Settlement settled = settlement.get();
+            return response.toBuilder()
+                    .currentHighestPrice(settled.price())
+                    .bidCount(settled.bidCount())
+                    .endTime(settled.endTime())
+                    .endTimeExtended(Boolean.TRUE.equals(response.getEndTimeExtended()) || settled.endTimeExtended())
+                    .outbidByProxy(!settled.winnerId().equals(response.getBuyerId()))
+                    .build();
+        } catch (RuntimeException e) {
+            log.error("[PROXY] settlement failed after manual bid: itemId={}", itemId, e);
+            return response;
+        }
+    }
+
+    /**
+     * 자동 입찰 정산 (상품 행 락을 잡은 트랜잭션 안에서 호출)
+     *
+     * @param item     락을 잡은 상품
+     * @param leaderId 현재 최고 입찰자 (없으면 null)
+     * @param proxies  활성 자동 입찰 (우선순위 순)
+     * @return 입찰 거래가 생성되었으면 정산 결과
+     */
+    private Optional<Settlement> settle(Item item, Long leaderId, Collection<ProxyEntry> proxies) {
+        if (!item.isBiddingStatus() || item.isAuctionEnded()) {
+            return Optional.empty();
+        }
+
+        int price = item.getCurrentPrice();
+        int increment = item.getBidIncrement();
+        Long sellerId = item.getSeller().getId();
+
+        // 1. 현재 선두의 자동 입찰과, 현재가 + 입찰 단위 이상으로 응찰 가능한 경쟁 자동 입찰 분리
+        ProxyEntry leaderProxy = null;
+        List<ProxyEntry> challengers = new ArrayList<>();
+        for (ProxyEntry proxy : proxies) {
+            if (proxy.userId().equals(leaderId)) {
+                leaderProxy = proxy;
+            } else if (proxy.maxPrice() >= price + increment && !proxy.userId().equals(sellerId)) {
+                challengers.add(proxy);
+            }
+        }
+        if (challengers.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 2. 승자 / 차순위 최대가 결정 (선두는 자동 입찰이 없으면 현재가가 곧 최대가)
+        ProxyEntry top = challengers.get(0);
+        int leaderMax = leaderProxy == null ? price : Math.max(price, leaderProxy.maxPrice());
+        boolean leaderHolds = leaderProxy != null && ProxyEntry.PRIORITY.compare(leaderProxy, top) < 0;
+
+        ProxyEntry winner;
+        int runnerUpMax;
+        if (leaderHolds) {
+            winner = leaderProxy;
+            runnerUpMax = top.maxPrice();
+        } else {
+            winner = top;
+            runnerUpMax = challengers.size() > 1
+                    ? Math.max(challengers.get(1).maxPrice(), leaderMax)
+                    : leaderMax;
+        }
+        int winnerPrice = Math.max(price + increment, Math.min(winner.maxPrice(), runnerUpMax + increment));
+
+        // 3. 진 자동 입찰은 최대가 오름차순으로 한 번씩 (승자가 입찰 단위만큼 넘을 수 있는 경우만)
+        List<ProxyEntry> losers = new ArrayList<>(challengers);
+        if (leaderProxy != null) {
+            losers.add(leaderProxy);
+        }
+        losers.remove(winner);
+        losers.sort(Comparator.comparing(ProxyEntry::maxPrice).thenComparing(ProxyEntry.PRIORITY));
+
+        List<ItemTransaction> rows = new ArrayList<>();
+        int lastPrice = price;
+        for (ProxyEntry loser : losers) {
+            if (loser.maxPrice() >= lastPrice + increment && loser.maxPrice() + increment <= winnerPrice) {
+                rows.add(bidRow(loser.userId(), item, loser.maxPrice()));
+                lastPrice = loser.maxPrice();
+            }
+        }
+
+        // 4. 승자 입찰
+        rows.add(bidRow(winner.userId(), item, winnerPrice));
+        itemTransactionRepository.saveAll(rows);
+        item.applyProxyBids(winnerPrice, rows.size());
+
+        // 자동 응찰도 마감 직전 입찰이면 종료 시간 연장
+        LocalDateTime previousEndTime = item.getEndTime();
+        item.extendEndTime(softClosePolicy.endTimeAfterBid(previousEndTime, LocalDateTime.now()));
+
+        // 5. 더 이상 응찰할 수 없는 자동 입찰 비활성화
+        List<Long> exhausted = proxies.stream()
+                .filter(proxy -> !proxy.equals(winner))
+                .filter(proxy -> proxy.maxPrice() < winnerPrice + increment)
+                .map(ProxyEntry::maxBidId)
+                .toList();
+        if (!exhausted.isEmpty()) {
+            maxBidRepository.deactivateAll(exhausted);
+        }
+
+        log.info("[PROXY] settled: itemId={}, winnerId={}, price={}, rows={}, exhausted={}",
+                item.getItemId(), winner.userId(), winnerPrice, rows.size(), exhausted.size());
+
+        return Optional.of(new Settlement(winner.userId(), winnerPrice, rows.size(), item.getBidCount(),
+                item.getEndTime(), item.getEndTime().isAfter(previousEndTime), exhausted));
+    }
+
+    // 상품 락을 잡은 트랜잭션 안에서 읽은 활성 자동 입찰 (우선순위 순)
+    private TreeSet<ProxyEntry> activeProxies(Long itemId) {
+        TreeSet<ProxyEntry> proxies = new TreeSet<>(ProxyEntry.PRIORITY);
+        proxies.addAll(maxBidRepository.findActiveEntriesByItemId(itemId));
+        return proxies;
+    }
+
+    private ItemTransaction bidRow(Long userId, Item item, Integer bidPrice) {
+        return ItemTransaction.builder()
+                .buyer(userRepository.getReferenceById(userId))
+                .item(item)
+                .bidPrice(bidPrice)
+                .build();
+    }
+
+    private void validateRegistration(Item item, Long userId) {
+        if (item.getSeller().getId().equals(userId)) {
+            throw new GeneralException(ErrorStatus.BID_SELF_AUCTION);
+        }
+        if (!item.isBiddingStatus()) {
+            throw new GeneralException(ErrorStatus.AUCTION_NOT_BIDDING);
+        }
+        if (item.isAuctionEnded()) {
+            throw new GeneralException(ErrorStatus.AUCTION_ALREADY_ENDED);
+        }
+    }
+
+    private Long findLeaderId(Long itemId) {
+        return itemTransactionRepository.findLeadingBids(List.of(itemId)).stream()
+                .findFirst()
+                .map(LeadingBidRow::getBuyerId)
+                .orElse(null);
+    }
+
+    private void ensureSupported() {
+        if (bidEngine.mode() == BidMode.REDIS) {
+            throw new GeneralException(ErrorStatus.PROXY_BID_UNAVAILABLE);
+        }
+    }
+
+    // 커밋되면 onCommit 실행, 롤백되면 이 노드의 해당 상품 장부 폐기
+    private void afterCompletion(Long itemId, Runnable onCommit) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    proxyBidBook.evict(itemId);
+                }
+            }
+        });
+    }
+
+    // 정산 결과
+    private record Settlement(
+            Long winnerId,
+            Integer price,
+            int bidRows,
+            Long bidCount,
+            LocalDateTime endTime,
+            boolean endTimeExtended,
+            List<Long> exhaustedMaxBidIds
+    ) {
+    }
+}
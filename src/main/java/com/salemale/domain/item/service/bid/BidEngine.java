@@ -0,0 +1,54 @@
+package com.salemale.domain.item.service.bid;
+
+import com.salemale.domain.item.dto.response.BidResponse;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 입찰 처리 엔진
+ * - 검증 + 입찰 거래 저장 + 상품 현재가 갱신을 하나의 단위로 수행한다.
+ * - 구현체마다 동시성 제어 방식이 다르며, 응답 계약(BidResponse)은 동일하게 유지한다.
+ */
+public interface BidEngine {
+
+    // 동시성 제어 전략 (메트릭 태그)
+    BidMode mode();
+
+    /**
+     * 입찰 처리
+     *
+     * @param buyerId  입찰자 ID (존재 여부는 호출 측에서 확인)
+     * @param itemId   입찰할 상품 ID
+     * @param bidPrice 입찰 가격
+     * @return 입찰 결과
+     */
+    BidResponse placeBid(Long buyerId, Long itemId, Integer bidPrice);
+
+    /**
+     * 아직 DB에 반영되지 않은 수락 입찰을 반영 (마감 직전 호출)
+     * - 입찰을 곧바로 DB에 쓰는 엔진은 할 일이 없고, write-behind 엔진만 재정의한다.
+     * - 트랜잭션 밖에서 호출해야 한다.
+     */
+    default void flushPending() {
+    }
+
+    /**
+     * 엔진이 캐시한 상품 입찰 상태 폐기 (엔진 밖에서 현재가/입찰 수/종료 시간이 바뀐 뒤 커밋 이후 호출)
+     * - 다음 입찰은 DB에서 다시 읽은 상태로 검증한다. 캐시가 없는 엔진은 할 일이 없다.
+     */
+    default void invalidate(Long itemId) {
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 수락 입찰이 남아 있는 상품 (flushPending 이후 마감 직전 확인)
+     * - flushPending은 이 노드 몫만 반영하므로, 다른(또는 죽은) 노드가 들고 있는 입찰은 여기서 드러난다.
+     * - 이 상품들은 낙찰자/낙찰가가 틀릴 수 있으므로 마감을 미뤄야 한다.
+     *
+     * @param itemIds 마감 후보 상품 ID
+     * @return itemIds 중 반영 대기 입찰이 있는 상품
+     */
+    default Set<Long> itemsWithUnflushedBids(Collection<Long> itemIds) {
+        return Set.of();
+    }
+}
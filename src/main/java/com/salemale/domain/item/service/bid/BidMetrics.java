@@ -0,0 +1,48 @@
+package com.salemale.domain.item.service.bid;
+
+import com.salemale.common.exception.GeneralException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 입찰 전략별 메트릭 (Prometheus 노출)
+ * - auction.bid.requests{strategy, outcome}: 입찰 요청 수 (accepted / rejected / error)
+ * - auction.bid.latency{strategy, outcome}: 입찰 처리 시간
+ * - auction.bid.conflicts{strategy}: 조건부 UPDATE가 다른 입찰에 밀린 횟수
+ * - auction.bid.retries{strategy}: 충돌 후 재시도 횟수
+ */
+@Component
+@RequiredArgsConstructor
+public class BidMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    // 입찰 한 건을 측정하며 실행 (결과에 따라 outcome 태그 구분)
+    public <T> T measure(BidMode mode, Supplier<T> bid) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = bid.get();
+            outcome = "accepted";
+            return result;
+        } catch (GeneralException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            meterRegistry.counter("auction.bid.requests", "strategy", mode.getTag(), "outcome", outcome).increment();
+            sample.stop(meterRegistry.timer("auction.bid.latency", "strategy", mode.getTag(), "outcome", outcome));
+        }
+    }
+
+    public void recordConflict(BidMode mode) {
+        meterRegistry.counter("auction.bid.conflicts", "strategy", mode.getTag()).increment();
+    }
+
+    public void recordRetry(BidMode mode) {
+        meterRegistry.counter("auction.bid.retries", "strategy", mode.getTag()).increment();
+    }
+}
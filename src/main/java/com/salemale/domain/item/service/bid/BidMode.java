@@ -0,0 +1,19 @@
+package com.salemale.domain.item.service.bid;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입찰 동시성 제어 전략 (auction.bid.mode)
+ * - 배포 환경별로 경합 정도에 맞춰 선택하며, 메트릭 strategy 태그로도 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BidMode {
+    PESSIMISTIC("pessimistic"), // SELECT ... FOR UPDATE 행 락
+    OPTIMISTIC("optimistic"),   // version 비교 조건부 UPDATE + 제한된 재시도
+    SEQUENCED("sequenced"),     // 상품별 단일 작성자 레인
+    REDIS("redis");             // Redis Lua + write-behind
+
+    private final String tag;
+}
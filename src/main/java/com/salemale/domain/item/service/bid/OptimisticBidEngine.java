@@ -0,0 +1,121 @@
+package com.salemale.domain.item.service.bid;
+
+import com.salemale.common.code.status.ErrorStatus;
+import com.salemale.common.exception.GeneralException;
+import com.salemale.domain.item.dto.response.BidResponse;
+import com.salemale.domain.item.entity.ItemTransaction;
+import com.salemale.domain.item.repository.ItemRepository;
+import com.salemale.domain.item.repository.ItemTransactionRepository;
+import com.salemale.domain.item.repository.projection.BidSnapshot;
+import com.salemale.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 낙관적 동시성 기반 입찰 엔진 (auction.bid.mode=optimistic)
+ * - 락 없이 스냅샷(version 포함)을 읽어 검증하고, version이 그대로일 때만 조건부 UPDATE로 반영한다.
+ * - 다른 입찰이 먼저 반영되어 0행이 갱신되면 지터가 섞인 지수 백오프 후 최신 상태로 다시 시도한다.
+ * - 시도마다 짧은 트랜잭션을 새로 열기 때문에 백오프 동안 커넥션을 붙잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auction.bid", name = "mode", havingValue = "optimistic")
+public class OptimisticBidEngine implements BidEngine {
+
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemTransactionRepository itemTransactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BidMetrics bidMetrics;
+    private final SoftClosePolicy softClosePolicy;
+
+    @Value("${auction.bid.optimistic.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${auction.bid.optimistic.backoff-ms:10}")
+    private long backoffMillis;
+
+    @Override
+    public BidMode mode() {
+        return BidMode.OPTIMISTIC;
+    }
+
+    @Override
+    public BidResponse placeBid(Long buyerId, Long itemId, Integer bidPrice) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            // 검증 실패(GeneralException)는 재시도 없이 그대로 전달
+            BidResponse response = transactionTemplate.execute(status -> tryOnce(buyerId, itemId, bidPrice));
+            if (response != null) {
+                return response;
+            }
+
+            bidMetrics.recordConflict(BidMode.OPTIMISTIC);
+            if (attempt < maxAttempts) {
+                bidMetrics.recordRetry(BidMode.OPTIMISTIC);
+                backoff(attempt);
+            }
+        }
+
+        log.warn("[BID] optimistic retries exhausted: itemId={}, attempts={}", itemId, maxAttempts);
+        throw new GeneralException(ErrorStatus.BID_CONFLICT);
+    }
+
+    // 한 번의 시도 (충돌 시 null, 아무것도 쓰지 않은 상태로 커밋됨)
+    private BidResponse tryOnce(Long buyerId, Long itemId, Integer bidPrice) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 최신 스냅샷 조회 + 검증
+        BidSnapshot snapshot = itemRepository.findBidSnapshotById(itemId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ITEM_NOT_FOUND));
+        snapshot.validate(buyerId, bidPrice, now);
+
+        // 2. 읽은 버전 기준 compare-and-set
+        int updated = itemRepository.applyBidIfVersion(
+                itemId, bidPrice, now, softClosePolicy.extendTo(now), snapshot.version());
+        if (updated == 0) {
+            return null;
+        }
+
+        // 3. 입찰 거래 생성 (연관 엔티티는 프록시 참조만 사용)
+        ItemTransaction savedTransaction = itemTransactionRepository.save(ItemTransaction.builder()
+                .buyer(userRepository.getReferenceById(buyerId))
+                .item(itemRepository.getReferenceById(itemId))
+                .bidPrice(bidPrice)
+                .build());
+
+        // 4. 응답 DTO 생성
+        LocalDateTime endTime = softClosePolicy.endTimeAfterBid(snapshot.endTime(), now);
+        return BidResponse.builder()
+                .transactionId(savedTransaction.getTransactionId())
+                .itemId(itemId)
+                .buyerId(buyerId)
+                .bidPrice(bidPrice)
+                .previousPrice(snapshot.currentPrice())
+                .currentHighestPrice(bidPrice)
+                .bidIncrement(snapshot.bidIncrement())
+                .bidCount(snapshot.bidCount() + 1)
+                .bidTime(savedTransaction.getCreatedAt())
+                .endTime(endTime)
+                .endTimeExtended(endTime.isAfter(snapshot.endTime()))
+                .build();
+    }
+
+    // full jitter 지수 백오프: [1, base * 2^(attempt-1)] ms
+    private void backoff(int attempt) {
+        long ceiling = Math.max(1L, backoffMillis << (attempt - 1));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1L, ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+        }
+    }
+}
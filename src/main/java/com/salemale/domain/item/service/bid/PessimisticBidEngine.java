@@ -0,0 +1,82 @@
+package com.salemale.domain.item.service.bid;
+
+import com.salemale.common.code.status.ErrorStatus;
+import com.salemale.common.exception.GeneralException;
+import com.salemale.domain.item.dto.response.BidResponse;
+import com.salemale.domain.item.entity.Item;
+import com.salemale.domain.item.entity.ItemTransaction;
+import com.salemale.domain.item.repository.ItemRepository;
+import com.salemale.domain.item.repository.ItemTransactionRepository;
+import com.salemale.domain.item.repository.projection.BidSnapshot;
+import com.salemale.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비관적 락 기반 입찰 엔진 (auction.bid.mode=pessimistic)
+ * - 상품 행을 SELECT ... FOR UPDATE로 잠그고 검증 → 거래 저장 → 현재가 갱신을 한 트랜잭션에서 수행한다.
+ * - 가장 단순하지만 인기 상품에서는 입찰이 행 락을 기다리며 커넥션을 붙잡는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auction.bid", name = "mode", havingValue = "pessimistic")
+public class PessimisticBidEngine implements BidEngine {
+
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemTransactionRepository itemTransactionRepository;
+    private final SoftClosePolicy softClosePolicy;
+
+    @Override
+    public BidMode mode() {
+        return BidMode.PESSIMISTIC;
+    }
+
+    @Override
+    @Transactional
+    public BidResponse placeBid(Long buyerId, Long itemId, Integer bidPrice) {
+
+        // 1. 상품 조회 (비관적 락 사용 - 동시성 제어)
+        Item item = itemRepository.findByIdWithLock(itemId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ITEM_NOT_FOUND));
+
+        // 2. 입찰 검증 (락을 잡은 상태의 최신 값 기준)
+        LocalDateTime now = LocalDateTime.now();
+        Integer previousPrice = item.getCurrentPrice();
+        LocalDateTime previousEndTime = item.getEndTime();
+        new BidSnapshot(item.getItemId(), item.getSeller().getId(), previousPrice, item.getBidIncrement(),
+                previousEndTime, item.getItemStatus(), item.getBidCount(), item.getVersion())
+                .validate(buyerId, bidPrice, now);
+
+        // 3. 입찰 거래 생성
+        ItemTransaction savedTransaction = itemTransactionRepository.save(ItemTransaction.builder()
+                .buyer(userRepository.getReferenceById(buyerId))
+                .item(item)
+                .bidPrice(bidPrice)
+                .build());
+
+        // 4. Item의 현재가 업데이트 + 마감 직전이면 종료 시간 연장 (dirty checking, version 자동 증가)
+        item.updateCurrentPrice(bidPrice);
+        item.incrementBidCount();
+        item.extendEndTime(softClosePolicy.endTimeAfterBid(previousEndTime, now));
+
+        // 5. 응답 DTO 생성
+        return BidResponse.builder()
+                .transactionId(savedTransaction.getTransactionId())
+                .itemId(item.getItemId())
+                .buyerId(buyerId)
+                .bidPrice(bidPrice)
+                .previousPrice(previousPrice)
+                .currentHighestPrice(bidPrice)
+                .bidIncrement(item.getBidIncrement())
+                .bidCount(item.getBidCount())
+                .bidTime(savedTransaction.getCreatedAt())
+                .endTime(item.getEndTime())
+                .endTimeExtended(item.getEndTime().isAfter(previousEndTime))
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.salemale.domain.item.service.bid;
+
+import com.salemale.domain.item.repository.MaxBidRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품별 활성 자동 입찰 장부 (노드 내 캐시)
+ * - 상품마다 ProxyEntry.PRIORITY 순으로 정렬된 집합을 max_bid에서 지연 로드한다.
+ * - 수동 입찰 후 정산이 필요한지 락 없이 판단하는 힌트로만 쓴다. 정산 자체는 상품 락 안에서 max_bid를 다시 읽는다.
+ * - 등록/취소/소진이 커밋되면 invalidate로 proxy:invalidate 채널에 알려 모든 노드의 장부를 비운다.
+ * - pub/sub은 전달을 보장하지 않으므로 장부는 local-ttl-ms 후 만료된다. (그동안 놓친 자동 입찰은 응찰이 늦을 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProxyBidBook {
+
+    private static final String CHANNEL = "proxy:invalidate";
+
+    private final MaxBidRepository maxBidRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+
+    @Value("${auction.bid.proxy.local-ttl-ms:5000}")
+    private long localTtlMillis;
+
+    @Value("${auction.bid.proxy.local-max-entries:10000}")
+    private int localMaxEntries;
+
+    private final Map<Long, Book> books = new ConcurrentHashMap<>();
+    // 무효화마다 증가: 로드 도중 무효화가 지나갔으면 읽은 장부를 캐시하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    private RedisMessageListenerContainer container;
+
+    @PostConstruct
+    void start() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> evictLocal(message.getBody()), new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        try {
+            container.start();
+        } catch (RuntimeException e) {
+            // 구독 실패 시에도 기동은 계속 (그동안은 local-ttl-ms 만료로만 갱신)
+            log.error("[PROXY] invalidation subscribe failed", e);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        container.destroy();
+    }
+
+    // 상품의 활성 자동 입찰 (우선순위 순, 읽기 전용)
+    public NavigableSet<ProxyEntry> entries(Long itemId) {
+        long now = System.currentTimeMillis();
+        Book book = books.get(itemId);
+        if (book != null && book.expiresAt() > now) {
+            return book.entries();
+        }
+
+        long gen = generation.get();
+        NavigableSet<ProxyEntry> entries = load(itemId);
+        if (generation.get() == gen) {
+            if (books.size() >= localMaxEntries) {
+                books.clear(); // 상한 초과 시 통째로 비움 (다시 채우는 비용은 상품당 조회 한 번)
+            }
+            books.put(itemId, new Book(entries, now + localTtlMillis));
+        }
+        return entries;
+    }
+
+    /**
+     * 주어진 가격에 응찰할 수 있는 다른 사용자의 자동 입찰이 있는지 (정산 필요 여부 힌트)
+     *
+     * @param itemId        상품 ID
+     * @param leaderId      현재 최고 입찰자 (본인 자동 입찰은 제외)
+     * @param minimumPrice  현재가 + 입찰 단위
+     */
+    public boolean hasChallenger(Long itemId, Long leaderId, int minimumPrice) {
+        for (ProxyEntry entry : entries(itemId)) {
+            if (entry.maxPrice() < minimumPrice) {
+                return false;
+            }
+            if (!entry.userId().equals(leaderId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 자동 입찰 등록/취소/소진 커밋 후 호출: 모든 노드의 장부를 비운다.
+     */
+    public void invalidate(Long itemId) {
+        evict(itemId);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(itemId));
+        } catch (RuntimeException e) {
+            // 다른 노드는 local-ttl-ms 후 반영
+            log.warn("[PROXY] invalidation publish failed: itemId={}", itemId, e);
+        }
+    }
+
+    // 이 노드의 장부만 폐기 (경매 종료 또는 롤백 시)
+    public void evict(Long itemId) {
+        generation.incrementAndGet();
+        books.remove(itemId);
+    }
+
+    private NavigableSet<ProxyEntry> load(Long itemId) {
+        List<ProxyEntry> active = maxBidRepository.findActiveEntriesByItemId(itemId);
+        NavigableSet<ProxyEntry> entries = new TreeSet<>(ProxyEntry.PRIORITY);
+        entries.addAll(active);
+        return Collections.unmodifiableNavigableSet(entries);
+    }
+
+    private void evictLocal(byte[] body) {
+        try {
+            evict(Long.valueOf(new String(body, StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.error("[PROXY] malformed invalidation skipped", e);
+        }
+    }
+
+    private record Book(NavigableSet<ProxyEntry> entries, long expiresAt) {
+    }
+}
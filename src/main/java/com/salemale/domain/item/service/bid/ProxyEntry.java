@@ -0,0 +1,21 @@
+package com.salemale.domain.item.service.bid;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 자동 입찰 장부의 한 항목
+ * - 정렬: 최대가 내림차순 → 먼저 등록한 순 (같은 최대가면 먼저 등록한 사용자가 이김)
+ */
+public record ProxyEntry(
+        Long maxBidId,
+        Long userId,
+        Integer maxPrice,
+        LocalDateTime registeredAt
+) {
+
+    public static final Comparator<ProxyEntry> PRIORITY = Comparator
+            .comparing(ProxyEntry::maxPrice, Comparator.reverseOrder())
+            .thenComparing(ProxyEntry::registeredAt)
+            .thenComparing(ProxyEntry::maxBidId);
+}
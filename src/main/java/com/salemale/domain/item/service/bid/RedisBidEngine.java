@@ -0,0 +1,119 @@
+package com.salemale.domain.item.service.bid;
+
+import com.salemale.common.code.status.ErrorStatus;
+import com.salemale.common.exception.GeneralException;
+import com.salemale.domain.item.dto.response.BidResponse;
+import com.salemale.domain.item.repository.ItemRepository;
+import com.salemale.domain.item.repository.ItemTransactionRepository;
+import com.salemale.domain.item.repository.projection.BidSnapshot;
+import com.salemale.domain.item.repository.projection.LeadingBidRow;
+import com.salemale.domain.item.service.bid.RedisBidStateStore.BidResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis Lua 기반 입찰 엔진 (auction.bid.mode=redis)
+ * - 입찰중 상품의 현재가/입찰 수/선두 입찰자의 원본은 Redis 해시이며, 여러 노드가 같은 상품의 입찰을 Redis 속도로 받는다.
+ * - 수락된 입찰은 스트림에 적재되고 RedisBidWriteBehindWriter가 item_transaction / item으로 일괄 반영한다.
+ * - 거래 ID는 DB 반영 시점에 발급되므로 응답의 transactionId는 null이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auction.bid", name = "mode", havingValue = "redis")
+public class RedisBidEngine implements BidEngine {
+
+    private final RedisBidStateStore stateStore;
+    private final ItemRepository itemRepository;
+    private final ItemTransactionRepository itemTransactionRepository;
+    private final SoftClosePolicy softClosePolicy;
+    private final RedisBidWriteBehindWriter writer;
+
+    @Override
+    public BidMode mode() {
+        return BidMode.REDIS;
+    }
+
+    @Override
+    public BidResponse placeBid(Long buyerId, Long itemId, Integer bidPrice) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. Lua 스크립트로 원자적 검증 + 수락
+        long softCloseMillis = softClosePolicy.windowMillis();
+        BidResult result = stateStore.tryBid(itemId, buyerId, bidPrice, now, softCloseMillis);
+
+        // 2. 아직 Redis에 올라오지 않은 상품이면 DB에서 한 번 로드 후 재시도
+        if (result.code() == RedisBidStateStore.NOT_LOADED) {
+            loadState(itemId);
+            result = stateStore.tryBid(itemId, buyerId, bidPrice, now, softCloseMillis);
+        }
+
+        if (result.code() != RedisBidStateStore.ACCEPTED) {
+            throw new GeneralException(toErrorStatus(result.code()));
+        }
+
+        log.debug("[BID] accepted in redis: itemId={}, buyerId={}, price={}, streamId={}",
+                itemId, buyerId, bidPrice, result.streamId());
+
+        // 3. 응답 DTO 생성 (transactionId는 write-behind 반영 시 발급)
+        return BidResponse.builder()
+                .itemId(itemId)
+                .buyerId(buyerId)
+                .bidPrice(bidPrice)
+                .previousPrice(result.previousPrice())
+                .currentHighestPrice(bidPrice)
+                .bidIncrement(result.bidIncrement())
+                .bidCount(result.bidCount())
+                .bidTime(now)
+                .endTime(result.endTime())
+                .endTimeExtended(result.endTimeExtended())
+                .build();
+    }
+
+    // 마감 전에 스트림에 남은 입찰을 DB로 옮겨 낙찰자/연장된 종료 시간이 DB에 보이게 한다
+    @Override
+    public void flushPending() {
+        writer.drain();
+    }
+
+    // 그룹 전체(다른 노드의 PENDING + 아직 아무도 읽지 않은 항목) 기준
+    @Override
+    public Set<Long> itemsWithUnflushedBids(Collection<Long> itemIds) {
+        return writer.unflushedItems(itemIds);
+    }
+
+    private void loadState(Long itemId) {
+        BidSnapshot snapshot = itemRepository.findBidSnapshotById(itemId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ITEM_NOT_FOUND));
+
+        Long leaderId = itemTransactionRepository.findLeadingBids(List.of(itemId)).stream()
+                .findFirst()
+                .map(LeadingBidRow::getBuyerId)
+                .orElse(null);
+
+        stateStore.sync(snapshot, leaderId);
+    }
+
+    private ErrorStatus toErrorStatus(long code) {
+        if (code == RedisBidStateStore.SELF_BID) {
+            return ErrorStatus.BID_SELF_AUCTION;
+        }
+        if (code == RedisBidStateStore.NOT_BIDDING) {
+            return ErrorStatus.AUCTION_NOT_BIDDING;
+        }
+        if (code == RedisBidStateStore.ENDED) {
+            return ErrorStatus.AUCTION_ALREADY_ENDED;
+        }
+        if (code == RedisBidStateStore.TOO_LOW) {
+            return ErrorStatus.BID_AMOUNT_TOO_LOW;
+        }
+        return ErrorStatus.ITEM_NOT_FOUND;
+    }
+}
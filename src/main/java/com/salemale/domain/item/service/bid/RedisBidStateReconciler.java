@@ -0,0 +1,77 @@
+package com.salemale.domain.item.service.bid;
+
+import com.salemale.global.common.enums.ItemStatus;
+import com.salemale.domain.item.repository.ItemRepository;
+import com.salemale.domain.item.repository.ItemTransactionRepository;
+import com.salemale.domain.item.repository.projection.BidSnapshot;
+import com.salemale.domain.item.repository.projection.LeadingBidRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 시작 시 Redis 입찰 상태 재구성 (redis 입찰 모드 전용)
+ * 1. 스트림에 남아 있던 수락 입찰을 먼저 DB에 반영
+ * 2. 입찰중 상품 전체를 DB(item + item_transaction) 기준으로 Redis 해시에 동기화
+ * - sync 스크립트는 Redis가 더 앞선 가격을 가진 경우 덮어쓰지 않으므로 다른 노드가 입찰을 받는 중에도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auction.bid", name = "mode", havingValue = "redis")
+public class RedisBidStateReconciler implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final RedisBidStateStore stateStore;
+    private final RedisBidWriteBehindWriter writer;
+    private final ItemRepository itemRepository;
+    private final ItemTransactionRepository itemTransactionRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int flushed = writer.drain();
+            int synced = rebuild();
+            log.info("[BID] redis state reconciled: flushed={}, synced={}", flushed, synced);
+        } catch (Exception e) {
+            // 재구성 실패 시에도 입찰 시점에 상품별로 지연 로드되므로 기동은 계속한다
+            log.error("[BID] redis state reconcile failed", e);
+        }
+    }
+
+    private int rebuild() {
+        int synced = 0;
+        long afterItemId = 0L;
+
+        while (true) {
+            List<BidSnapshot> page = itemRepository.findBidSnapshotsByStatus(
+                    ItemStatus.BIDDING, afterItemId, PageRequest.of(0, PAGE_SIZE));
+            if (page.isEmpty()) {
+                return synced;
+            }
+
+            List<Long> itemIds = page.stream().map(BidSnapshot::itemId).toList();
+            Map<Long, Long> leaders = itemTransactionRepository.findLeadingBids(itemIds).stream()
+                    .collect(Collectors.toMap(LeadingBidRow::getItemId, LeadingBidRow::getBuyerId));
+
+            for (BidSnapshot snapshot : page) {
+                stateStore.sync(snapshot, leaders.get(snapshot.itemId()));
+            }
+            synced += page.size();
+            afterItemId = page.get(page.size() - 1).itemId();
+
+            if (page.size() < PAGE_SIZE) {
+                return synced;
+            }
+        }
+    }
+}
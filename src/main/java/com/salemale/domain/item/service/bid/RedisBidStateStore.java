@@ -0,0 +1,183 @@
+package com.salemale.domain.item.service.bid;
+
+import com.salemale.domain.item.repository.projection.BidSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Redis에 보관하는 입찰중 상품 상태 (redis 입찰 모드 전용)
+ * - auction:bid:state:{itemId} 해시: sellerId, status, endTime(epoch ms), currentPrice, bidIncrement, bidCount, leaderId
+ * - 입찰 수락은 Lua 스크립트 하나로 원자적으로 검증 + 상태 갱신(마감 직전이면 종료 시간 연장 포함) + 스트림 적재까지 수행
+ * - auction:bid:stream 스트림에 쌓인 수락 입찰은 RedisBidWriteBehindWriter가 DB로 옮긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auction.bid", name = "mode", havingValue = "redis")
+public class RedisBidStateStore {
+
+    static final String KEY_STATE = "auction:bid:state:"; // auction:bid:state:{itemId}
+    static final String KEY_STREAM = "auction:bid:stream"; // 수락된 입찰 (write-behind 대기열)
+
+    // 경매 종료 후에도 정산이 끝날 때까지 상태를 남겨 두는 기간
+    private static final Duration STATE_GRACE = Duration.ofDays(1);
+
+    // 결과 코드
+    static final long ACCEPTED = 0;
+    static final long NOT_LOADED = 1;
+    static final long SELF_BID = 2;
+    static final long NOT_BIDDING = 3;
+    static final long ENDED = 4;
+    static final long TOO_LOW = 5;
+
+    /*
+     KEYS[1] = 상태 해시, KEYS[2] = 수락 입찰 스트림
+     ARGV[1] = itemId, ARGV[2] = buyerId, ARGV[3] = bidPrice, ARGV[4] = now(epoch ms), ARGV[5] = 마감 연장 구간(ms, 0이면 비활성)
+     반환: {code} 또는 {0, previousPrice, bidIncrement, bidCount, endTime, streamId, extended(0/1)}
+     */
+    private static final DefaultRedisScript<List> BID_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return {1}
+            end
+            local state = redis.call('HMGET', KEYS[1], 'sellerId', 'status', 'endTime', 'currentPrice', 'bidIncrement')
+            if state[1] == ARGV[2] then
+              return {2}
+            end
+            if state[2] ~= 'BIDDING' then
+              return {3}
+            end
+            local endTime = tonumber(state[3])
+            if tonumber(ARGV[4]) > endTime then
+              return {4}
+            end
+            local currentPrice = tonumber(state[4])
+            local bidIncrement = tonumber(state[5])
+            if tonumber(ARGV[3]) < currentPrice + bidIncrement then
+              return {5}
+            end
+            local extended = 0
+            local window = tonumber(ARGV[5])
+            if window > 0 and endTime < tonumber(ARGV[4]) + window then
+              endTime = tonumber(ARGV[4]) + window
+              extended = 1
+              redis.call('HSET', KEYS[1], 'endTime', endTime)
+            end
+            local bidCount = redis.call('HINCRBY', KEYS[1], 'bidCount', 1)
+            redis.call('HSET', KEYS[1], 'currentPrice', ARGV[3], 'leaderId', ARGV[2])
+            local streamId = redis.call('XADD', KEYS[2], '*',
+                'itemId', ARGV[1], 'buyerId', ARGV[2], 'bidPrice', ARGV[3], 'acceptedAt', ARGV[4],
+                'endTime', endTime)
+            return {0, currentPrice, bidIncrement, bidCount, endTime, streamId, extended}
+            """, List.class);
+
+    /*
+     DB 상태를 Redis에 반영 (없으면 생성, 있으면 DB가 더 앞선 경우에만 가격/입찰 수/선두를 덮어씀)
+     KEYS[1] = 상태 해시
+     ARGV = sellerId, status, endTime, currentPrice, bidIncrement, bidCount, leaderId, ttlSeconds
+     */
+    private static final DefaultRedisScript<Long> SYNC_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              redis.call('HSET', KEYS[1], 'sellerId', ARGV[1], 'status', ARGV[2], 'endTime', ARGV[3],
+                  'currentPrice', ARGV[4], 'bidIncrement', ARGV[5], 'bidCount', ARGV[6], 'leaderId', ARGV[7])
+              redis.call('EXPIRE', KEYS[1], ARGV[8])
+              return 1
+            end
+            redis.call('HSET', KEYS[1], 'status', ARGV[2])
+            if tonumber(ARGV[3]) > tonumber(redis.call('HGET', KEYS[1], 'endTime')) then
+              redis.call('HSET', KEYS[1], 'endTime', ARGV[3])
+            end
+            local currentPrice = tonumber(redis.call('HGET', KEYS[1], 'currentPrice'))
+            if tonumber(ARGV[4]) > currentPrice then
+              redis.call('HSET', KEYS[1], 'currentPrice', ARGV[4], 'bidCount', ARGV[6], 'leaderId', ARGV[7])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[8])
+            return 2
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 입찰 시도 (검증 + 상태 갱신 + 스트림 적재를 원자적으로 수행)
+     */
+    public BidResult tryBid(Long itemId, Long buyerId, Integer bidPrice, LocalDateTime now, long softCloseMillis) {
+        List<?> reply = stringRedisTemplate.execute(
+                BID_SCRIPT,
+                List.of(KEY_STATE + itemId, KEY_STREAM),
+                String.valueOf(itemId),
+                String.valueOf(buyerId),
+                String.valueOf(bidPrice),
+                String.valueOf(toEpochMillis(now)),
+                String.valueOf(softCloseMillis)
+        );
+
+        long code = ((Number) reply.get(0)).longValue();
+        if (code != ACCEPTED) {
+            return new BidResult(code, null, null, null, null, null, false);
+        }
+        return new BidResult(
+                code,
+                ((Number) reply.get(1)).intValue(),
+                ((Number) reply.get(2)).intValue(),
+                ((Number) reply.get(3)).longValue(),
+                toLocalDateTime(((Number) reply.get(4)).longValue()),
+                String.valueOf(reply.get(5)),
+                ((Number) reply.get(6)).longValue() == 1
+        );
+    }
+
+    /**
+     * DB 스냅샷을 Redis 상태에 반영 (최초 로드 및 재구성 공용)
+     *
+     * @param snapshot DB 기준 상품 상태
+     * @param leaderId DB 기준 최고 입찰자 (없으면 null)
+     */
+    public void sync(BidSnapshot snapshot, Long leaderId) {
+        long ttlSeconds = Math.max(
+                Duration.between(LocalDateTime.now(), snapshot.endTime()).plus(STATE_GRACE).toSeconds(),
+                60L
+        );
+        stringRedisTemplate.execute(
+                SYNC_SCRIPT,
+                List.of(KEY_STATE + snapshot.itemId()),
+                String.valueOf(snapshot.sellerId()),
+                snapshot.itemStatus().name(),
+                String.valueOf(toEpochMillis(snapshot.endTime())),
+                String.valueOf(snapshot.currentPrice()),
+                String.valueOf(snapshot.bidIncrement()),
+                String.valueOf(snapshot.bidCount()),
+                leaderId == null ? "" : String.valueOf(leaderId),
+                String.valueOf(ttlSeconds)
+        );
+    }
+
+    static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * Lua 입찰 결과
+     * - code가 ACCEPTED가 아니면 나머지 값은 null
+     */
+    public record BidResult(
+            long code,
+            Integer previousPrice,
+            Integer bidIncrement,
+            Long bidCount,
+            LocalDateTime endTime,
+            String streamId,
+            boolean endTimeExtended
+    ) {
+    }
+}
@@ -0,0 +1,399 @@
+package com.salemale.domain.item.service.bid;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 스트림에 쌓인 수락 입찰을 DB로 옮기는 write-behind 작성기 (redis 입찰 모드 전용)
+ * - 컨슈머 그룹으로 읽으므로 여러 노드가 떠 있어도 한 입찰은 한 노드만 반영한다.
+ * - item_transaction INSERT는 bid_stream_id 유니크 제약으로 멱등 처리되어, 커밋 후 ACK 전에 죽어도 재처리가 안전하다.
+ * - item.current_price / bid_count는 반영된 거래 기준으로 다시 집계하고, 연장된 종료 시간은 더 늦은 경우에만 반영한다.
+ * - 죽었거나 이름이 바뀐 노드(파드 재시작)가 ACK하지 못한 항목은 reclaim-idle-ms 이상 방치되면 다른 노드가 XCLAIM으로 가져가 반영한다.
+ * - 배치가 제약 위반(삭제된 상품/사용자 FK 등)으로 실패하면 한 건씩 다시 반영해 정상 항목은 살리고,
+ *   max-deliveries번 넘게 전달되고도 실패한 항목은 dead-letter 스트림으로 옮겨 뒤 항목을 막지 않게 한다.
+ *   (DB 연결 장애 같은 일시 오류는 건드리지 않고 다음 주기에 그대로 재시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auction.bid", name = "mode", havingValue = "redis")
+public class RedisBidWriteBehindWriter {
+
+    static final String GROUP = "bid-writer";
+    static final String KEY_DEAD_LETTER = "auction:bid:stream:dead"; // 반영을 포기한 입찰 (원본 필드 + sourceId + error)
+
+    private static final String INSERT_TRANSACTION_SQL = """
+            INSERT INTO item_transaction (buyer_id, item_id, bid_price, bid_stream_id, created_at, updated_at)
+            VALUES (:buyerId, :itemId, :bidPrice, :streamId, :acceptedAt, :acceptedAt)
+            ON CONFLICT (bid_stream_id) DO NOTHING
+            """;
+
+    private static final String REFRESH_ITEM_SQL = """
+            UPDATE item i
+               SET current_price = GREATEST(i.current_price, t.max_price),
+                   bid_count     = t.cnt,
+                   version       = i.version + 1,
+                   updated_at    = NOW()
+              FROM (SELECT item_id, MAX(bid_price) AS max_price, COUNT(*) AS cnt
+                      FROM item_transaction
+                     WHERE item_id IN (:itemIds)
+                     GROUP BY item_id) t
+             WHERE i.item_id = t.item_id
+            """;
+
+    private static final String EXTEND_END_TIME_SQL = """
+            UPDATE item
+               SET end_time = :endTime
+             WHERE item_id = :itemId
+               AND end_time < :endTime
+            """;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${auction.bid.redis.consumer:${HOSTNAME:bid-writer}}")
+    private String consumerName;
+
+    @Value("${auction.bid.redis.batch-size:500}")
+    private int batchSize;
+
+    @Value("${auction.bid.redis.reclaim-idle-ms:30000}")
+    private long reclaimIdleMillis;
+
+    @Value("${auction.bid.redis.max-deliveries:5}")
+    private int maxDeliveries;
+
+    @Value("${auction.bid.redis.close-scan-limit:10000}")
+    private int closeScanLimit;
+
+    private volatile boolean groupReady = false;
+
+    @Scheduled(fixedDelayString = "${auction.bid.redis.flush-interval-ms:200}")
+    public void flush() {
+        try {
+            drain();
+        } catch (Exception e) {
+            // 다음 주기에 PENDING 목록부터 다시 처리됨
+            log.error("[BID] write-behind flush failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auction.bid.redis.reclaim-interval-ms:10000}")
+    public void reclaimStale() {
+        try {
+            reclaim();
+        } catch (Exception e) {
+            log.error("[BID] write-behind reclaim failed", e);
+        }
+    }
+
+    /**
+     * 스트림을 비울 때까지 반영
+     * - 먼저 이 컨슈머가 받았지만 ACK하지 못한 항목(PENDING)을 처리하고, 이후 새 항목을 처리한다.
+     *
+     * @return 반영한 입찰 수
+     */
+    public synchronized int drain() {
+        ensureGroup();
+        int total = 0;
+        total += drain(true);
+        total += drain(false);
+        return total;
+    }
+
+    /**
+     * 다른 컨슈머가 받아 놓고 reclaim-idle-ms 이상 ACK하지 않은 항목을 가져와 반영 (죽은 노드의 PENDING 구제)
+     * - XPENDING(앞쪽 batch-size개) + XCLAIM(min-idle)으로 처리한다. 그 사이 원래 컨슈머가 ACK했으면 XCLAIM이 건너뛴다.
+     * - 살아 있는 노드의 항목을 가져와도 bid_stream_id 유니크 제약으로 중복 반영되지 않는다.
+     *
+     * @return 가져와 반영한 입찰 수
+     */
+    public synchronized int reclaim() {
+        ensureGroup();
+        PendingMessages pending = stringRedisTemplate.opsForStream()
+                .pending(RedisBidStateStore.KEY_STREAM, GROUP, Range.unbounded(), batchSize);
+        RecordId[] stale = pending.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().toMillis() >= reclaimIdleMillis)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (stale.length == 0) {
+            return 0;
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = stringRedisTemplate.opsForStream().claim(
+                RedisBidStateStore.KEY_STREAM, GROUP, consumerName,
+                XClaimOptions.minIdle(Duration.ofMillis(reclaimIdleMillis)).ids(stale));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        int persisted = persist(claimed);
+        log.warn("[BID] reclaimed stale pending entries: claimed={}, persisted={}", claimed.size(), persisted);
+        return persisted;
+    }
+
+    /**
+     * itemIds 중 아직 DB에 반영되지 않은 입찰이 스트림에 남은 상품 (마감 보류 판단용)
+     * - 대상: 그룹의 PENDING 목록(어느 컨슈머든, 죽은 노드 포함) + 그룹이 아직 전달하지 않은 꼬리(last-delivered-id 이후)
+     *   ACK된 항목은 바로 XDEL되므로 스트림 길이는 평소 반영 대기분뿐이다.
+     * - close-scan-limit개를 넘게 쌓여 다 볼 수 없으면 후보 전체를 보류로 본다. (잘못 마감하는 것보다 미루는 쪽)
+     */
+    public Set<Long> unflushedItems(Collection<Long> itemIds) {
+        ensureGroup();
+        Set<Long> candidates = new HashSet<>(itemIds);
+
+        Set<RecordId> pendingIds = stringRedisTemplate.opsForStream()
+                .pending(RedisBidStateStore.KEY_STREAM, GROUP, Range.unbounded(), closeScanLimit)
+                .stream()
+                .map(PendingMessage::getId)
+                .collect(Collectors.toSet());
+        RecordId lastDelivered = stringRedisTemplate.opsForStream().groups(RedisBidStateStore.KEY_STREAM).stream()
+                .filter(group -> GROUP.equals(group.groupName()))
+                .findFirst()
+                .map(XInfoGroup::lastDeliveredId)
+                .map(RecordId::of)
+                .orElse(RecordId.of("0-0"));
+        List<MapRecord<String, Object, Object>> entries = stringRedisTemplate.opsForStream().range(
+                RedisBidStateStore.KEY_STREAM, Range.unbounded(), Limit.limit().count(closeScanLimit));
+
+        if (pendingIds.size() >= closeScanLimit || entries == null || entries.size() >= closeScanLimit) {
+            log.warn("[BID] write-behind backlog exceeds scan limit, deferring all: items={}", candidates.size());
+            return candidates;
+        }
+
+        Set<Long> unflushed = new HashSet<>();
+        for (MapRecord<String, Object, Object> entry : entries) {
+            boolean waiting = pendingIds.contains(entry.getId()) || isAfter(entry.getId(), lastDelivered);
+            if (!waiting) {
+                continue; // ACK 후 XDEL만 실패한 항목
+            }
+            try {
+                Long itemId = Long.valueOf(String.valueOf(entry.getValue().get("itemId")));
+                if (candidates.contains(itemId)) {
+                    unflushed.add(itemId);
+                }
+            } catch (NumberFormatException e) {
+                // 형식이 깨진 항목은 drain이 dead-letter로 보냄
+            }
+        }
+        return unflushed;
+    }
+
+    // history = true: 이 컨슈머의 PENDING 목록, false: 새 항목
+    private int drain(boolean history) {
+        int total = 0;
+        ReadOffset offset = history ? ReadOffset.from("0") : ReadOffset.lastConsumed();
+        while (true) {
+            List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                    Consumer.from(GROUP, consumerName),
+                    StreamReadOptions.empty().count(batchSize),
+                    StreamOffset.create(RedisBidStateStore.KEY_STREAM, offset)
+            );
+            if (records == null || records.isEmpty()) {
+                return total;
+            }
+
+            total += persist(records);
+
+            if (records.size() < batchSize) {
+                return total;
+            }
+            if (history) {
+                // 재시도 대기로 남은 항목을 다시 읽지 않도록 마지막 ID 이후부터
+                offset = ReadOffset.from(records.get(records.size() - 1).getId());
+            }
+        }
+    }
+
+    /**
+     * 한 배치 반영 후 ACK
+     * - 제약 위반으로 배치가 실패하면 한 건씩 반영하고, 실패한 항목만 재시도 대기(PENDING) 또는 dead-letter로 보낸다.
+     * - 그 밖의 예외(연결 장애 등)는 그대로 올려 배치 전체를 다음 주기에 재시도한다.
+     *
+     * @return 반영(ACK)한 항목 수
+     */
+    private int persist(List<MapRecord<String, Object, Object>> records) {
+        List<BidEntry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                entries.add(BidEntry.of(record));
+            } catch (RuntimeException e) {
+                // 형식이 깨진 항목은 재시도해도 같으므로 바로 dead-letter
+                deadLetter(record, "malformed: " + e.getMessage());
+            }
+        }
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            write(entries);
+            acknowledge(entries.stream().map(BidEntry::id).toArray(RecordId[]::new));
+            return entries.size();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[BID] write-behind batch rejected, retrying one by one: entries={}", entries.size(), e);
+        }
+
+        int persisted = 0;
+        Map<RecordId, MapRecord<String, Object, Object>> byId = new HashMap<>();
+        records.forEach(record -> byId.put(record.getId(), record));
+        for (BidEntry entry : entries) {
+            try {
+                write(List.of(entry));
+                acknowledge(entry.id());
+                persisted++;
+            } catch (DataIntegrityViolationException e) {
+                rejected(byId.get(entry.id()), e);
+            }
+        }
+        return persisted;
+    }
+
+    // 거래 INSERT + 상품 집계 갱신 + 종료 시간 연장을 한 트랜잭션으로
+    private void write(List<BidEntry> entries) {
+        List<MapSqlParameterSource> rows = new ArrayList<>(entries.size());
+        Set<Long> itemIds = new LinkedHashSet<>();
+        Map<Long, Long> endTimes = new HashMap<>(); // itemId -> 배치 내 가장 늦은 종료 시간(epoch ms)
+
+        for (BidEntry entry : entries) {
+            rows.add(new MapSqlParameterSource()
+                    .addValue("buyerId", entry.buyerId())
+                    .addValue("itemId", entry.itemId())
+                    .addValue("bidPrice", entry.bidPrice())
+                    .addValue("streamId", entry.id().getValue())
+                    .addValue("acceptedAt", Timestamp.valueOf(RedisBidStateStore.toLocalDateTime(entry.acceptedAt()))));
+            itemIds.add(entry.itemId());
+            if (entry.endTime() != null) {
+                endTimes.merge(entry.itemId(), entry.endTime(), Math::max);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, rows.toArray(MapSqlParameterSource[]::new));
+            jdbcTemplate.update(REFRESH_ITEM_SQL, new MapSqlParameterSource("itemIds", itemIds));
+            if (!endTimes.isEmpty()) {
+                jdbcTemplate.batchUpdate(EXTEND_END_TIME_SQL, endTimes.entrySet().stream()
+                        .map(e -> new MapSqlParameterSource()
+                                .addValue("itemId", e.getKey())
+                                .addValue("endTime", Timestamp.valueOf(RedisBidStateStore.toLocalDateTime(e.getValue()))))
+                        .toArray(MapSqlParameterSource[]::new));
+            }
+        });
+        log.debug("[BID] write-behind flushed: entries={}, items={}", entries.size(), itemIds.size());
+    }
+
+    // 한 건 반영 실패: 전달 횟수가 남았으면 PENDING으로 두고(다음 주기 재시도), 넘었으면 dead-letter
+    private void rejected(MapRecord<String, Object, Object> record, Exception cause) {
+        long deliveries = deliveryCount(record.getId());
+        if (deliveries < maxDeliveries) {
+            log.warn("[BID] write-behind entry rejected, will retry: id={}, deliveries={}", record.getId(), deliveries, cause);
+            return;
+        }
+        deadLetter(record, cause.getClass().getSimpleName() + ": " + cause.getMessage());
+    }
+
+    private long deliveryCount(RecordId id) {
+        PendingMessages pending = stringRedisTemplate.opsForStream()
+                .pending(RedisBidStateStore.KEY_STREAM, GROUP, Range.closed(id.getValue(), id.getValue()), 1);
+        return pending.isEmpty() ? 0 : pending.get(0).getTotalDeliveryCount();
+    }
+
+    // 원본 필드에 sourceId / error를 붙여 dead-letter 스트림에 남기고 원래 항목은 ACK
+    private void deadLetter(MapRecord<String, Object, Object> record, String error) {
+        Map<String, String> fields = new HashMap<>();
+        record.getValue().forEach((field, value) -> fields.put(String.valueOf(field), String.valueOf(value)));
+        fields.put("sourceId", record.getId().getValue());
+        fields.put("error", error);
+        stringRedisTemplate.opsForStream().add(KEY_DEAD_LETTER, fields);
+        acknowledge(record.getId());
+        log.error("[BID] write-behind entry dead-lettered: id={}, value={}, error={}", record.getId(), record.getValue(), error);
+    }
+
+    // 커밋 이후 ACK + 스트림에서 제거
+    private void acknowledge(RecordId... ids) {
+        stringRedisTemplate.opsForStream().acknowledge(RedisBidStateStore.KEY_STREAM, GROUP, ids);
+        stringRedisTemplate.opsForStream().delete(RedisBidStateStore.KEY_STREAM, ids);
+    }
+
+    private static boolean isAfter(RecordId id, RecordId other) {
+        int byTime = Long.compare(id.getTimestamp(), other.getTimestamp());
+        return byTime != 0 ? byTime > 0 : Long.compare(id.getSequence(), other.getSequence()) > 0;
+    }
+
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) (RedisConnection connection) ->
+                    connection.streamCommands().xGroupCreate(
+                            RedisBidStateStore.KEY_STREAM.getBytes(StandardCharsets.UTF_8),
+                            GROUP,
+                            ReadOffset.from("0"),
+                            true
+                    ));
+        } catch (RuntimeException e) {
+            // 이미 그룹이 있으면 BUSYGROUP 에러 → 정상
+            if (!String.valueOf(e.getMessage()).contains("BUSYGROUP")
+                    && (e.getCause() == null || !String.valueOf(e.getCause().getMessage()).contains("BUSYGROUP"))) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    // 스트림 항목 한 건 (Lua 입찰 스크립트가 XADD한 필드)
+    private record BidEntry(RecordId id, Long itemId, Long buyerId, Integer bidPrice, long acceptedAt, Long endTime) {
+
+        static BidEntry of(MapRecord<String, Object, Object> record) {
+            Map<Object, Object> value = record.getValue();
+            Object endTime = value.get("endTime");
+            return new BidEntry(
+                    record.getId(),
+                    Long.valueOf(String.valueOf(value.get("itemId"))),
+                    Long.valueOf(String.valueOf(value.get("buyerId"))),
+                    Integer.valueOf(String.valueOf(value.get("bidPrice"))),
+                    Long.parseLong(String.valueOf(value.get("acceptedAt"))),
+                    endTime == null ? null : Long.valueOf(String.valueOf(endTime))
+            );
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.salemale.domain.item.service.bid;
+
+import com.salemale.common.code.status.ErrorStatus;
+import com.salemale.common.exception.GeneralException;
+import com.salemale.domain.item.dto.response.BidResponse;
+import com.salemale.domain.item.entity.ItemTransaction;
+import com.salemale.domain.item.repository.ItemBidRepository;
+import com.salemale.domain.item.repository.ItemRepository;
+import com.salemale.domain.item.repository.ItemTransactionRepository;
+import com.salemale.domain.item.repository.projection.AppliedBidRow;
+import com.salemale.domain.item.repository.projection.BidSnapshot;
+import com.salemale.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 상품별 단일 작성자 레인(striped executor) 기반 입찰 엔진
+ * - itemId 해시로 레인을 고르므로 같은 상품의 입찰은 항상 같은 스레드에서 순서대로 처리된다.
+ * - 레인은 메모리에 캐시한 BidSnapshot(현재가/입찰 단위/종료 시간)으로 검증하고,
+ *   짧은 트랜잭션에서 조건부 UPDATE ... RETURNING + 입찰 거래 INSERT만 수행한다.
+ * - 조건부 UPDATE가 최종 방어선이므로 캐시가 오래되어도 가격이 역행하지 않는다.
+ *   응답과 다음 스냅샷은 UPDATE가 돌려준 행으로 만들므로, 다른 노드의 입찰로 캐시가 낡아도 입찰 수/종료 시간이 어긋나지 않는다.
+ * - 레인이 상품 행 락(자동 입찰 정산, 일괄 마감)에 막혀도 요청 스레드는 wait-timeout-ms까지만 기다린다.
+ * - 마감된 상품의 스냅샷은 AuctionCloseService가 커밋 후 invalidate로 지운다. (더 이상 입찰이 없어 스스로 비워지지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auction.bid", name = "mode", havingValue = "sequenced", matchIfMissing = true)
+public class SequencedBidEngine implements BidEngine {
+
+    private final ItemRepository itemRepository;
+    private final ItemBidRepository itemBidRepository;
+    private final UserRepository userRepository;
+    private final ItemTransactionRepository itemTransactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BidMetrics bidMetrics;
+    private final SoftClosePolicy softClosePolicy;
+
+    @Value("${auction.bid.sequencer.lanes:16}")
+    private int laneCount;
+
+    @Value("${auction.bid.sequencer.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${auction.bid.sequencer.wait-timeout-ms:3000}")
+    private long waitTimeoutMillis;
+
+    // itemId -> 마지막으로 확인된 입찰 상태 (쓰기는 해당 상품의 레인 스레드만 수행)
+    private final Map<Long, BidSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor[] lanes;
+
+    @PostConstruct
+    void startLanes() {
+        lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            String threadName = "bid-lane-" + i;
+            lanes[i] = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            );
+        }
+        log.info("[BID] sequencer started: lanes={}, queueCapacity={}", laneCount, queueCapacity);
+    }
+
+    @PreDestroy
+    void stopLanes() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    @Override
+    public BidMode mode() {
+        return BidMode.SEQUENCED;
+    }
+
+    @Override
+    public BidResponse placeBid(Long buyerId, Long itemId, Integer bidPrice) {
+        ThreadPoolExecutor lane = laneOf(itemId);
+
+        Future<BidResponse> future;
+        try {
+            future = lane.submit(() -> processInLane(buyerId, itemId, bidPrice));
+        } catch (RejectedExecutionException e) {
+            // 레인 대기열이 가득 참 → 연결을 붙잡고 기다리지 않고 바로 거절
+            log.warn("[BID] lane queue full: itemId={}, queued={}", itemId, lane.getQueue().size());
+            throw new GeneralException(ErrorStatus._TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 레인이 행 락 등에 막혀 있음 → 아직 시작 전이면 실행되지 않게 취소하고 대기열이 가득 찬 경우처럼 거절
+            // (이미 실행 중이면 취소되지 않고 커밋될 수 있으므로 클라이언트는 상세 조회로 결과를 확인해야 함)
+            future.cancel(false);
+            log.warn("[BID] lane wait timed out: itemId={}, queued={}", itemId, lane.getQueue().size());
+            throw new GeneralException(ErrorStatus._TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            // 레인에서 발생한 검증 예외(GeneralException 등)를 그대로 호출 측에 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            log.error("[BID] lane failure: itemId={}", itemId, e.getCause());
+            throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 캐시 폐기 (자동 입찰 정산 등 레인 밖에서 상품 상태가 바뀐 경우)
+     * - 바로 지우고, 레인에도 폐기 작업을 넣어 진행 중이던 입찰이 커밋 후 옛 스냅샷을 다시 넣더라도 뒤이어 지워지게 한다.
+     */
+    @Override
+    public void invalidate(Long itemId) {
+        snapshots.remove(itemId);
+        try {
+            laneOf(itemId).execute(() -> snapshots.remove(itemId));
+        } catch (RejectedExecutionException e) {
+            // 레인 대기열이 가득 참: 남은 입찰은 조건부 UPDATE 실패 시 다시 로드됨
+            log.warn("[BID] lane queue full, snapshot invalidated without lane barrier: itemId={}", itemId);
+        }
+    }
+
+    private ThreadPoolExecutor laneOf(Long itemId) {
+        return lanes[Math.floorMod(itemId.hashCode(), lanes.length)];
+    }
+
+    // 레인 스레드에서만 실행됨 (같은 itemId에 대해 동시 실행 없음)
+    private BidResponse processInLane(Long buyerId, Long itemId, Integer bidPrice) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 캐시된 스냅샷 사용, 없으면 한 번만 DB에서 로드
+        BidSnapshot snapshot = snapshots.get(itemId);
+        if (snapshot == null) {
+            snapshot = loadSnapshot(itemId);
+        }
+
+        // 2. 메모리에서 검증
+        try {
+            snapshot.validate(buyerId, bidPrice, now);
+        } catch (GeneralException e) {
+            // 종료된 상품은 더 캐시할 필요가 없음
+            if (snapshot.isOpen(now)) {
+                snapshots.put(itemId, snapshot);
+            } else {
+                snapshots.remove(itemId);
+            }
+            throw e;
+        }
+
+        // 3. 짧은 트랜잭션으로 저장
+        Accepted accepted;
+        try {
+            accepted = transactionTemplate.execute(status -> persist(itemId, buyerId, bidPrice, now));
+        } catch (RuntimeException e) {
+            // DB와 캐시가 어긋났을 수 있으므로 다음 입찰 때 다시 로드
+            snapshots.remove(itemId);
+            throw e;
+        }
+
+        // 4. 커밋 이후에만 캐시 갱신 (UPDATE가 돌려준 DB 상태)
+        snapshots.put(itemId, accepted.snapshot());
+        return accepted.response();
+    }
+
+    private Accepted persist(Long itemId, Long buyerId, Integer bidPrice, LocalDateTime now) {
+        // 1. 조건부 UPDATE (상태/종료 시간/최소 입찰가를 DB에서 한 번 더 확인하고 반영 후 상태를 돌려받음)
+        AppliedBidRow applied = itemBidRepository.applyBid(itemId, bidPrice, now, softClosePolicy.extendTo(now))
+                .orElse(null);
+        if (applied == null) {
+            bidMetrics.recordConflict(BidMode.SEQUENCED);
+            // 캐시가 오래된 경우 → 최신 상태로 다시 검증해 정확한 에러 코드를 돌려준다
+            loadSnapshot(itemId).validate(buyerId, bidPrice, now);
+            throw new GeneralException(ErrorStatus.BID_AMOUNT_TOO_LOW);
+        }
+
+        // 2. 입찰 거래 생성 (연관 엔티티는 프록시 참조만 사용)
+        ItemTransaction savedTransaction = itemTransactionRepository.save(ItemTransaction.builder()
+                .buyer(userRepository.getReferenceById(buyerId))
+                .item(itemRepository.getReferenceById(itemId))
+                .bidPrice(bidPrice)
+                .build());
+
+        // 3. 응답 DTO 생성 (기존 BidResponse 계약 유지, 값은 모두 반영된 행 기준)
+        BidSnapshot updated = applied.snapshot();
+        BidResponse response = BidResponse.builder()
+                .transactionId(savedTransaction.getTransactionId())
+                .itemId(itemId)
+                .buyerId(buyerId)
+                .bidPrice(bidPrice)
+                .previousPrice(applied.previousPrice())
+                .currentHighestPrice(updated.currentPrice())
+                .bidIncrement(updated.bidIncrement())
+                .bidCount(updated.bidCount())
+                .bidTime(savedTransaction.getCreatedAt())
+                .endTime(updated.endTime())
+                .endTimeExtended(applied.endTimeExtended())
+                .build();
+        return new Accepted(response, updated);
+    }
+
+    private BidSnapshot loadSnapshot(Long itemId) {
+        return itemRepository.findBidSnapshotById(itemId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ITEM_NOT_FOUND));
+    }
+
+    // 커밋된 입찰 결과와 다음 검증에 쓸 스냅샷
+    private record Accepted(BidResponse response, BidSnapshot snapshot) {
+    }
+}
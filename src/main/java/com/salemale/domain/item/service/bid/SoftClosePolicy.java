@@ -0,0 +1,38 @@
+package com.salemale.domain.item.service.bid;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 마감 직전 입찰 시 종료 시간 연장 정책 (anti-sniping)
+ * - 종료 N분 이내에 수락된 입찰은 종료 시간을 (입찰 시각 + N분)까지 늘린다.
+ * - auction.soft-close.minutes가 0이면 비활성 (연장 없음)
+ */
+@Component
+public class SoftClosePolicy {
+
+    @Value("${auction.soft-close.minutes:0}")
+    private long minutes;
+
+    public boolean enabled() {
+        return minutes > 0;
+    }
+
+    public long windowMillis() {
+        return Duration.ofMinutes(minutes).toMillis();
+    }
+
+    // 이 시각에 수락된 입찰이 보장하는 최소 종료 시각 (비활성이면 입찰 시각 그대로 → 연장 없음)
+    public LocalDateTime extendTo(LocalDateTime bidTime) {
+        return enabled() ? bidTime.plusMinutes(minutes) : bidTime;
+    }
+
+    // 입찰 수락 후 종료 시각
+    public LocalDateTime endTimeAfterBid(LocalDateTime endTime, LocalDateTime bidTime) {
+        LocalDateTime extendTo = extendTo(bidTime);
+        return endTime.isBefore(extendTo) ? extendTo : endTime;
+    }
+}
@@ -7,17 +7,25 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -26,6 +34,7 @@ import java.util.UUID;
 public class S3Service {
 
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
@@ -148,6 +157,141 @@ public class S3Service {
         }
     }
 
+    /**
+     * 지정한 키로 직접 업로드할 presigned PUT URL 발급 (바이트가 앱 서버를 거치지 않음)
+     * - 클라이언트는 같은 Content-Type 헤더로 PUT 해야 서명이 맞는다.
+     * @param s3Key 업로드될 키
+     * @param contentType 업로드할 파일의 Content-Type
+     * @param ttl URL 유효 시간
+     * @return presigned URL
+     */
+    public String presignPut(String s3Key, String contentType, Duration ttl) {
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .contentType(contentType)
+                        .build())
+                .build();
+        return s3Presigner.presignPutObject(presignRequest).url().toString();
+    }
+
+    /**
+     * 파일 메타데이터 조회
+     * @param s3Key S3 키
+     * @return 없으면 empty
+     */
+    public Optional<HeadObjectResponse> head(String s3Key) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            log.error("S3 메타데이터 조회 실패: {}", e.getMessage());
+            throw new GeneralException(ErrorStatus.IMAGE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 지정한 키로 파일 업로드
+     * @param s3Key 업로드될 키
+     * @param file 업로드할 파일
+     * @return S3 공개 URL
+     */
+    public String upload(String s3Key, MultipartFile file) {
+        try {
+            s3Client.putObject(
+                    PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(s3Key)
+                            .contentType(file.getContentType())
+                            .build(),
+                    RequestBody.fromInputStream(file.getInputStream(), file.getSize())
+            );
+            return generatePublicUrl(s3Key);
+        } catch (S3Exception e) {
+            log.error("S3 업로드 실패: {}", e.getMessage());
+            throw new GeneralException(ErrorStatus.IMAGE_UPLOAD_FAILED);
+        } catch (IOException e) {
+            log.error("파일 읽기 실패: {}", e.getMessage());
+            throw new GeneralException(ErrorStatus.IMAGE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 바이트 배열 업로드 (서버에서 만든 썸네일 등)
+     * @param s3Key 업로드될 키
+     * @param bytes 파일 내용
+     * @param contentType Content-Type
+     */
+    public void putBytes(String s3Key, byte[] bytes, String contentType) {
+        s3Client.putObject(
+                PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromBytes(bytes)
+        );
+    }
+
+    /**
+     * 파일 스트림 열기 (호출 측에서 닫을 것)
+     * @param s3Key S3 키
+     */
+    public ResponseInputStream<GetObjectResponse> open(String s3Key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .build(), ResponseTransformer.toInputStream());
+    }
+
+    /**
+     * 같은 버킷 안에서 파일 복사
+     */
+    public void copy(String sourceKey, String destinationKey) {
+        s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucketName)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucketName)
+                .destinationKey(destinationKey)
+                .build());
+    }
+
+    /**
+     * prefix 아래에서 지정 시각 이전에 수정된 키 조회 (정리 작업용)
+     * @param prefix 조회할 prefix
+     * @param before 이 시각보다 오래된 것만
+     * @param limit 최대 개수
+     */
+    public List<String> listKeysModifiedBefore(String prefix, Instant before, int limit) {
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                        .bucket(bucketName)
+                        .prefix(prefix)
+                        .build())
+                .contents().stream()
+                .filter(object -> object.lastModified().isBefore(before))
+                .map(S3Object::key)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * S3 키의 공개 URL
+     * @param s3Key S3 키
+     * @return 공개 URL
+     */
+    public String publicUrl(String s3Key) {
+        return generatePublicUrl(s3Key);
+    }
+
     /**
      * S3 공개 URL 생성
      * @param s3Key S3 키
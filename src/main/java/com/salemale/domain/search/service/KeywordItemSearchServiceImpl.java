@@ -10,7 +10,8 @@ import com.salemale.domain.item.enums.AuctionStatus;
 import com.salemale.domain.item.repository.ItemRepository;
 import com.salemale.domain.user.entity.User;
 import com.salemale.domain.user.entity.UserRegion;
-import com.salemale.domain.user.repository.BlockListRepository;
+import com.salemale.domain.user.service.BlockListCache;
+import com.salemale.domain.user.service.BlockedIds;
 import com.salemale.domain.user.repository.UserRegionRepository;
 import com.salemale.domain.user.repository.UserRepository;
 import com.salemale.global.common.enums.ItemStatus;
@@ -22,7 +23,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -31,7 +31,7 @@ public class KeywordItemSearchServiceImpl implements KeywordItemSearchService {
     private final UserRepository userRepository;
     private final UserRegionRepository userRegionRepository;
     private final ItemRepository itemRepository;
-    private final BlockListRepository blockListRepository;
+    private final BlockListCache blockListCache;
 
 
     @Override
@@ -97,8 +97,8 @@ public class KeywordItemSearchServiceImpl implements KeywordItemSearchService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.REGION_NOT_SET));
 
         // 내가 차단한 판매자 ID 목록
-        List<Long> blockedSellerIds =
-                blockListRepository.findBlockedUserIds(userId);
+        BlockedIds blockedSellerIds =
+                blockListCache.blockedIds(userId);
 
         Double effective = user.getRangeInKilometers();
         if (radius != null && radius != User.RangeSetting.ALL) {
@@ -172,22 +172,8 @@ public class KeywordItemSearchServiceImpl implements KeywordItemSearchService {
             }
             
             // 반경 검색의 경우 카테고리/가격 필터 및 POPULAR 조건은 메모리에서 보정
-            java.util.List<Item> filtered = page.getContent().stream()
-                    .filter(it -> categories == null || categories.isEmpty() || categories.contains(it.getCategory()))
-                    .filter(it -> minPrice == null || minPrice == 0 || it.getCurrentPrice() >= minPrice)
-                    .filter(it -> maxPrice == null || maxPrice == 0 || it.getCurrentPrice() <= maxPrice)
-                    .filter(it -> !isPopular || (
-                        it.getBidCount() >= 3
-                        && it.getCreatedAt().isAfter(threeDaysAgo)
-                        && it.getEndTime().isAfter(now)
-                    ))
-                    .sorted(java.util.Comparator.comparing((Item it) -> 0))
-                    .toList();
-            // 정렬 보정
-            java.util.Comparator<Item> comp = comparatorFor(sort);
-            if (comp != null) {
-                filtered = filtered.stream().sorted(comp).toList();
-            }
+            java.util.List<Item> filtered = filterAndSortInMemory(
+                    page.getContent(), categories, minPrice, maxPrice, isPopular, threeDaysAgo, now, sort);
             // 페이지네이션 유지: 이미 DB 페이징이 되어 있으므로, 정렬만 보정하여 DTO 매핑
             return new org.springframework.data.domain.PageImpl<>(
                     filtered.stream()
@@ -323,7 +309,33 @@ public class KeywordItemSearchServiceImpl implements KeywordItemSearchService {
         };
     }
 
-    private java.util.Comparator<Item> comparatorFor(AuctionSortType sort) {
+    /**
+     * 반경 검색 결과에 카테고리/가격/POPULAR 조건을 적용하고 정렬 (메모리 보정)
+     * - 필터와 정렬을 한 번의 스트림으로 처리한다. (벤치마크: src/jmh KeywordSearchFilterBenchmark)
+     */
+    static java.util.List<Item> filterAndSortInMemory(
+            java.util.List<Item> items,
+            java.util.List<Category> categories,
+            Integer minPrice,
+            Integer maxPrice,
+            boolean isPopular,
+            LocalDateTime threeDaysAgo,
+            LocalDateTime now,
+            AuctionSortType sort) {
+        return items.stream()
+                .filter(it -> categories == null || categories.isEmpty() || categories.contains(it.getCategory()))
+                .filter(it -> minPrice == null || minPrice == 0 || it.getCurrentPrice() >= minPrice)
+                .filter(it -> maxPrice == null || maxPrice == 0 || it.getCurrentPrice() <= maxPrice)
+                .filter(it -> !isPopular || (
+                    it.getBidCount() >= 3
+                    && it.getCreatedAt().isAfter(threeDaysAgo)
+                    && it.getEndTime().isAfter(now)
+                ))
+                .sorted(comparatorFor(sort))
+                .toList();
+    }
+
+    private static java.util.Comparator<Item> comparatorFor(AuctionSortType sort) {
         if (sort == null) return java.util.Comparator.comparing(Item::getCreatedAt).reversed();
         return switch (sort) {
             case CREATED_DESC -> java.util.Comparator.comparing(Item::getCreatedAt).reversed();
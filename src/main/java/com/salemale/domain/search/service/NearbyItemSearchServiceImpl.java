@@ -8,7 +8,8 @@ import com.salemale.domain.item.entity.Item;
 import com.salemale.domain.item.repository.ItemRepository;
 import com.salemale.domain.user.entity.User;
 import com.salemale.domain.user.entity.UserRegion;
-import com.salemale.domain.user.repository.BlockListRepository;
+import com.salemale.domain.user.service.BlockListCache;
+import com.salemale.domain.user.service.BlockedIds;
 import com.salemale.domain.user.repository.UserRegionRepository;
 import com.salemale.domain.user.repository.UserRepository;
 import com.salemale.global.common.enums.ItemStatus;
@@ -18,7 +19,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 
 
 @Service
@@ -28,7 +28,7 @@ public class NearbyItemSearchServiceImpl implements NearbyItemSearchService {
     private final UserRepository userRepository;
     private final UserRegionRepository userRegionRepository;
     private final ItemRepository itemRepository;
-    private final BlockListRepository blockListRepository;
+    private final BlockListCache blockListCache;
 
 
     @Override
@@ -43,8 +43,8 @@ public class NearbyItemSearchServiceImpl implements NearbyItemSearchService {
         double lon = primary.getRegion().getLongitude().doubleValue();
 
         // 내가 차단한 판매자 ID 목록
-        List<Long> blockedSellerIds =
-                blockListRepository.findBlockedUserIds(userId);
+        BlockedIds blockedSellerIds =
+                blockListCache.blockedIds(userId);
 
         Page<Item> page = itemRepository.findNearbyItems(ItemStatus.BIDDING.name(), lat, lon, km, pageable);
 
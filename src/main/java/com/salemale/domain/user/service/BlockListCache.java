@@ -0,0 +1,193 @@
+package com.salemale.domain.user.service;
+
+import com.salemale.domain.user.repository.BlockListRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 차단 목록 캐시 (노드 내 near-cache → Redis → DB)
+ * - 메시지 전송/목록 조회마다 block_list를 조회하지 않도록 사용자별 차단 ID 집합(BlockedIds)을 캐시한다.
+ * - Redis 키 block:ids:{userId} 에 "3,17,42" 형식으로 저장하고, 차단이 없으면 빈 문자열로 저장해 DB 재조회를 막는다.
+ * - 차단/해제 커밋 후 DB에서 다시 읽어 Redis 값을 덮어쓰고 block:invalidate 채널로 알려 모든 노드의 near-cache를 비운다.
+ *   (DB 미스 로드는 SET NX로만 기록하므로 커밋 전 값을 읽은 로드가 새 값을 덮어쓰지 못한다)
+ * - pub/sub은 전달을 보장하지 않으므로 near-cache 항목은 local-ttl-ms 후 만료된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlockListCache {
+
+    private static final String KEY_PREFIX = "block:ids:";
+    private static final String CHANNEL = "block:invalidate";
+
+    private final BlockListRepository blockListRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${block.cache.local-ttl-ms:300000}")
+    private long localTtlMillis;
+
+    @Value("${block.cache.local-max-entries:50000}")
+    private int localMaxEntries;
+
+    @Value("${block.cache.redis-ttl-hours:24}")
+    private long redisTtlHours;
+
+    private final Map<Long, Entry> local = new ConcurrentHashMap<>();
+    // 무효화마다 증가: 로드 도중 무효화가 지나갔으면 읽은 값을 near-cache에 넣지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    private RedisMessageListenerContainer container;
+    private Counter localMiss;
+    private Counter redisMiss;
+
+    @PostConstruct
+    void start() {
+        meterRegistry.gaugeMapSize("block.cache.local.size", List.of(), local);
+        localMiss = meterRegistry.counter("block.cache.local.miss");
+        redisMiss = meterRegistry.counter("block.cache.redis.miss");
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> evictLocal(message.getBody()), new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        try {
+            container.start();
+        } catch (RuntimeException e) {
+            // 구독 실패 시에도 기동은 계속 (그동안은 local-ttl-ms 만료로만 갱신)
+            log.error("[BLOCK] invalidation subscribe failed", e);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        container.destroy();
+    }
+
+    /**
+     * blocker가 blocked를 차단했는지
+     */
+    public boolean isBlocked(Long blockerId, Long blockedId) {
+        return blockedIds(blockerId).contains(blockedId);
+    }
+
+    /**
+     * 사용자가 차단한 사용자 ID 집합
+     */
+    public BlockedIds blockedIds(Long userId) {
+        if (userId == null) {
+            return BlockedIds.EMPTY;
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = local.get(userId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.ids();
+        }
+
+        localMiss.increment();
+        long gen = generation.get();
+        BlockedIds ids = loadShared(userId);
+
+        if (generation.get() == gen) {
+            if (local.size() >= localMaxEntries) {
+                local.clear(); // 상한 초과 시 통째로 비움 (다시 채우는 비용은 Redis GET 한 번)
+            }
+            local.put(userId, new Entry(ids, now + localTtlMillis));
+        }
+        return ids;
+    }
+
+    /**
+     * 차단/해제 후 호출: 커밋 이후 Redis 값을 DB 기준으로 덮어쓰고 모든 노드의 near-cache를 비운다.
+     */
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(userId);
+                }
+            });
+        } else {
+            refresh(userId);
+        }
+    }
+
+    private void refresh(Long userId) {
+        generation.incrementAndGet();
+        local.remove(userId);
+        try {
+            BlockedIds ids = BlockedIds.of(blockListRepository.findBlockedUserIds(userId));
+            stringRedisTemplate.opsForValue().set(key(userId), ids.serialize(), Duration.ofHours(redisTtlHours));
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(userId));
+        } catch (RuntimeException e) {
+            // 갱신 실패 시 키를 지워 다음 조회가 DB에서 다시 읽게 한다 (다른 노드는 local-ttl-ms 후 반영)
+            log.warn("[BLOCK] cache refresh failed: userId={}", userId, e);
+            try {
+                stringRedisTemplate.delete(key(userId));
+            } catch (RuntimeException ignored) {
+                // Redis 장애: TTL 만료에 맡김
+            }
+        }
+    }
+
+    private BlockedIds loadShared(Long userId) {
+        String key = key(userId);
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return BlockedIds.parse(cached);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[BLOCK] redis read failed, falling back to db: userId={}", userId, e);
+            return BlockedIds.of(blockListRepository.findBlockedUserIds(userId));
+        }
+
+        redisMiss.increment();
+        BlockedIds ids = BlockedIds.of(blockListRepository.findBlockedUserIds(userId));
+        try {
+            // NX: 그 사이 refresh()가 기록한 최신 값을 덮어쓰지 않음
+            stringRedisTemplate.opsForValue().setIfAbsent(key, ids.serialize(), Duration.ofHours(redisTtlHours));
+        } catch (RuntimeException e) {
+            log.warn("[BLOCK] redis write failed: userId={}", userId, e);
+        }
+        return ids;
+    }
+
+    private void evictLocal(byte[] body) {
+        try {
+            Long userId = Long.valueOf(new String(body, StandardCharsets.UTF_8));
+            generation.incrementAndGet();
+            local.remove(userId);
+        } catch (NumberFormatException e) {
+            log.error("[BLOCK] malformed invalidation skipped", e);
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private record Entry(BlockedIds ids, long expiresAt) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.salemale.domain.user.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 한 사용자가 차단한 사용자 ID 집합 (불변)
+ * - Set<Long> 대신 정렬된 long[] + 이진 탐색으로 박싱/해시 엔트리 없이 보관한다.
+ * - 차단 목록은 보통 수십 건 이하라 조회는 이진 탐색으로 충분하다.
+ */
+public final class BlockedIds {
+
+    public static final BlockedIds EMPTY = new BlockedIds(new long[0]);
+
+    private final long[] ids; // 오름차순, 중복 없음
+
+    private BlockedIds(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static BlockedIds of(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new BlockedIds(sorted);
+    }
+
+    // Redis 저장 형식("3,17,42") 파싱, 빈 문자열은 차단 없음
+    static BlockedIds parse(String value) {
+        if (value == null || value.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = Arrays.stream(value.split(","))
+                .mapToLong(Long::parseLong)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new BlockedIds(sorted);
+    }
+
+    String serialize() {
+        StringBuilder sb = new StringBuilder(ids.length * 8);
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(ids[i]);
+        }
+        return sb.toString();
+    }
+
+    public boolean contains(Long id) {
+        return id != null && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
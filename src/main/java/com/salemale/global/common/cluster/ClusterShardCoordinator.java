@@ -0,0 +1,216 @@
+package com.salemale.global.common.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Redis 리스 기반 샤드 분배기
+ * - 상품 ID를 shardCount개 샤드(item_id mod shardCount)로 나누고, 살아 있는 노드끼리 샤드를 나눠 맡는다.
+ * - 노드는 heartbeat마다 노드 목록(ZSET)에 자신을 갱신하고, rendezvous 해시로 자기 몫을 계산한 뒤
+ *   샤드별 리스 키를 획득/연장한다. 몫이 아닌 리스는 내려놓으므로 두 노드가 같은 샤드를 동시에 맡지 않는다.
+ * - 노드가 죽으면 노드 목록과 리스가 만료되고, 남은 노드가 다음 heartbeat에서 그 샤드를 가져간다.
+ * - Redis에 닿지 않으면 모든 샤드를 맡는다. (중복 처리는 생겨도 마감 누락은 없도록, 마감은 행 락으로 중복에 안전)
+ *   중복되면 안 되는 작업(종료 전 알림 등)은 ownsExclusively로 거르며, 이는 마지막으로 확인한 리스가 유효한 동안만 참이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterShardCoordinator {
+
+    private static final String KEY_NODES = "auction:cluster:{shards}:nodes";   // ZSET nodeId → 마지막 heartbeat(ms)
+    private static final String KEY_LEASE = "auction:cluster:{shards}:lease:"; // lease:{shard} → nodeId
+
+    /*
+     KEYS = 샤드별 리스 키 (0..shardCount-1 순서)
+     ARGV[1] = nodeId, ARGV[2] = 리스 기간(ms), ARGV[2 + i] = i번째 키가 이 노드 몫이면 '1'
+     반환: 이 노드가 리스를 가진 샤드 번호 목록
+     */
+    private static final DefaultRedisScript<List> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local owned = {}
+            for i, key in ipairs(KEYS) do
+              local owner = redis.call('GET', key)
+              if ARGV[i + 2] == '1' then
+                if not owner or owner == ARGV[1] then
+                  redis.call('SET', key, ARGV[1], 'PX', ARGV[2])
+                  table.insert(owned, i - 1)
+                end
+              elseif owner == ARGV[1] then
+                redis.call('DEL', key)
+              end
+            end
+            return owned
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher publisher;
+
+    @Value("${auction.cluster.node-id:${HOSTNAME:}}")
+    private String nodeId;
+
+    @Value("${auction.cluster.shards:64}")
+    private int shardCount;
+
+    @Value("${auction.cluster.lease-ms:10000}")
+    private long leaseMillis;
+
+    private List<String> leaseKeys;
+    private volatile Set<Integer> ownedShards = Set.of();
+    private volatile Set<Integer> leasedShards = Set.of(); // 마지막으로 Redis에서 리스를 확인한 샤드
+    private volatile long leasedUntil;                      // 그 리스의 만료 시각(ms)
+    private volatile boolean degraded = false;
+
+    @PostConstruct
+    void start() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+        leaseKeys = IntStream.range(0, shardCount).mapToObj(shard -> KEY_LEASE + shard).toList();
+        ownedShards = renew();
+        log.info("[CLUSTER] node started: nodeId={}, shards={}/{}", nodeId, ownedShards.size(), shardCount);
+    }
+
+    @PreDestroy
+    void stop() {
+        try {
+            // 리스 만료를 기다리지 않고 바로 넘겨준다
+            stringRedisTemplate.opsForZSet().remove(KEY_NODES, nodeId);
+            executeLease(Set.of());
+        } catch (Exception e) {
+            log.warn("[CLUSTER] lease release on shutdown failed: nodeId={}", nodeId, e);
+        }
+    }
+
+    public int shardOf(Long itemId) {
+        return (int) Math.floorMod(itemId, (long) shardCount);
+    }
+
+    // 이 노드가 해당 상품의 주기 작업(마감 안전망, 종료 전 알림 등)을 맡는지
+    public boolean owns(Long itemId) {
+        return ownedShards.contains(shardOf(itemId));
+    }
+
+    /**
+     * 리스로 확인된 샤드의 상품인지 (노드마다 실행되면 안 되는 작업용)
+     * - Redis 장애 중에도 리스 기간 동안은 마지막으로 확인한 샤드를 유지하고, 그 뒤에는 어느 샤드도 맡지 않는다.
+     *   (다른 노드가 같은 샤드를 가져갔을 수 있으므로)
+     */
+    public boolean ownsExclusively(Long itemId) {
+        return System.currentTimeMillis() < leasedUntil && leasedShards.contains(shardOf(itemId));
+    }
+
+    public Set<Integer> ownedShards() {
+        return ownedShards;
+    }
+
+    /**
+     * heartbeat + 리스 갱신 (리스 기간의 1/3 주기 권장)
+     * - 담당 샤드가 바뀌면 ShardOwnershipChangedEvent를 발행한다.
+     */
+    @Scheduled(fixedDelayString = "${auction.cluster.heartbeat-ms:3000}",
+            initialDelayString = "${auction.cluster.heartbeat-ms:3000}")
+    public void heartbeat() {
+        Set<Integer> previous = ownedShards;
+        Set<Integer> current = renew();
+        ownedShards = current;
+
+        if (current.equals(previous)) {
+            return;
+        }
+        Set<Integer> acquired = new HashSet<>(current);
+        acquired.removeAll(previous);
+        Set<Integer> released = new HashSet<>(previous);
+        released.removeAll(current);
+
+        log.info("[CLUSTER] shard ownership changed: nodeId={}, owned={}, acquired={}, released={}",
+                nodeId, current.size(), acquired.size(), released.size());
+        publisher.publishEvent(new ShardOwnershipChangedEvent(Set.copyOf(acquired), Set.copyOf(released)));
+    }
+
+    // 노드 목록 갱신 → 몫 계산 → 리스 획득/반납. 실패 시 전체 샤드
+    private Set<Integer> renew() {
+        try {
+            long now = System.currentTimeMillis();
+            stringRedisTemplate.opsForZSet().add(KEY_NODES, nodeId, now);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(KEY_NODES, Double.NEGATIVE_INFINITY, now - leaseMillis);
+            Set<String> liveNodes = stringRedisTemplate.opsForZSet().range(KEY_NODES, 0, -1);
+
+            Set<Integer> owned = executeLease(desiredShards(liveNodes));
+            leasedShards = owned;
+            leasedUntil = now + leaseMillis;
+            if (degraded) {
+                degraded = false;
+                log.info("[CLUSTER] redis reachable again, shard leases resumed: nodeId={}", nodeId);
+            }
+            return owned;
+        } catch (Exception e) {
+            if (!degraded) {
+                degraded = true;
+                log.warn("[CLUSTER] redis unreachable, taking all shards until it recovers: nodeId={}", nodeId, e);
+            }
+            return IntStream.range(0, shardCount).boxed().collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    // rendezvous 해시: 샤드마다 (노드, 샤드) 점수가 가장 높은 노드가 주인 → 노드 증감 시 해당 노드 몫만 이동
+    private Set<Integer> desiredShards(Set<String> liveNodes) {
+        Set<Integer> desired = new HashSet<>();
+        if (liveNodes == null || liveNodes.isEmpty()) {
+            return desired;
+        }
+        for (int shard = 0; shard < shardCount; shard++) {
+            String owner = null;
+            long best = Long.MIN_VALUE;
+            for (String node : liveNodes) {
+                long score = mix(((long) node.hashCode() << 32) ^ shard);
+                if (owner == null || score > best || (score == best && node.compareTo(owner) < 0)) {
+                    owner = node;
+                    best = score;
+                }
+            }
+            if (nodeId.equals(owner)) {
+                desired.add(shard);
+            }
+        }
+        return desired;
+    }
+
+    private Set<Integer> executeLease(Set<Integer> desired) {
+        List<String> args = new ArrayList<>(shardCount + 2);
+        args.add(nodeId);
+        args.add(String.valueOf(leaseMillis));
+        for (int shard = 0; shard < shardCount; shard++) {
+            args.add(desired.contains(shard) ? "1" : "0");
+        }
+
+        List<?> reply = stringRedisTemplate.execute(LEASE_SCRIPT, leaseKeys, args.toArray());
+        if (reply == null) {
+            return Set.of();
+        }
+        return reply.stream()
+                .map(value -> ((Number) value).intValue())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,10 @@
+package com.salemale.global.common.cluster;
+
+import java.util.Set;
+
+/*
+ 이 노드가 담당하는 샤드가 바뀌었음을 알리는 이벤트.
+ - acquired: 새로 맡게 된 샤드 (이 샤드의 상품은 다시 적재해야 함)
+ - released: 다른 노드로 넘긴 샤드
+ */
+public record ShardOwnershipChangedEvent(Set<Integer> acquired, Set<Integer> released) {}
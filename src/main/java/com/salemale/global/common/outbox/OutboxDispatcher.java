@@ -0,0 +1,231 @@
+package com.salemale.global.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스 디스패처
+ * - 전달 대기 이벤트를 FOR UPDATE SKIP LOCKED로 배치 선점(리스)하고, outboxDispatchExecutor에서 처리기에 넘긴다.
+ *   여러 노드가 떠 있어도 한 이벤트는 한 노드만 선점한다.
+ * - 선점 시 next_attempt_at을 리스 만료 시각으로 미뤄 두므로, 처리 중 노드가 죽으면 리스가 끝난 뒤 다시 전달된다.
+ * - 커밋 직후 OutboxWriter가 wakeUp()으로 깨우고, 놓친 이벤트와 재시도는 주기 폴링이 처리한다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final String CLAIM_SQL = """
+            UPDATE outbox_event o
+               SET attempts        = o.attempts + 1,
+                   next_attempt_at = :leaseUntil
+             WHERE o.outbox_id IN (SELECT outbox_id
+                                     FROM outbox_event
+                                    WHERE status = 'PENDING'
+                                      AND next_attempt_at <= :now
+                                    ORDER BY outbox_id
+                                    LIMIT :limit
+                                      FOR UPDATE SKIP LOCKED)
+            RETURNING o.outbox_id, o.event_type, o.dedup_key, o.payload, o.attempts
+            """;
+
+    private static final String MARK_DONE_SQL = """
+            UPDATE outbox_event
+               SET status = 'DONE', processed_at = :now, last_error = NULL
+             WHERE outbox_id IN (:ids)
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE outbox_event
+               SET status          = CASE WHEN attempts >= :maxAttempts THEN 'DEAD' ELSE 'PENDING' END,
+                   next_attempt_at = :nextAttemptAt,
+                   last_error      = :error
+             WHERE outbox_id = :id
+            """;
+
+    private static final String PURGE_DONE_SQL = """
+            DELETE FROM outbox_event
+             WHERE outbox_id IN (SELECT outbox_id
+                                   FROM outbox_event
+                                  WHERE status = 'DONE'
+                                    AND processed_at < :before
+                                  LIMIT :limit)
+            """;
+
+    private static final int PURGE_CHUNK = 5000;
+    private static final long MAX_BACKOFF_MILLIS = 300_000L;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Executor executor;
+    private final Map<OutboxEventType, OutboxHandler> handlers = new EnumMap<>(OutboxEventType.class);
+
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.backoff-ms:1000}")
+    private long backoffMillis;
+
+    @Value("${outbox.lease-ms:60000}")
+    private long leaseMillis;
+
+    @Value("${outbox.retention-days:7}")
+    private long retentionDays;
+
+    public OutboxDispatcher(NamedParameterJdbcTemplate jdbcTemplate,
+                            @Qualifier("outboxDispatchExecutor") Executor executor,
+                            List<OutboxHandler> handlers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+        for (OutboxHandler handler : handlers) {
+            if (this.handlers.put(handler.type(), handler) != null) {
+                throw new IllegalStateException("아웃박스 처리기 중복: " + handler.type());
+            }
+        }
+    }
+
+    /**
+     * 전달 시작 요청 (여러 번 불려도 대기 중인 요청 하나로 합쳐짐)
+     */
+    public void wakeUp() {
+        if (!wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                wakeUpPending.set(false);
+                dispatch();
+            });
+        } catch (RejectedExecutionException e) {
+            // 풀이 가득 차 있으면 이미 전달 중이므로 다음 폴링에 맡긴다
+            wakeUpPending.set(false);
+        }
+    }
+
+    // 놓친 이벤트 + 재시도 대상 폴링
+    @Scheduled(fixedDelayString = "${outbox.poll-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    // 오래된 완료 이벤트 정리 (매일 04:30)
+    @Scheduled(cron = "${outbox.purge-cron:0 30 4 * * *}")
+    public void purge() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_DONE_SQL, new MapSqlParameterSource()
+                    .addValue("before", before)
+                    .addValue("limit", PURGE_CHUNK));
+            total += deleted;
+        } while (deleted == PURGE_CHUNK);
+        log.info("[OUTBOX] purged done events: {}", total);
+    }
+
+    /**
+     * 대기 이벤트가 없을 때까지 배치 단위로 선점 → 처리 → 결과 반영
+     * - 노드 안에서는 한 번에 하나의 루프만 돈다. (나머지 요청은 바로 반환)
+     */
+    private void dispatch() {
+        if (!dispatchLock.tryLock()) {
+            return;
+        }
+        try {
+            while (true) {
+                List<OutboxMessage> batch = claim();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                deliver(batch);
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[OUTBOX] dispatch failed", e);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    private List<OutboxMessage> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> batch = new ArrayList<>(jdbcTemplate.query(CLAIM_SQL, new MapSqlParameterSource()
+                        .addValue("now", Timestamp.valueOf(now))
+                        .addValue("leaseUntil", Timestamp.valueOf(now.plusNanos(leaseMillis * 1_000_000L)))
+                        .addValue("limit", batchSize),
+                (rs, rowNum) -> new OutboxMessage(
+                        rs.getLong("outbox_id"),
+                        OutboxEventType.valueOf(rs.getString("event_type")),
+                        rs.getString("dedup_key"),
+                        rs.getString("payload"),
+                        rs.getInt("attempts")
+                )));
+        // RETURNING 순서는 보장되지 않으므로 기록 순서로 정렬
+        batch.sort(Comparator.comparing(OutboxMessage::outboxId));
+        return batch;
+    }
+
+    private void deliver(List<OutboxMessage> batch) {
+        List<Long> done = new ArrayList<>(batch.size());
+        List<MapSqlParameterSource> failed = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (OutboxMessage message : batch) {
+            OutboxHandler handler = handlers.get(message.eventType());
+            try {
+                if (handler == null) {
+                    throw new IllegalStateException("처리기가 없는 아웃박스 이벤트: " + message.eventType());
+                }
+                handler.handle(message);
+                done.add(message.outboxId());
+            } catch (Exception e) {
+                log.warn("[OUTBOX] delivery failed: id={}, type={}, key={}, attempts={}",
+                        message.outboxId(), message.eventType(), message.dedupKey(), message.attempts(), e);
+                failed.add(new MapSqlParameterSource()
+                        .addValue("id", message.outboxId())
+                        .addValue("maxAttempts", maxAttempts)
+                        .addValue("nextAttemptAt", Timestamp.valueOf(now.plusNanos(backoff(message.attempts()) * 1_000_000L)))
+                        .addValue("error", String.valueOf(e.getMessage())));
+            }
+        }
+
+        if (!done.isEmpty()) {
+            jdbcTemplate.update(MARK_DONE_SQL, new MapSqlParameterSource()
+                    .addValue("ids", done)
+                    .addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+        }
+        if (!failed.isEmpty()) {
+            jdbcTemplate.batchUpdate(MARK_FAILED_SQL, failed.toArray(MapSqlParameterSource[]::new));
+        }
+        log.debug("[OUTBOX] delivered: done={}, failed={}", done.size(), failed.size());
+    }
+
+    // 지수 백오프 (backoff-ms x 2^(시도-1), 최대 5분)
+    private long backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(backoffMillis << shift, MAX_BACKOFF_MILLIS);
+    }
+}
@@ -0,0 +1,8 @@
+package com.salemale.global.common.outbox;
+
+// 아웃박스로 전달하는 이벤트 종류 (OutboxHandler가 하나씩 담당)
+public enum OutboxEventType {
+    AUCTION_CLOSED, // 낙찰 확정 → 채팅방 자동 생성
+    MESSAGE_SENT,   // 채팅 메시지 저장 → WS 브로드캐스트
+    CHAT_IMAGE_SENT // 채팅 이미지 메시지 저장 → 썸네일/중간 크기 변형본 생성
+}
@@ -0,0 +1,13 @@
+package com.salemale.global.common.outbox;
+
+/**
+ * 아웃박스 이벤트 처리기
+ * - 전달은 최소 한 번(at-least-once)이므로 같은 이벤트가 다시 와도 결과가 같아야 한다.
+ * - 예외를 던지면 백오프 후 재시도하고, 최대 횟수를 넘기면 DEAD로 남긴다.
+ */
+public interface OutboxHandler {
+
+    OutboxEventType type();
+
+    void handle(OutboxMessage message) throws Exception;
+}
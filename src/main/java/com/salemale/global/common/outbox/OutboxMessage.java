@@ -0,0 +1,15 @@
+package com.salemale.global.common.outbox;
+
+/**
+ * 전달 대상 아웃박스 이벤트
+ *
+ * @param attempts 이번 전달을 포함한 시도 횟수
+ */
+public record OutboxMessage(
+        Long outboxId,
+        OutboxEventType eventType,
+        String dedupKey,
+        String payload,
+        int attempts
+) {
+}
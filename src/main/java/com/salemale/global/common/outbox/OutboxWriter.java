@@ -0,0 +1,83 @@
+package com.salemale.global.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 아웃박스 기록 (호출 측 트랜잭션 안에서만)
+ * - 도메인 변경과 함께 커밋되거나 함께 롤백된다.
+ * - 커밋되면 디스패처를 바로 깨워, 폴링 주기를 기다리지 않고 전달을 시작한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_event (event_type, dedup_key, payload, status, attempts, next_attempt_at, created_at)
+            VALUES (:eventType, :dedupKey, CAST(:payload AS jsonb), 'PENDING', 0, :now, :now)
+            ON CONFLICT (event_type, dedup_key) DO NOTHING
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxDispatcher dispatcher;
+
+    /**
+     * 이벤트 1건 기록
+     *
+     * @param dedupKey 같은 종류 안에서 이벤트를 식별하는 키 (이미 있으면 무시)
+     * @param payload  JSON으로 직렬화할 이벤트 본문
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, String dedupKey, Object payload) {
+        appendAll(type, Map.of(dedupKey, payload));
+    }
+
+    /**
+     * 같은 종류의 이벤트 여러 건을 배치 INSERT 한 번으로 기록
+     *
+     * @param payloads dedupKey → 이벤트 본문
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(OutboxEventType type, Map<String, ?> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        MapSqlParameterSource[] rows = payloads.entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("eventType", type.name())
+                        .addValue("dedupKey", e.getKey())
+                        .addValue("payload", toJson(e.getValue()))
+                        .addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.wakeUp();
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
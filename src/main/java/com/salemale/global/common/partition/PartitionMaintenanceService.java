@@ -0,0 +1,197 @@
+package com.salemale.global.common.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 월 단위 파티션 테이블(alarm, message) 관리 (V16 마이그레이션 참고)
+ * - 이번 달부터 months-ahead개월 뒤까지 파티션을 미리 만들어 두어 새 행이 기본 파티션으로 가지 않게 한다.
+ * - 보관 기간(retention-months, 0이면 무기한)이 지난 파티션은 실행마다 drop-batch개씩 분리 후 제거한다.
+ * - 알람은 삭제 표시 후 deleted-retention-days가 지난 행을 청크 단위로 지운다.
+ * - 만들 달의 행이 이미 기본 파티션({parent}_default)에 들어와 있으면 그대로는 CREATE가 실패하므로,
+ *   같은 트랜잭션에서 기본 파티션을 분리 → 새 파티션 생성 → 해당 달 행 이동 → 기본 파티션 재연결 순으로 처리하고 경고를 남긴다.
+ * - 단계/파티션마다 따로 실행하고 오류도 따로 잡으므로 하나가 실패해도 나머지 작업은 진행된다.
+ * - DDL은 advisory lock 아래에서 실행하므로 여러 노드가 동시에 돌아도 한 노드씩 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionMaintenanceService implements ApplicationRunner {
+
+    private static final long LOCK_KEY = 0x5A1E_0001L; // pg_advisory_xact_lock 키 (파티션 관리 전용)
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("^(alarm|message)_p(\\d{6})$");
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname
+              FROM pg_inherits i
+              JOIN pg_class c ON c.oid = i.inhrelid
+              JOIN pg_class p ON p.oid = i.inhparent
+             WHERE p.relname = ?
+             ORDER BY c.relname
+            """;
+
+    private static final String PURGE_DELETED_ALARMS_SQL = """
+            DELETE FROM alarm
+             WHERE (alarm_id, created_at) IN (SELECT alarm_id, created_at
+                                                FROM alarm
+                                               WHERE deleted_at < ?
+                                               LIMIT ?)
+            """;
+
+    private static final int PURGE_CHUNK = 5000;
+
+    // 부모 테이블 → 파티션 키 컬럼
+    private static final Map<String, String> PARTITION_KEYS = Map.of(
+            "alarm", "created_at",
+            "message", "sent_at"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${partition.drop-batch:3}")
+    private int dropBatch;
+
+    @Value("${partition.alarm.retention-months:12}")
+    private int alarmRetentionMonths;
+
+    @Value("${partition.alarm.deleted-retention-days:30}")
+    private int deletedAlarmRetentionDays;
+
+    @Value("${partition.message.retention-months:0}")
+    private int messageRetentionMonths;
+
+    // 기동 시 앞으로 쓸 파티션부터 확인 (장기간 중단 후 재기동 대비)
+    @Override
+    public void run(ApplicationArguments args) {
+        runStep("create future partitions", this::createFuturePartitions);
+    }
+
+    // 매일 03:10 (실패한 단계는 다음 주기에 이어서 처리, 미리 만들어 둔 달 수만큼 여유가 있음)
+    @Scheduled(cron = "${partition.maintenance-cron:0 10 3 * * *}")
+    public void maintain() {
+        runStep("create future partitions", this::createFuturePartitions);
+        runStep("drop expired alarm partitions", () -> dropExpiredPartitions("alarm", alarmRetentionMonths));
+        runStep("drop expired message partitions", () -> dropExpiredPartitions("message", messageRetentionMonths));
+        runStep("purge deleted alarms", this::purgeDeletedAlarms);
+    }
+
+    private void runStep(String step, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("[PARTITION] {} failed", step, e);
+        }
+    }
+
+    private void createFuturePartitions() {
+        YearMonth current = YearMonth.now();
+        for (String parent : PARTITION_KEYS.keySet()) {
+            for (int i = 0; i <= monthsAhead; i++) {
+                YearMonth month = current.plusMonths(i);
+                runStep("create partition " + partitionName(parent, month),
+                        () -> transactionTemplate.executeWithoutResult(status -> createPartition(parent, month)));
+            }
+        }
+    }
+
+    // 트랜잭션 안에서 호출 (실패 시 분리한 기본 파티션도 함께 롤백)
+    private void createPartition(String parent, YearMonth month) {
+        lock();
+        String partition = partitionName(parent, month);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+
+        String bounds = " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+        String defaultPartition = parent + "_default";
+        String range = PARTITION_KEYS.get(parent) + " >= '" + month.atDay(1) + "' AND "
+                + PARTITION_KEYS.get(parent) + " < '" + month.plusMonths(1).atDay(1) + "'";
+
+        Boolean stray = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + defaultPartition + " WHERE " + range + ")", Boolean.class);
+        if (!Boolean.TRUE.equals(stray)) {
+            jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + parent + bounds);
+            return;
+        }
+
+        // 기본 파티션에 이미 들어온 달: 분리한 채로 새 파티션을 만들고 행을 옮긴 뒤 다시 연결
+        jdbcTemplate.execute("ALTER TABLE " + parent + " DETACH PARTITION " + defaultPartition);
+        jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + parent + bounds);
+        int moved = jdbcTemplate.update("INSERT INTO " + partition + " SELECT * FROM " + defaultPartition + " WHERE " + range);
+        jdbcTemplate.update("DELETE FROM " + defaultPartition + " WHERE " + range);
+        jdbcTemplate.execute("ALTER TABLE " + parent + " ATTACH PARTITION " + defaultPartition + " DEFAULT");
+        log.warn("[PARTITION] rows found in default partition, moved: partition={}, rows={}", partition, moved);
+    }
+
+    /**
+     * 보관 기간이 지난 월 파티션 제거
+     * - 파티션의 마지막 날이 (이번 달 - retentionMonths) 1일 이전인 것만 대상
+     * - 한 번에 drop-batch개까지만 지워 부모 테이블 잠금 시간을 짧게 유지한다.
+     */
+    private void dropExpiredPartitions(String parent, int retentionMonths) {
+        if (retentionMonths <= 0) {
+            return;
+        }
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        List<String> expired = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, parent).stream()
+                .filter(name -> {
+                    Matcher matcher = PARTITION_NAME.matcher(name);
+                    return matcher.matches() && YearMonth.parse(matcher.group(2), SUFFIX).isBefore(cutoff);
+                })
+                .limit(dropBatch)
+                .toList();
+
+        for (String partition : expired) {
+            runStep("drop partition " + partition, () -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    lock();
+                    jdbcTemplate.execute("ALTER TABLE " + parent + " DETACH PARTITION " + partition);
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                });
+                log.info("[PARTITION] dropped expired partition: {}", partition);
+            });
+        }
+    }
+
+    private void purgeDeletedAlarms() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minusDays(deletedAlarmRetentionDays));
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_DELETED_ALARMS_SQL, before, PURGE_CHUNK);
+            total += deleted;
+        } while (deleted == PURGE_CHUNK);
+        log.info("[PARTITION] purged deleted alarms: {}", total);
+    }
+
+    private void lock() {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + LOCK_KEY + ")");
+    }
+
+    // 테이블/컬럼명은 상수, 접미사와 날짜는 YearMonth에서 만들므로 SQL에 직접 넣어도 안전
+    private static String partitionName(String parent, YearMonth month) {
+        return parent + "_p" + month.format(SUFFIX);
+    }
+}
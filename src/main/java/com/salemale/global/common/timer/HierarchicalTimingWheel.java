@@ -0,0 +1,161 @@
+package com.salemale.global.common.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠 (키 단위 예약/취소/재예약)
+ * - 0단계는 tickMillis 간격의 슬롯 wheelSize개, k단계는 tickMillis * wheelSize^k 간격의 슬롯 wheelSize개로 구성된다.
+ * - 먼 마감은 상위 단계 슬롯에 있다가 그 슬롯 시각이 되면 하위 단계로 내려오므로(cascade),
+ *   예약/취소는 O(1)이고 만료 확인은 현재 슬롯만 보면 된다.
+ * - 마감 시각은 tick 단위로 올림하므로 실제 마감보다 일찍 만료되지 않는다. (최대 tick 만큼 늦음)
+ * - 모든 메서드는 동기화되어 있어 예약 스레드와 틱 스레드가 달라도 된다.
+ *
+ * @param <K> 예약 키 타입 (같은 키로 다시 예약하면 이전 예약을 대체)
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelTicks;              // 단계별 슬롯 간격
+    private final List<List<Set<Entry<K>>>> levels; // 단계 → 슬롯 → 항목
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    private long currentTime; // 마지막으로 처리한 tick 시각
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("invalid timing wheel configuration");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelTicks = new long[levelCount];
+        this.levels = new ArrayList<>(levelCount);
+
+        long tick = tickMillis;
+        for (int level = 0; level < levelCount; level++) {
+            levelTicks[level] = tick;
+            List<Set<Entry<K>>> slots = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            levels.add(slots);
+            tick = Math.multiplyExact(tick, wheelSize);
+        }
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+    }
+
+    /**
+     * 예약 (이미 있는 키면 마감 시각 변경)
+     *
+     * @return 휠에 들어갔으면 true, 이미 지난 마감이거나 휠 범위를 넘으면 false (예약되지 않음)
+     */
+    public synchronized boolean schedule(K key, long deadlineMillis) {
+        cancel(key);
+        Entry<K> entry = new Entry<>(key, roundUp(deadlineMillis));
+        if (!place(entry)) {
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    // 예약 취소 (없으면 false)
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.slot.remove(entry);
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // 휠이 담을 수 있는 최대 범위 (현재 시각 기준)
+    public long horizonMillis() {
+        return levelTicks[levelTicks.length - 1] * wheelSize;
+    }
+
+    /**
+     * 현재 시각까지 tick을 진행하며 만료된 키를 돌려준다.
+     *
+     * @param nowMillis 현재 시각 (epoch ms)
+     * @return 만료된 키 (마감 시각 순)
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+
+            // 상위 단계부터 현재 시각에 해당하는 슬롯을 비우고 다시 배치 (하위 단계로 내려가거나 만료)
+            for (int level = levelTicks.length - 1; level >= 0; level--) {
+                if (currentTime % levelTicks[level] != 0) {
+                    continue;
+                }
+                Set<Entry<K>> slot = slotOf(level, currentTime);
+                if (slot.isEmpty()) {
+                    continue;
+                }
+                List<Entry<K>> drained = new ArrayList<>(slot);
+                slot.clear();
+                for (Entry<K> entry : drained) {
+                    if (!place(entry)) {
+                        entries.remove(entry.key);
+                        expired.add(entry.key);
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    // 가장 낮은 단계부터 들어갈 수 있는 슬롯에 배치 (이미 만료되었거나 범위 밖이면 false)
+    private boolean place(Entry<K> entry) {
+        if (entry.deadline <= currentTime) {
+            return false;
+        }
+        for (int level = 0; level < levelTicks.length; level++) {
+            long levelStart = currentTime - Math.floorMod(currentTime, levelTicks[level]);
+            if (entry.deadline < levelStart + levelTicks[level] * wheelSize) {
+                Set<Entry<K>> slot = slotOf(level, entry.deadline);
+                slot.add(entry);
+                entry.slot = slot;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<Entry<K>> slotOf(int level, long time) {
+        int index = (int) Math.floorMod(Math.floorDiv(time, levelTicks[level]), (long) wheelSize);
+        return levels.get(level).get(index);
+    }
+
+    private long roundUp(long millis) {
+        long remainder = Math.floorMod(millis, tickMillis);
+        return remainder == 0 ? millis : millis - remainder + tickMillis;
+    }
+
+    // 슬롯 항목 (동일성 비교로 슬롯에서 제거)
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadline;
+        private Set<Entry<K>> slot;
+
+        private Entry(K key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+}
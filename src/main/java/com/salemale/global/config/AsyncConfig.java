@@ -23,6 +23,43 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
 
+    // 경매 종료 타이머가 만료된 상품의 마감 트랜잭션을 실행하는 풀 (가득 차면 타이머 스레드가 직접 실행)
+    @Bean(name = "auctionCloseExecutor")
+    public Executor auctionCloseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("auction-close-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 아웃박스 전달 루프 실행 풀 (노드당 루프는 하나만 돌고, 넘치는 깨우기 요청은 버려도 폴링이 처리)
+    @Bean(name = "outboxDispatchExecutor")
+    public Executor outboxDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("outbox-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
 
+    // 채팅 이미지 변형본 생성 풀 (아웃박스 루프와 분리, 가득 차면 거절 → 아웃박스가 백오프 후 재전달)
+    @Bean(name = "chatImageExecutor")
+    public Executor chatImageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("chat-image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,89 @@
+package com.salemale.global.ws;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션 이벤트 → PresenceService
+ * - CONNECT(Principal = userId, StompUserInterceptor에서 설정)로 접속, DISCONNECT로 종료
+ * - /topic/chats/{chatId}, /topic/auctions/{itemId} 구독을 각각 채팅방/경매 시청으로 본다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresenceListener {
+
+    private static final String CHAT_TOPIC = "/topic/chats/";
+    private static final String AUCTION_TOPIC = "/topic/auctions/";
+
+    private final PresenceService presenceService;
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long userId = userId(event.getUser());
+        if (userId != null && accessor.getSessionId() != null) {
+            presenceService.connected(accessor.getSessionId(), userId);
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String target = target(accessor.getDestination());
+        if (target != null && accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+            presenceService.subscribed(accessor.getSessionId(), accessor.getSubscriptionId(), target);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+            presenceService.unsubscribed(accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        presenceService.disconnected(event.getSessionId());
+    }
+
+    // 시청 대상으로 보는 구독만 (그 외 목적지는 null)
+    private String target(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        try {
+            if (destination.startsWith(CHAT_TOPIC)) {
+                return PresenceService.chatTarget(Long.valueOf(destination.substring(CHAT_TOPIC.length())));
+            }
+            if (destination.startsWith(AUCTION_TOPIC)) {
+                return PresenceService.itemTarget(Long.valueOf(destination.substring(AUCTION_TOPIC.length())));
+            }
+        } catch (NumberFormatException e) {
+            log.debug("[PRESENCE] non-numeric destination ignored: {}", destination);
+        }
+        return null;
+    }
+
+    private Long userId(Principal principal) {
+        if (principal == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(principal.getName().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
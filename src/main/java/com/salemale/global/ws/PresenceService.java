@@ -0,0 +1,199 @@
+package com.salemale.global.ws;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속/시청 상태 (STOMP 세션 기준, 모든 노드 공유)
+ * - 접속: presence:online:{userId}, 시청: presence:view:{userId}:{target} (target = chat:{chatId} / item:{itemId})
+ *   각 키는 그 상태인 세션 ID의 SET이며, 마지막 세션이 빠지면 키도 사라진다.
+ * - heartbeat마다 이 노드 세션을 다시 SADD하고 만료를 연장하므로, Redis가 비워져도 다음 heartbeat에 복구된다.
+ * - 노드가 죽어 DISCONNECT를 못 받은 세션은 heartbeat가 멈추므로 ttl-seconds 뒤 자연히 사라진다.
+ * - isViewing / isOnline은 EXISTS 한 번(O(1))이며, 여러 건은 파이프라인 한 번으로 확인한다.
+ * - Redis 장애 시에는 "보고 있지 않음"으로 답해 알람이 빠지지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresenceService {
+
+    private static final String ONLINE_PREFIX = "presence:online:";
+    private static final String VIEW_PREFIX = "presence:view:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${presence.ttl-seconds:90}")
+    private long ttlSeconds;
+
+    // 이 노드에 붙은 세션 → 갱신할 키 (heartbeat / 연결 종료 정리용)
+    private final Map<String, LocalSession> sessions = new ConcurrentHashMap<>();
+
+    public static String chatTarget(Long chatId) {
+        return "chat:" + chatId;
+    }
+
+    public static String itemTarget(Long itemId) {
+        return "item:" + itemId;
+    }
+
+    public boolean isOnline(Long userId) {
+        return exists(ONLINE_PREFIX + userId);
+    }
+
+    public boolean isViewing(Long userId, String target) {
+        return exists(viewKey(userId, target));
+    }
+
+    /**
+     * 여러 (사용자, 대상)의 시청 여부를 한 번에 확인
+     *
+     * @return views와 같은 순서의 결과
+     */
+    public boolean[] areViewing(List<View> views) {
+        boolean[] result = new boolean[views.size()];
+        if (views.isEmpty()) {
+            return result;
+        }
+        try {
+            List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+                for (View view : views) {
+                    connection.keyCommands().exists(bytes(viewKey(view.userId(), view.target())));
+                }
+                return null;
+            });
+            for (int i = 0; i < replies.size(); i++) {
+                result[i] = Boolean.TRUE.equals(replies.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[PRESENCE] bulk view check failed: size={}", views.size(), e);
+        }
+        return result;
+    }
+
+    void connected(String sessionId, Long userId) {
+        sessions.put(sessionId, new LocalSession(userId));
+        add(ONLINE_PREFIX + userId, sessionId);
+    }
+
+    void subscribed(String sessionId, String subscriptionId, String target) {
+        LocalSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        session.targets().put(subscriptionId, target);
+        add(viewKey(session.userId(), target), sessionId);
+    }
+
+    void unsubscribed(String sessionId, String subscriptionId) {
+        LocalSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        String target = session.targets().remove(subscriptionId);
+        if (target != null && !session.targets().containsValue(target)) {
+            remove(viewKey(session.userId(), target), sessionId);
+        }
+    }
+
+    void disconnected(String sessionId) {
+        LocalSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        for (String target : List.copyOf(session.targets().values())) {
+            remove(viewKey(session.userId(), target), sessionId);
+        }
+        remove(ONLINE_PREFIX + session.userId(), sessionId);
+    }
+
+    /**
+     * 이 노드 세션들의 키 재등록 + 만료 연장 (파이프라인 한 번)
+     * - EXPIRE만 하면 Redis 재시작/장애 조치나 add 실패로 사라진 멤버가 돌아오지 않으므로 SADD도 다시 한다. (멱등)
+     */
+    @Scheduled(fixedDelayString = "${presence.heartbeat-ms:30000}")
+    public void heartbeat() {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> members = new HashMap<>(); // 키 → 이 노드 세션 ID
+        sessions.forEach((sessionId, session) -> {
+            members.computeIfAbsent(ONLINE_PREFIX + session.userId(), key -> new ArrayList<>()).add(sessionId);
+            for (String target : new HashSet<>(session.targets().values())) {
+                members.computeIfAbsent(viewKey(session.userId(), target), key -> new ArrayList<>()).add(sessionId);
+            }
+        });
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+                members.forEach((key, sessionIds) -> {
+                    byte[][] values = sessionIds.stream().map(PresenceService::bytes).toArray(byte[][]::new);
+                    connection.setCommands().sAdd(bytes(key), values);
+                    connection.keyCommands().expire(bytes(key), ttlSeconds);
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[PRESENCE] heartbeat failed: sessions={}", sessions.size(), e);
+        }
+    }
+
+    private void add(String key, String sessionId) {
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+                connection.setCommands().sAdd(bytes(key), bytes(sessionId));
+                connection.keyCommands().expire(bytes(key), ttlSeconds);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[PRESENCE] add failed: key={}", key, e);
+        }
+    }
+
+    private void remove(String key, String sessionId) {
+        try {
+            stringRedisTemplate.opsForSet().remove(key, sessionId);
+        } catch (RuntimeException e) {
+            // 남은 값은 TTL로 정리됨
+            log.warn("[PRESENCE] remove failed: key={}", key, e);
+        }
+    }
+
+    private boolean exists(String key) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+        } catch (RuntimeException e) {
+            log.warn("[PRESENCE] check failed: key={}", key, e);
+            return false;
+        }
+    }
+
+    private static String viewKey(Long userId, String target) {
+        return VIEW_PREFIX + userId + ":" + target;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public record View(Long userId, String target) {
+    }
+
+    private record LocalSession(Long userId, Map<String, String> targets) {
+        LocalSession(Long userId) {
+            this(userId, new ConcurrentHashMap<>());
+        }
+    }
+}
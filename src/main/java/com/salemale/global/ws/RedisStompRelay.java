@@ -0,0 +1,240 @@
+package com.salemale.global.ws;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 간 STOMP 브로드캐스트 중계 (ws.broker.mode=redis)
+ * - 각 노드는 기존처럼 SimpleBroker로 자기 노드 구독자에게 전달하고, 같은 메시지를 Redis pub/sub으로 다른 노드에 알린다.
+ * - 중계 대상은 서버가 brokerChannel로 보내는 /topic/** 과 /user/{userId}/** 메시지이며,
+ *   받은 노드는 brokerChannel에 다시 넣어 자기 노드의 구독자/사용자 세션에 전달한다. (세션별로 풀린 /queue/*-user* 는 중계하지 않음)
+ * - 발행은 메모리 큐(상한 있음)에 모았다가 batch-size개 또는 flush-ms마다 한 번에 PUBLISH 한다.
+ *   큐가 가득 차면 호출 스레드가 바로 발행한다. (유실 대신 배압)
+ * - Redis pub/sub은 전달을 보장하지 않으므로 끊겼던 동안의 메시지는 클라이언트가 REST(afterMessageId 등)로 따라잡는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ws.broker", name = "mode", havingValue = "redis")
+public class RedisStompRelay implements ChannelInterceptor {
+
+    private static final String CHANNEL = "ws:relay";
+    private static final String RELAYED_HEADER = "x-relayed"; // 다른 노드에서 받은 메시지 표시 (다시 중계하지 않음)
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final ObjectProvider<MessageChannel> brokerChannel; // WS 설정과의 순환 의존 차단
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${ws.broker.relay.capacity:10000}")
+    private int capacity;
+
+    @Value("${ws.broker.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${ws.broker.relay.flush-ms:20}")
+    private long flushMillis;
+
+    private BlockingQueue<Envelope> queue;
+    private Thread publisher;
+    private RedisMessageListenerContainer container;
+    private Counter overflow;
+    private Counter failed;
+    private volatile boolean running = true;
+
+    public RedisStompRelay(StringRedisTemplate stringRedisTemplate,
+                           RedisConnectionFactory connectionFactory,
+                           @Qualifier("brokerChannel") ObjectProvider<MessageChannel> brokerChannel,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.brokerChannel = brokerChannel;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(capacity);
+        meterRegistry.gaugeCollectionSize("ws.relay.queue.size", List.of(), queue);
+        overflow = meterRegistry.counter("ws.relay.overflow");
+        failed = meterRegistry.counter("ws.relay.failed");
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> receive(message.getBody()), new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        try {
+            container.start();
+        } catch (RuntimeException e) {
+            // Redis 장애 시에도 기동은 계속 (컨테이너가 재연결을 시도하고, 그동안은 자기 노드 구독자에게만 전달)
+            log.error("[WS] redis relay subscribe failed", e);
+        }
+
+        publisher = new Thread(this::run, "ws-relay-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+        log.info("[WS] redis relay started: nodeId={}", nodeId);
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        running = false;
+        publisher.interrupt();
+        publisher.join(TimeUnit.SECONDS.toMillis(5));
+
+        List<Envelope> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            publish(rest);
+        }
+        container.destroy();
+    }
+
+    /**
+     * brokerChannel 인터셉터: 서버가 보내는 브로드캐스트를 다른 노드에도 중계
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || accessor.getFirstNativeHeader(RELAYED_HEADER) != null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (destination == null || !(destination.startsWith("/topic/") || destination.startsWith("/user/"))) {
+            return message;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        Envelope envelope = new Envelope(
+                destination,
+                contentType == null ? null : contentType.toString(),
+                new String(payload, StandardCharsets.UTF_8)
+        );
+        if (!queue.offer(envelope)) {
+            overflow.increment();
+            publish(List.of(envelope));
+        }
+        return message;
+    }
+
+    private void run() {
+        List<Envelope> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Envelope first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 짧게 더 모아서 한 번에 발행
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushMillis);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Envelope next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                publish(batch);
+            } catch (InterruptedException e) {
+                // 종료 중: 모아 둔 묶음은 발행하고 나머지는 stop()이 처리
+                if (!batch.isEmpty()) {
+                    publish(batch);
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publish(List<Envelope> envelopes) {
+        try {
+            String body = objectMapper.writeValueAsString(new Batch(nodeId, envelopes));
+            stringRedisTemplate.convertAndSend(CHANNEL, body);
+        } catch (Exception e) {
+            // 로컬 구독자에게는 이미 전달됨, 다른 노드 구독자는 재접속/REST 조회로 복구
+            failed.increment(envelopes.size());
+            log.warn("[WS] relay publish failed: messages={}", envelopes.size(), e);
+        }
+    }
+
+    private void receive(byte[] body) {
+        Batch batch;
+        try {
+            batch = objectMapper.readValue(body, Batch.class);
+        } catch (Exception e) {
+            log.error("[WS] malformed relay batch skipped", e);
+            return;
+        }
+        if (nodeId.equals(batch.node())) {
+            return; // 자기 노드 구독자에게는 이미 전달함
+        }
+
+        MessageChannel channel = brokerChannel.getIfAvailable();
+        if (channel == null) {
+            return;
+        }
+        for (Envelope envelope : batch.messages()) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(envelope.destination());
+            if (envelope.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+            }
+            accessor.setNativeHeader(RELAYED_HEADER, batch.node());
+            accessor.setLeaveMutable(true);
+            MessageHeaders headers = accessor.getMessageHeaders();
+            channel.send(MessageBuilder.createMessage(envelope.payload().getBytes(StandardCharsets.UTF_8), headers));
+        }
+    }
+
+    // PUBLISH 한 번에 담기는 메시지 묶음
+    record Batch(String node, List<Envelope> messages) {
+    }
+
+    record Envelope(String destination, String contentType, String payload) {
+    }
+}
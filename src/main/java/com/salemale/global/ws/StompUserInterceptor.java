@@ -1,5 +1,9 @@
 package com.salemale.global.ws;
 
+import com.salemale.domain.user.entity.User;
+import com.salemale.domain.user.repository.UserRepository;
+import com.salemale.global.security.jwt.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -8,14 +12,30 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import java.security.Principal;
 
-@Component
+/**
+ * STOMP 인증 (clientInboundChannel)
+ * - CONNECT의 Authorization: Bearer {accessToken}을 JwtTokenProvider로 검증하고 Principal = subject(userId)로 설정한다.
+ *   토큰이 없거나 유효하지 않으면, 삭제된 계정이면 CONNECT를 거절한다. (ERROR 프레임 후 연결 종료)
+ * - /user/{userId}/** 개인 메시지(알람, 읽음 알림)와 접속/시청 상태는 모두 이 Principal 기준이다.
+ * - 세션별로 풀린 /queue/** 목적지를 직접 구독하는 것은 막는다. (반드시 /user/queue/** 로 구독)
+ */
 @Slf4j
+@Component
+@RequiredArgsConstructor
 public class StompUserInterceptor implements ChannelInterceptor {
 
+    private static final String BEARER = "Bearer ";
+    private static final String QUEUE_PREFIX = "/queue/";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+
     private static class SimplePrincipal implements Principal {
         private final String name;
         SimplePrincipal(String name) { this.name = name; }
@@ -28,23 +48,53 @@ public class StompUserInterceptor implements ChannelInterceptor {
         StompHeaderAccessor acc = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
         if (acc == null) return message;
 
-        // CONNECT: user_id principal로 심는다
+        // CONNECT: 토큰 검증 후 subject(userId)를 principal로 심는다
         if (StompCommand.CONNECT.equals(acc.getCommand())) {
-            String userId = acc.getFirstNativeHeader("user_id");
-            log.info("[WS] CONNECT headers={} user_id={}", acc.toNativeHeaderMap(), userId);
-            if (userId != null && !userId.isBlank()) {
-                acc.setUser(new SimplePrincipal(userId));
+            Long userId = authenticate(acc.getFirstNativeHeader("Authorization"));
+            acc.setUser(new SimplePrincipal(String.valueOf(userId)));
+            log.debug("[WS] CONNECT authenticated: userId={}, sessionId={}", userId, acc.getSessionId());
+            return message;
+        }
+
+        // 그 외 프레임: 세션에 보관된 simpUser가 헤더에 실려오는데,
+        // 혹시 비어있으면 다시 매핑해준다(환경 따라 null이 되는 경우 방지)
+        if (acc.getUser() == null) {
+            Object simpUser = message.getHeaders().get(SimpMessageHeaderAccessor.USER_HEADER);
+            if (simpUser instanceof Principal p) {
+                acc.setUser(p);
             }
-        } else {
-            // 그 외 프레임: 세션에 보관된 simpUser가 헤더에 실려오는데,
-            // 혹시 비어있으면 다시 매핑해준다(환경 따라 null이 되는 경우 방지)
-            if (acc.getUser() == null) {
-                Object simpUser = message.getHeaders().get(SimpMessageHeaderAccessor.USER_HEADER);
-                if (simpUser instanceof Principal p) {
-                    acc.setUser(p);
-                }
+        }
+
+        // 다른 사용자 세션의 큐(/queue/alarms-user{sessionId} 등) 직접 구독 차단
+        if (StompCommand.SUBSCRIBE.equals(acc.getCommand())) {
+            String destination = acc.getDestination();
+            if (destination != null && destination.startsWith(QUEUE_PREFIX)) {
+                throw new AccessDeniedException("개인 큐는 /user" + QUEUE_PREFIX + " 로만 구독할 수 있습니다.");
             }
         }
         return message;
     }
+
+    // Authorization 헤더의 액세스 토큰 검증 → userId (실패 시 AccessDeniedException)
+    private Long authenticate(String authorization) {
+        if (!StringUtils.hasText(authorization) || !authorization.startsWith(BEARER)) {
+            throw new AccessDeniedException("STOMP CONNECT에 Authorization 헤더가 없습니다.");
+        }
+
+        Long userId;
+        try {
+            String subject = jwtTokenProvider.getSubjectIfTokenType(authorization.substring(BEARER.length()), "access");
+            userId = Long.valueOf(subject.trim());
+        } catch (Exception e) {
+            // 서명 불일치/만료/리프레시 토큰/숫자가 아닌 subject
+            throw new AccessDeniedException("유효하지 않은 토큰입니다.");
+        }
+
+        // 삭제 계정은 기존 토큰으로도 접속 불가 (JwtAuthenticationFilter와 동일)
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null || user.getDeletedAt() != null) {
+            throw new AccessDeniedException("접속할 수 없는 사용자입니다.");
+        }
+        return userId;
+    }
 }
@@ -1,6 +1,8 @@
 package com.salemale.global.ws;
 
+import com.salemale.domain.chat.listener.ChatRecentMessageBuffer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -13,6 +15,8 @@ import org.springframework.web.socket.config.annotation.*;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompUserInterceptor stompUserInterceptor; // 주입됨
+    private final ObjectProvider<RedisStompRelay> redisStompRelay; // ws.broker.mode=redis일 때만 존재
+    private final ObjectProvider<ChatRecentMessageBuffer> recentMessageBuffer; // 재접속 따라잡기용 최근 메시지
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
@@ -34,8 +38,17 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        registry.enableSimpleBroker("/topic", "/queue");
+
+        // 다중 노드: 서버가 보내는 /topic, /user 메시지를 Redis로 다른 노드에 중계 (각 노드의 SimpleBroker가 자기 구독자에게 전달)
+        RedisStompRelay relay = redisStompRelay.getIfAvailable();
+        if (relay != null) {
+            registry.configureBrokerChannel().interceptors(relay);
+        }
+        // 채팅방 브로드캐스트(다른 노드에서 중계된 것 포함)를 최근 메시지 버퍼에도 적재
+        recentMessageBuffer.ifAvailable(buffer -> registry.configureBrokerChannel().interceptors(buffer));
         registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user"); // /user/queue/alarms → 접속한 사용자(Principal = userId)에게만 전달
     }
 }
 
@@ -0,0 +1,14 @@
+-- Redis 입찰 모드 write-behind 지원
+--  - 스트림 항목 ID로 입찰 거래 INSERT를 멱등 처리 (재처리 시 중복 방지)
+
+-- 1) 스트림 항목 ID 컬럼 (기존/동기 입찰 거래는 NULL)
+ALTER TABLE item_transaction
+    ADD COLUMN IF NOT EXISTS bid_stream_id VARCHAR(40);
+
+-- 2) 멱등 INSERT용 유니크 인덱스 (NULL은 중복 허용)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_item_transaction_bid_stream_id
+    ON item_transaction (bid_stream_id);
+
+-- 3) 상품별 최고 입찰자 조회 인덱스 (DISTINCT ON 정렬 순서와 동일)
+CREATE INDEX IF NOT EXISTS ix_item_transaction_item_price
+    ON item_transaction (item_id, bid_price DESC, created_at ASC);
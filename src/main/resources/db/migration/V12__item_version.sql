@@ -0,0 +1,5 @@
+-- 상품 낙관적 락 버전 컬럼
+--  - optimistic 입찰 전략의 compare-and-set 조건, 모든 입찰 경로에서 함께 증가
+
+ALTER TABLE item
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
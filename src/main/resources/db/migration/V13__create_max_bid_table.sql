@@ -0,0 +1,22 @@
+-- 자동(최대가) 입찰 테이블
+--  - 사용자가 상품별로 하나의 최대 입찰가를 등록하면, 다른 입찰이 들어올 때 입찰 단위만큼 자동으로 응찰
+
+CREATE TABLE IF NOT EXISTS max_bid (
+    max_bid_id BIGSERIAL PRIMARY KEY,
+    user_id    BIGINT       NOT NULL REFERENCES users(id),
+    item_id    BIGINT       NOT NULL REFERENCES item(item_id),
+    max_price  INTEGER      NOT NULL,
+    active     BOOLEAN      NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    deleted_at TIMESTAMP(6)
+);
+
+-- 사용자당 상품별 하나
+CREATE UNIQUE INDEX IF NOT EXISTS ux_max_bid_item_user
+    ON max_bid (item_id, user_id);
+
+-- 상품별 활성 자동 입찰 조회 (최대가 내림차순, 먼저 등록한 순)
+CREATE INDEX IF NOT EXISTS ix_max_bid_item_active
+    ON max_bid (item_id, max_price DESC, created_at ASC)
+    WHERE active = TRUE;
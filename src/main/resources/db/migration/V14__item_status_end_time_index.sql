@@ -0,0 +1,4 @@
+-- 경매 종료 타이머 적재 / 누락분 마감 조회 인덱스
+--  - WHERE item_status = 'BIDDING' AND end_time <= ? 를 테이블 스캔 없이 처리
+CREATE INDEX IF NOT EXISTS ix_item_status_end_time
+    ON item (item_status, end_time);
@@ -0,0 +1,25 @@
+-- 트랜잭셔널 아웃박스 테이블
+--  - 도메인 변경과 같은 트랜잭션에서 후속 작업(채팅방 생성, WS 브로드캐스트 등)을 기록하고
+--    OutboxDispatcher가 커밋 이후 배치로 전달한다. (앱이 커밋 직후 죽어도 유실 없음)
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+    outbox_id       BIGSERIAL PRIMARY KEY,
+    event_type      VARCHAR(50)  NOT NULL,
+    dedup_key       VARCHAR(100) NOT NULL,
+    payload         JSONB        NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING', -- PENDING / DONE / DEAD
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error      TEXT,
+    created_at      TIMESTAMP(6) NOT NULL,
+    processed_at    TIMESTAMP(6)
+);
+
+-- 같은 이벤트 중복 기록 방지 (ON CONFLICT DO NOTHING)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_outbox_event_type_dedup
+    ON outbox_event (event_type, dedup_key);
+
+-- 전달 대기 이벤트 조회 (PENDING만 부분 인덱스)
+CREATE INDEX IF NOT EXISTS ix_outbox_event_pending
+    ON outbox_event (next_attempt_at, outbox_id)
+    WHERE status = 'PENDING';
@@ -0,0 +1,120 @@
+-- alarm / message 월 단위 범위 파티셔닝
+--  - alarm은 created_at, message는 sent_at 기준 월별 파티션 (<table>_pYYYYMM) + 범위 밖 행을 받는 기본 파티션
+--  - 이후 달의 파티션 생성과 보관 기간이 지난 파티션 제거는 PartitionMaintenanceService가 맡는다.
+--  - 파티션 테이블의 PK는 파티션 키를 포함해야 하므로 (id, 파티션 키)로 바뀐다. (id는 여전히 시퀀스로만 발급)
+--  - 기존 데이터를 새 테이블로 복사하므로 데이터가 많은 환경에서는 점검 시간에 적용한다.
+
+-- 1) 새 파티션 테이블 (복사 후 이름을 바꿔 기존 테이블을 대체)
+CREATE TABLE alarm_new (
+    alarm_id   BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id    BIGINT       NOT NULL,
+    content    TEXT         NOT NULL,
+    is_read    BOOLEAN      NOT NULL DEFAULT FALSE,
+    read_at    TIMESTAMP(6),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    deleted_at TIMESTAMP(6)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE message_new (
+    message_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    chat_id    BIGINT       NOT NULL,
+    sender_id  BIGINT       NOT NULL,
+    content    VARCHAR(300) NOT NULL,
+    sent_at    TIMESTAMP(6) NOT NULL,
+    is_read    BOOLEAN      NOT NULL DEFAULT FALSE,
+    is_deleted BOOLEAN      NOT NULL DEFAULT FALSE,
+    type       VARCHAR(20)  NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    deleted_at TIMESTAMP(6)
+) PARTITION BY RANGE (sent_at);
+
+-- 2) 기존 데이터의 가장 이른 달부터 3개월 뒤까지 월별 파티션 생성
+DO $$
+DECLARE
+    target  RECORD;
+    from_ts TIMESTAMP;
+    month   TIMESTAMP;
+BEGIN
+    FOR target IN
+        SELECT 'alarm' AS parent, (SELECT MIN(created_at) FROM alarm) AS oldest
+        UNION ALL
+        SELECT 'message', (SELECT MIN(sent_at) FROM message)
+    LOOP
+        from_ts := date_trunc('month', COALESCE(target.oldest, NOW()));
+        month := from_ts;
+        WHILE month <= date_trunc('month', NOW()) + INTERVAL '3 months' LOOP
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                target.parent || '_p' || to_char(month, 'YYYYMM'),
+                target.parent || '_new',
+                month,
+                month + INTERVAL '1 month'
+            );
+            month := month + INTERVAL '1 month';
+        END LOOP;
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT',
+                       target.parent || '_default', target.parent || '_new');
+    END LOOP;
+END $$;
+
+-- 3) 데이터 복사 (created_at이 비어 있던 과거 행은 updated_at → 현재 시각 순으로 채움)
+INSERT INTO alarm_new (alarm_id, user_id, content, is_read, read_at, created_at, updated_at, deleted_at)
+SELECT alarm_id, user_id, content, is_read, read_at,
+       COALESCE(created_at, updated_at, NOW()),
+       COALESCE(updated_at, created_at, NOW()),
+       deleted_at
+  FROM alarm;
+
+INSERT INTO message_new (message_id, chat_id, sender_id, content, sent_at, is_read, is_deleted, type,
+                         created_at, updated_at, deleted_at)
+SELECT message_id, chat_id, sender_id, content, sent_at, is_read, is_deleted, type,
+       created_at, updated_at, deleted_at
+  FROM message;
+
+-- 4) 기존 테이블 교체 (기존 인덱스/제약/시퀀스도 함께 제거됨)
+DROP TABLE alarm;
+DROP TABLE message;
+
+ALTER TABLE alarm_new RENAME TO alarm;
+ALTER TABLE message_new RENAME TO message;
+
+ALTER SEQUENCE alarm_new_alarm_id_seq RENAME TO alarm_alarm_id_seq;
+ALTER SEQUENCE message_new_message_id_seq RENAME TO message_message_id_seq;
+
+SELECT setval('alarm_alarm_id_seq', COALESCE((SELECT MAX(alarm_id) FROM alarm), 0) + 1, FALSE);
+SELECT setval('message_message_id_seq', COALESCE((SELECT MAX(message_id) FROM message), 0) + 1, FALSE);
+
+-- 5) 제약 조건
+ALTER TABLE alarm
+    ADD CONSTRAINT alarm_pkey PRIMARY KEY (alarm_id, created_at),
+    ADD CONSTRAINT fk_alarm_user FOREIGN KEY (user_id) REFERENCES users(id);
+
+ALTER TABLE message
+    ADD CONSTRAINT message_pkey PRIMARY KEY (message_id, sent_at),
+    ADD CONSTRAINT fk_message_chat FOREIGN KEY (chat_id) REFERENCES chat(chat_id),
+    ADD CONSTRAINT fk_message_sender FOREIGN KEY (sender_id) REFERENCES users(id);
+
+-- 6) 인덱스 (파티션별로 생성되어 크기가 한 달 치로 제한됨)
+-- 알람 목록 키셋 페이지 (createdAt, alarmId)
+CREATE INDEX idx_alarm_user_created_at
+    ON alarm (user_id, created_at DESC, alarm_id DESC);
+
+-- 미읽음 알람만 (부분 인덱스)
+CREATE INDEX idx_alarm_user_unread_created
+    ON alarm (user_id, created_at DESC, alarm_id DESC)
+    WHERE is_read = FALSE AND deleted_at IS NULL;
+
+CREATE INDEX ix_message_chat_sent_at
+    ON message (chat_id, sent_at DESC);
+
+-- 전체 테이블에 걸친 is_read 단일 인덱스(ix_message_is_read) 대신 미읽음 메시지만 담는 부분 인덱스
+CREATE INDEX ix_message_chat_unread
+    ON message (chat_id, sender_id)
+    WHERE is_read = FALSE;
+
+-- 삭제 표시된 알람 정리용 (삭제된 행만 담는 부분 인덱스)
+CREATE INDEX ix_alarm_deleted_at
+    ON alarm (deleted_at)
+    WHERE deleted_at IS NOT NULL;
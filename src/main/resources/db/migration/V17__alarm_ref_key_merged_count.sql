@@ -0,0 +1,12 @@
+-- 알람 합치기 (채팅 새 메시지 알람을 수신자 + 채팅방 단위 한 행으로)
+--  - ref_key: 합치기 키 (예: chat:{chatId}), 일반 알람은 NULL
+--  - merged_count: 이 행에 합쳐진 알림 수
+
+ALTER TABLE alarm
+    ADD COLUMN IF NOT EXISTS ref_key      VARCHAR(100),
+    ADD COLUMN IF NOT EXISTS merged_count INTEGER NOT NULL DEFAULT 1;
+
+-- 합칠 대상(같은 사용자 + 키의 안 읽은 알람) 조회
+CREATE INDEX IF NOT EXISTS ix_alarm_user_ref_key_unread
+    ON alarm (user_id, ref_key)
+    WHERE ref_key IS NOT NULL AND is_read = FALSE AND deleted_at IS NULL;
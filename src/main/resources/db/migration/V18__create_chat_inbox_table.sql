@@ -0,0 +1,72 @@
+-- 채팅 목록 프로젝션 (참여자별 한 행)
+--  - 채팅 목록 조회 시 방마다 마지막 메시지/대표 이미지 LATERAL 조회와 미읽음 COUNT를 하던 것을
+--    메시지 전송/읽음/나가기 시점에 갱신해 두고 (user_id, last_activity_at) 인덱스 범위 조회 한 번으로 대체한다.
+--  - 상대 정보(닉네임/프로필/동네)와 상품 제목/대표 이미지는 채팅방 생성 시점 스냅샷 (상대 닉네임/프로필은 상대가 메시지를 보낼 때 갱신)
+
+CREATE TABLE IF NOT EXISTS chat_inbox (
+    user_id               BIGINT       NOT NULL REFERENCES users(id),
+    chat_id               BIGINT       NOT NULL REFERENCES chat(chat_id),
+    partner_id            BIGINT       NOT NULL,
+    partner_nickname      VARCHAR(15),
+    partner_profile_image VARCHAR(200),
+    partner_region_id     BIGINT,
+    partner_region_name   VARCHAR(152),
+    item_id               BIGINT       NOT NULL,
+    item_title            VARCHAR(30),
+    item_image_url        VARCHAR(500),
+    last_content          VARCHAR(300),
+    last_type             VARCHAR(20),
+    last_sent_at          TIMESTAMP(6),
+    last_activity_at      TIMESTAMP(6) NOT NULL, -- 정렬 기준 (마지막 메시지 시각, 없으면 채팅방 생성 시각)
+    unread_count          INTEGER      NOT NULL DEFAULT 0,
+    deleted_at            TIMESTAMP(6),          -- 이 참여자가 나간 시각
+    PRIMARY KEY (user_id, chat_id)
+);
+
+-- 내 채팅 목록 (나가지 않은 방만, 최근 대화 순)
+CREATE INDEX IF NOT EXISTS ix_chat_inbox_user_activity
+    ON chat_inbox (user_id, last_activity_at DESC, chat_id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 기존 채팅방 채우기
+INSERT INTO chat_inbox (user_id, chat_id, partner_id, partner_nickname, partner_profile_image,
+                        partner_region_id, partner_region_name, item_id, item_title, item_image_url,
+                        last_content, last_type, last_sent_at, last_activity_at, unread_count, deleted_at)
+SELECT p.user_id,
+       c.chat_id,
+       p.partner_id,
+       u.nickname,
+       u.profile_image,
+       r.region_id,
+       CONCAT(r.sido, ' ', r.sigungu, ' ', r.eupmyeondong),
+       i.item_id,
+       i.title,
+       ii.image_url,
+       lm.content,
+       lm.type,
+       lm.sent_at,
+       COALESCE(lm.sent_at, c.created_at, c.last_message_at),
+       (SELECT COUNT(*)
+          FROM message mm
+         WHERE mm.chat_id = c.chat_id
+           AND mm.is_read = FALSE
+           AND mm.sender_id <> p.user_id),
+       p.deleted_at
+  FROM chat c
+ CROSS JOIN LATERAL (VALUES (c.seller_id, c.buyer_id, c.seller_deleted_at),
+                            (c.buyer_id, c.seller_id, c.buyer_deleted_at)) p (user_id, partner_id, deleted_at)
+  JOIN users u ON u.id = p.partner_id
+  JOIN item i ON i.item_id = c.item_id
+  LEFT JOIN user_region ur ON ur.user_id = u.id AND ur.is_primary = TRUE
+  LEFT JOIN region r ON r.region_id = ur.region_id
+  LEFT JOIN LATERAL (SELECT content, type, sent_at
+                       FROM message m
+                      WHERE m.chat_id = c.chat_id
+                      ORDER BY m.sent_at DESC
+                      LIMIT 1) lm ON TRUE
+  LEFT JOIN LATERAL (SELECT image_url
+                       FROM item_image ii2
+                      WHERE ii2.item_id = i.item_id
+                      ORDER BY ii2.image_order ASC
+                      LIMIT 1) ii ON TRUE
+    ON CONFLICT (user_id, chat_id) DO NOTHING;
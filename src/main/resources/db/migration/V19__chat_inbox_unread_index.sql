@@ -0,0 +1,5 @@
+-- 채팅 미읽음 배지 (안 읽은 메시지가 있는 채팅방만 담는 부분 인덱스)
+CREATE INDEX IF NOT EXISTS ix_chat_inbox_user_unread
+    ON chat_inbox (user_id)
+    INCLUDE (unread_count)
+    WHERE unread_count > 0 AND deleted_at IS NULL;
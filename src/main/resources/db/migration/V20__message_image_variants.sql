@@ -0,0 +1,7 @@
+-- 채팅 이미지 변형본 URL (IMAGE 메시지만, 그 외는 NULL)
+--  - content에는 원본 URL, 아래 두 컬럼에는 chats/{chatId}/{uuid}/ 아래 썸네일/중간 크기 URL
+--  - 변형본은 메시지 저장 후 비동기로 만들어지므로 생성 전에는 원본으로 대신 표시한다.
+
+ALTER TABLE message
+    ADD COLUMN IF NOT EXISTS thumbnail_url VARCHAR(300),
+    ADD COLUMN IF NOT EXISTS medium_url    VARCHAR(300);
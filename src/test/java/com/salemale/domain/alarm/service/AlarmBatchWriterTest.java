@@ -0,0 +1,130 @@
+package com.salemale.domain.alarm.service;
+
+import com.salemale.domain.alarm.dto.AlarmDtos.CreateAlarmRequest;
+import com.salemale.domain.alarm.repository.AlarmBulkRepository;
+import com.salemale.domain.alarm.repository.AlarmBulkRepository.InsertedAlarm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AlarmBatchWriterTest {
+
+    private static final long DELETED_USER = 999L;
+    private static final long FLAKY_USER = 888L;
+
+    private AlarmBulkRepository alarmBulkRepository;
+    private AlarmPushService alarmPushService;
+    private AlarmBatchWriter writer;
+
+    private final AtomicLong alarmIds = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        alarmBulkRepository = mock(AlarmBulkRepository.class);
+        alarmPushService = mock(AlarmPushService.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        writer = new AlarmBatchWriter(alarmBulkRepository, alarmPushService, meterRegistry,
+                mock(PlatformTransactionManager.class));
+
+        // 작성 스레드 없이 큐와 트랜잭션만 준비 (배치 저장은 write()로 직접 호출)
+        ReflectionTestUtils.setField(writer, "queue", new LinkedBlockingQueue<CreateAlarmRequest>(1));
+        ReflectionTestUtils.setField(writer, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(writer, "overflow", meterRegistry.counter("alarm.queue.overflow"));
+
+        // 탈퇴 사용자 행이 섞이면 배치 전체가 FK 위반, FLAKY_USER 행은 일시적 오류
+        when(alarmBulkRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<CreateAlarmRequest> requests = invocation.getArgument(0);
+            if (requests.stream().anyMatch(req -> req.userId() == DELETED_USER)) {
+                throw new DataIntegrityViolationException("fk_alarm_user");
+            }
+            if (requests.stream().anyMatch(req -> req.userId() == FLAKY_USER)) {
+                throw new QueryTimeoutException("db busy");
+            }
+            return requests.stream().map(this::saved).toList();
+        });
+    }
+
+    @Test
+    void batchIsInsertedOnceAndPublished() {
+        List<CreateAlarmRequest> batch = batch(alarm(1L), alarm(2L));
+
+        assertThat(writer.write(batch)).isTrue();
+
+        verify(alarmBulkRepository).insertAll(List.of(alarm(1L), alarm(2L)));
+        verify(alarmPushService).publish(anyList());
+    }
+
+    @Test
+    void constraintViolationDropsOnlyOffendingRow() {
+        List<CreateAlarmRequest> batch = batch(alarm(1L), alarm(DELETED_USER), alarm(2L));
+
+        assertThat(writer.write(batch)).isTrue();
+
+        verify(alarmBulkRepository).insertAll(List.of(alarm(1L)));
+        verify(alarmBulkRepository).insertAll(List.of(alarm(2L)));
+        assertThat(batch).isEmpty();
+    }
+
+    @Test
+    void transientFailureKeepsWholeBatchForRetry() {
+        List<CreateAlarmRequest> batch = batch(alarm(1L), alarm(FLAKY_USER));
+
+        assertThat(writer.write(batch)).isFalse();
+
+        assertThat(batch).containsExactly(alarm(1L), alarm(FLAKY_USER));
+        verify(alarmPushService, never()).publish(anyList());
+    }
+
+    @Test
+    void rowByRowKeepsOnlyTransientRowsForRetry() {
+        List<CreateAlarmRequest> batch = batch(alarm(1L), alarm(DELETED_USER), alarm(FLAKY_USER));
+
+        assertThat(writer.write(batch)).isFalse();
+
+        verify(alarmBulkRepository).insertAll(List.of(alarm(1L)));
+        assertThat(batch).containsExactly(alarm(FLAKY_USER));
+    }
+
+    @Test
+    void fullQueueWritesOnCallerThreadInsteadOfDropping() {
+        writer.enqueue(alarm(1L));
+        verify(alarmBulkRepository, never()).insertAll(anyList());
+
+        writer.enqueue(alarm(2L));
+
+        verify(alarmBulkRepository).insertAll(List.of(alarm(2L)));
+        verify(alarmPushService).publish(anyList());
+    }
+
+    private static List<CreateAlarmRequest> batch(CreateAlarmRequest... requests) {
+        return new ArrayList<>(List.of(requests));
+    }
+
+    private static CreateAlarmRequest alarm(Long userId) {
+        return new CreateAlarmRequest(userId, "alarm for " + userId);
+    }
+
+    private InsertedAlarm saved(CreateAlarmRequest request) {
+        return new InsertedAlarm(alarmIds.incrementAndGet(), request.userId(), null, request.content(), 1,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,165 @@
+package com.salemale.domain.alarm.service;
+
+import com.salemale.domain.alarm.repository.AlarmBulkRepository;
+import com.salemale.domain.alarm.repository.AlarmBulkRepository.CoalescedAlarm;
+import com.salemale.domain.alarm.repository.AlarmBulkRepository.InsertedAlarm;
+import com.salemale.global.ws.PresenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatAlarmCoalescerTest {
+
+    private static final long DELETED_USER = 999L;
+
+    private AlarmBulkRepository alarmBulkRepository;
+    private AlarmPushService alarmPushService;
+    private PresenceService presenceService;
+    private ChatAlarmCoalescer coalescer;
+
+    private final AtomicLong alarmIds = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        alarmBulkRepository = mock(AlarmBulkRepository.class);
+        alarmPushService = mock(AlarmPushService.class);
+        presenceService = mock(PresenceService.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        coalescer = new ChatAlarmCoalescer(alarmBulkRepository, alarmPushService, presenceService, transactionTemplate);
+
+        // 기본: 합칠 행 없이 모두 새로 저장 (merged_count = 넘긴 개수)
+        when(alarmBulkRepository.mergeAll(anyList())).thenAnswer(invocation -> {
+            List<CoalescedAlarm> alarms = invocation.getArgument(0);
+            return alarms.stream().map(alarm -> saved(alarm, alarm.count())).toList();
+        });
+    }
+
+    @Test
+    void messagesForSameReceiverAndChatAreMergedIntoOneRowWithLatestPreview() {
+        coalescer.offer(1L, 10L, "first");
+        coalescer.offer(1L, 10L, "second");
+        coalescer.offer(1L, 10L, "third");
+        coalescer.offer(2L, 10L, "hello");
+        coalescer.offer(1L, 11L, "other chat");
+
+        coalescer.flush();
+
+        assertThat(mergedBatches().get(0)).containsExactlyInAnyOrder(
+                new CoalescedAlarm(1L, "chat:10", "third", 3),
+                new CoalescedAlarm(2L, "chat:10", "hello", 1),
+                new CoalescedAlarm(1L, "chat:11", "other chat", 1));
+    }
+
+    @Test
+    void rowsAlreadyHoldingUnreadAlarmArePublishedAsMerged() {
+        coalescer.offer(1L, 10L, "a");
+        coalescer.offer(1L, 10L, "b");
+        coalescer.offer(2L, 10L, "c");
+        // 사용자 1은 안 읽은 알람(개수 4)에 2개가 합쳐져 6, 사용자 2는 새 행
+        when(alarmBulkRepository.mergeAll(anyList())).thenAnswer(invocation -> {
+            List<CoalescedAlarm> alarms = invocation.getArgument(0);
+            return alarms.stream()
+                    .map(alarm -> saved(alarm, alarm.userId() == 1L ? 4 + alarm.count() : alarm.count()))
+                    .toList();
+        });
+
+        coalescer.flush();
+
+        ArgumentCaptor<List<InsertedAlarm>> created = listCaptor();
+        ArgumentCaptor<List<InsertedAlarm>> merged = listCaptor();
+        verify(alarmPushService).publish(created.capture(), merged.capture());
+        assertThat(created.getValue()).extracting(InsertedAlarm::userId).containsExactly(2L);
+        assertThat(merged.getValue()).extracting(InsertedAlarm::userId, InsertedAlarm::mergedCount)
+                .containsExactly(tuple(1L, 6));
+    }
+
+    @Test
+    void receiverViewingTheChatGetsNoAlarm() {
+        when(presenceService.isViewing(eq(1L), anyString())).thenReturn(true);
+
+        coalescer.offer(1L, 10L, "seen");
+        coalescer.flush();
+
+        verify(alarmBulkRepository, never()).mergeAll(anyList());
+    }
+
+    @Test
+    void constraintViolationDropsOnlyFailingRow() {
+        when(alarmBulkRepository.mergeAll(anyList())).thenAnswer(invocation -> {
+            List<CoalescedAlarm> alarms = invocation.getArgument(0);
+            if (alarms.stream().anyMatch(alarm -> alarm.userId() == DELETED_USER)) {
+                throw new DataIntegrityViolationException("fk_alarm_user");
+            }
+            return alarms.stream().map(alarm -> saved(alarm, alarm.count())).toList();
+        });
+        coalescer.offer(1L, 10L, "a");
+        coalescer.offer(DELETED_USER, 10L, "b");
+        coalescer.offer(2L, 10L, "c");
+
+        coalescer.flush();
+
+        ArgumentCaptor<List<InsertedAlarm>> created = listCaptor();
+        verify(alarmPushService).publish(created.capture(), any());
+        assertThat(created.getValue()).extracting(InsertedAlarm::userId).containsExactlyInAnyOrder(1L, 2L);
+
+        // 버린 행은 다시 시도하지 않음
+        coalescer.flush();
+        assertThat(mergedBatches()).hasSize(4); // 배치 1번 + 행 3번
+    }
+
+    @Test
+    void transientFailureRequeuesBatchAndAddsLaterMessages() {
+        when(alarmBulkRepository.mergeAll(anyList()))
+                .thenThrow(new QueryTimeoutException("db down"))
+                .thenAnswer(invocation -> {
+                    List<CoalescedAlarm> alarms = invocation.getArgument(0);
+                    return alarms.stream().map(alarm -> saved(alarm, alarm.count())).toList();
+                });
+        coalescer.offer(1L, 10L, "a");
+        coalescer.offer(1L, 10L, "b");
+
+        coalescer.flush();
+        verify(alarmPushService, never()).publish(anyList(), anyList());
+
+        coalescer.offer(1L, 10L, "c");
+        coalescer.flush();
+
+        assertThat(mergedBatches().get(1)).containsExactly(new CoalescedAlarm(1L, "chat:10", "c", 3));
+    }
+
+    private List<List<CoalescedAlarm>> mergedBatches() {
+        ArgumentCaptor<List<CoalescedAlarm>> batches = listCaptor();
+        verify(alarmBulkRepository, atLeastOnce()).mergeAll(batches.capture());
+        return batches.getAllValues();
+    }
+
+    private InsertedAlarm saved(CoalescedAlarm alarm, int mergedCount) {
+        return new InsertedAlarm(alarmIds.incrementAndGet(), alarm.userId(), alarm.refKey(), alarm.content(),
+                mergedCount, LocalDateTime.now());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> ArgumentCaptor<List<T>> listCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+}
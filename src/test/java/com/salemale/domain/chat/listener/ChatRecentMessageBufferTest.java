@@ -0,0 +1,138 @@
+package com.salemale.domain.chat.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salemale.domain.chat.dto.MessageDtos.MessageResponse;
+import com.salemale.domain.chat.dto.MessageDtos.ReadReceipt;
+import com.salemale.domain.chat.listener.ChatRecentMessageBuffer.Ring;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ChatRecentMessageBufferTest {
+
+    private static final int LIMIT = 100;
+
+    @Test
+    void lateCommittedMessageIsInsertedInIdOrder() {
+        Ring ring = new Ring(5, 10);
+        ring.add(message(10));
+        ring.add(message(13));
+        ring.add(message(11)); // 늦게 커밋된 이전 메시지
+        ring.add(message(12));
+
+        assertThat(ids(ring.since(10, LIMIT))).containsExactly(11L, 12L, 13L);
+    }
+
+    @Test
+    void duplicateDeliveryIsIgnored() {
+        Ring ring = new Ring(5, 10);
+        ring.add(message(10));
+        ring.add(message(11));
+        ring.add(message(11));
+
+        assertThat(ids(ring.since(10, LIMIT))).containsExactly(11L);
+    }
+
+    @Test
+    void evictionMovesCoveredFromToOldestDroppedMessage() {
+        Ring ring = new Ring(3, 10);
+        for (long id = 10; id <= 13; id++) {
+            ring.add(message(id)); // 10이 밀려남
+        }
+
+        assertThat(ring.since(9, LIMIT)).isEmpty(); // 10이 빠졌으므로 DB로
+        assertThat(ids(ring.since(10, LIMIT))).containsExactly(11L, 12L, 13L); // 밀려난 10이 커서면 그 이후는 온전함
+        assertThat(ids(ring.since(11, LIMIT))).containsExactly(12L, 13L);
+    }
+
+    @Test
+    void lateMessageOlderThanEverythingInFullRingOnlyAdvancesCoveredFrom() {
+        Ring ring = new Ring(3, 20);
+        for (long id : new long[]{20, 22, 23, 24}) {
+            ring.add(message(id)); // 20이 밀려남 → coveredFrom = 20
+        }
+
+        ring.add(message(21)); // 가득 찬 상태에서 가장 오래된 것(22)보다 오래된 늦은 메시지
+
+        assertThat(ring.since(20, LIMIT)).isEmpty(); // 21을 버렸으므로 DB로
+        assertThat(ids(ring.since(21, LIMIT))).containsExactly(22L, 23L, 24L);
+        ring.add(message(21)); // 이미 보장 구간 밖
+        assertThat(ids(ring.since(22, LIMIT))).containsExactly(23L, 24L);
+    }
+
+    @Test
+    void unknownCursorFallsBackToDatabase() {
+        Ring ring = new Ring(5, 10);
+        ring.add(message(10));
+        ring.add(message(12));
+
+        assertThat(ring.since(9, LIMIT)).isEmpty();  // 첫 메시지 이전은 알 수 없음
+        assertThat(ring.since(11, LIMIT)).isEmpty(); // 이 채팅방 메시지가 아님 (전역 시퀀스)
+        assertThat(ring.since(99, LIMIT)).isEmpty(); // 아직 이 노드에 오지 않은 메시지
+        assertThat(ids(ring.since(12, LIMIT))).isEmpty();
+    }
+
+    @Test
+    void sinceReturnsAtMostLimitPlusOne() {
+        Ring ring = new Ring(10, 1);
+        for (long id = 1; id <= 6; id++) {
+            ring.add(message(id));
+        }
+
+        assertThat(ids(ring.since(1, 2))).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void readUpToKeepsLargestPositionPerReader() {
+        Ring ring = new Ring(5, 10);
+        ring.markRead(1L, 12);
+        ring.markRead(1L, 11);
+        ring.markRead(2L, 10);
+
+        assertThat(ring.readUpTo(1L)).isEqualTo(12);
+        assertThat(ring.readUpTo(2L)).isEqualTo(10);
+        assertThat(ring.readUpTo(3L)).isZero();
+    }
+
+    @Test
+    void readReceiptsPassingThroughBrokerChannelUpdateReadUpTo() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ChatRecentMessageBuffer buffer = new ChatRecentMessageBuffer(objectMapper, mock(MeterRegistry.class));
+        ReflectionTestUtils.setField(buffer, "capacity", 10);
+        ReflectionTestUtils.setField(buffer, "maxChats", 10);
+        MessageChannel channel = mock(MessageChannel.class);
+
+        buffer.preSend(brokerMessage("/topic/chats/7", objectMapper.writeValueAsBytes(message(30))), channel);
+        buffer.preSend(brokerMessage("/user/2/queue/read-receipts", objectMapper.writeValueAsBytes(
+                ReadReceipt.builder().chatId(7L).readerId(1L).lastReadMessageId(30L).build())), channel);
+
+        assertThat(buffer.readUpTo(7L, 1L)).isEqualTo(30);
+        assertThat(buffer.readUpTo(8L, 1L)).isZero(); // 버퍼가 없는 채팅방
+    }
+
+    private static Message<byte[]> brokerMessage(String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private static MessageResponse message(long id) {
+        return MessageResponse.builder().messageId(id).chatId(7L).senderId(2L).content("m" + id).build();
+    }
+
+    private static List<Long> ids(Optional<List<MessageResponse>> messages) {
+        assertThat(messages).isPresent();
+        return messages.get().stream().map(MessageResponse::getMessageId).toList();
+    }
+}
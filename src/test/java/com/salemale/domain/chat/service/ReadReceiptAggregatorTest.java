@@ -0,0 +1,106 @@
+package com.salemale.domain.chat.service;
+
+import com.salemale.domain.chat.dto.MessageDtos.ReadReceipt;
+import com.salemale.domain.chat.repository.ReadReceiptRepository;
+import com.salemale.domain.chat.repository.ReadReceiptRepository.ReadRequest;
+import com.salemale.domain.chat.repository.ReadReceiptRepository.ReadResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReceiptAggregatorTest {
+
+    private ReadReceiptRepository readReceiptRepository;
+    private SimpMessagingTemplate template;
+    private ReadReceiptAggregator aggregator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        readReceiptRepository = mock(ReadReceiptRepository.class);
+        template = mock(SimpMessagingTemplate.class);
+        ObjectProvider<SimpMessagingTemplate> templateProvider = mock(ObjectProvider.class);
+        when(templateProvider.getIfAvailable()).thenReturn(template);
+        aggregator = new ReadReceiptAggregator(readReceiptRepository, templateProvider);
+    }
+
+    @Test
+    void keepsOnlyLargestPositionPerChatAndReader() {
+        aggregator.record(1L, 7L, 10);
+        aggregator.record(1L, 7L, 5);
+        aggregator.record(1L, 7L, 12);
+        aggregator.record(2L, 7L, 3);
+        aggregator.record(1L, 8L, ReadReceiptAggregator.ALL);
+
+        aggregator.flush();
+
+        assertThat(flushedBatches().get(0)).containsExactlyInAnyOrder(
+                new ReadRequest(7L, 1L, 12),
+                new ReadRequest(7L, 2L, 3),
+                new ReadRequest(8L, 1L, ReadReceiptAggregator.ALL));
+    }
+
+    @Test
+    void nothingPendingMeansNoWrite() {
+        aggregator.flush();
+
+        verify(readReceiptRepository, never()).markReadUpTo(anyList());
+    }
+
+    @Test
+    void failedFlushIsRequeuedAndMergedWithLaterReads() {
+        when(readReceiptRepository.markReadUpTo(anyList()))
+                .thenThrow(new QueryTimeoutException("db down"))
+                .thenReturn(List.of());
+        aggregator.record(1L, 7L, 20);
+
+        aggregator.flush();
+        aggregator.record(1L, 7L, 15); // 재시도 전 더 작은 위치가 들어와도 큰 값 유지
+        aggregator.flush();
+
+        List<List<ReadRequest>> batches = flushedBatches();
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(1)).containsExactly(new ReadRequest(7L, 1L, 20));
+        verify(template, never()).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+    }
+
+    @Test
+    void changedRoomsNotifyPartner() {
+        when(readReceiptRepository.markReadUpTo(anyList()))
+                .thenReturn(List.of(new ReadResult(7L, 1L, 2L, 3, 42L, 0)));
+        aggregator.record(1L, 7L, ReadReceiptAggregator.ALL);
+
+        aggregator.flush();
+
+        ArgumentCaptor<Object> receipt = ArgumentCaptor.forClass(Object.class);
+        verify(template, times(1)).convertAndSendToUser(eq("2"), eq(ReadReceiptAggregator.DESTINATION), receipt.capture());
+        ReadReceipt sent = (ReadReceipt) receipt.getValue();
+        assertThat(sent.getChatId()).isEqualTo(7L);
+        assertThat(sent.getReaderId()).isEqualTo(1L);
+        assertThat(sent.getLastReadMessageId()).isEqualTo(42L);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<List<ReadRequest>> flushedBatches() {
+        ArgumentCaptor<List<ReadRequest>> batches = (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+        verify(readReceiptRepository, atLeastOnce()).markReadUpTo(batches.capture());
+        return batches.getAllValues();
+    }
+}
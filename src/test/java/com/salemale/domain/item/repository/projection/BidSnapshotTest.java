@@ -0,0 +1,76 @@
+package com.salemale.domain.item.repository.projection;
+
+import com.salemale.common.code.status.ErrorStatus;
+import com.salemale.common.exception.GeneralException;
+import com.salemale.global.common.enums.ItemStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BidSnapshotTest {
+
+    private static final Long SELLER = 10L;
+    private static final Long BUYER = 20L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final LocalDateTime END = NOW.plusMinutes(30);
+
+    private final BidSnapshot snapshot = new BidSnapshot(1L, SELLER, 50_000, 1_000, END, ItemStatus.BIDDING, 12L, 12L);
+
+    @Test
+    void acceptsBidAtCurrentPricePlusIncrement() {
+        assertThatCode(() -> snapshot.validate(BUYER, 51_000, NOW)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void acceptsBidExactlyAtEndTime() {
+        assertThatCode(() -> snapshot.validate(BUYER, 51_000, END)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsSellerBiddingOnOwnItem() {
+        assertRejected(() -> snapshot.validate(SELLER, 60_000, NOW), ErrorStatus.BID_SELF_AUCTION);
+    }
+
+    @Test
+    void rejectsItemNotInBidding() {
+        BidSnapshot closed = new BidSnapshot(1L, SELLER, 50_000, 1_000, END, ItemStatus.SUCCESS, 12L, 12L);
+
+        assertRejected(() -> closed.validate(BUYER, 60_000, NOW), ErrorStatus.AUCTION_NOT_BIDDING);
+    }
+
+    @Test
+    void rejectsBidAfterEndTime() {
+        assertRejected(() -> snapshot.validate(BUYER, 60_000, END.plusNanos(1)), ErrorStatus.AUCTION_ALREADY_ENDED);
+    }
+
+    @Test
+    void rejectsBidBelowMinimumIncrement() {
+        assertRejected(() -> snapshot.validate(BUYER, 50_999, NOW), ErrorStatus.BID_AMOUNT_TOO_LOW);
+    }
+
+    @Test
+    void minimumPriceDoesNotOverflowNearIntegerMax() {
+        BidSnapshot expensive = new BidSnapshot(1L, SELLER, Integer.MAX_VALUE - 10, 1_000, END, ItemStatus.BIDDING, 0L, 0L);
+
+        assertRejected(() -> expensive.validate(BUYER, Integer.MAX_VALUE, NOW), ErrorStatus.BID_AMOUNT_TOO_LOW);
+    }
+
+    @Test
+    void isOpenOnlyWhileBiddingAndNotPastEnd() {
+        assertThat(snapshot.isOpen(NOW)).isTrue();
+        assertThat(snapshot.isOpen(END)).isTrue();
+        assertThat(snapshot.isOpen(END.plusSeconds(1))).isFalse();
+        assertThat(new BidSnapshot(1L, SELLER, 50_000, 1_000, END, ItemStatus.FAIL, 0L, 0L).isOpen(NOW)).isFalse();
+    }
+
+    private static void assertRejected(Runnable bid, ErrorStatus expected) {
+        assertThatThrownBy(bid::run)
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getCode())
+                .isEqualTo(expected);
+    }
+}
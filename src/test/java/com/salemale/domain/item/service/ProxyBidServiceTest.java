@@ -0,0 +1,298 @@
+package com.salemale.domain.item.service;
+
+import com.salemale.domain.item.dto.response.BidResponse;
+import com.salemale.domain.item.entity.Item;
+import com.salemale.domain.item.entity.ItemTransaction;
+import com.salemale.domain.item.repository.ItemRepository;
+import com.salemale.domain.item.repository.ItemTransactionRepository;
+import com.salemale.domain.item.repository.MaxBidRepository;
+import com.salemale.domain.item.repository.projection.LeadingBidRow;
+import com.salemale.domain.item.service.bid.BidEngine;
+import com.salemale.domain.item.service.bid.BidMode;
+import com.salemale.domain.item.service.bid.ProxyBidBook;
+import com.salemale.domain.item.service.bid.ProxyEntry;
+import com.salemale.domain.item.service.bid.SoftClosePolicy;
+import com.salemale.domain.user.entity.User;
+import com.salemale.domain.user.repository.UserRepository;
+import com.salemale.global.common.enums.ItemStatus;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProxyBidServiceTest {
+
+    private static final Long ITEM_ID = 7L;
+    private static final Long SELLER_ID = 1L;
+    private static final Long LEADER_ID = 2L;
+    private static final int PRICE = 10_000;
+    private static final int INCREMENT = 1_000;
+    private static final LocalDateTime REGISTERED = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private ItemRepository itemRepository;
+    private ItemTransactionRepository itemTransactionRepository;
+    private MaxBidRepository maxBidRepository;
+    private BidEngine bidEngine;
+    private StringRedisTemplate stringRedisTemplate;
+    private SoftClosePolicy softClosePolicy;
+    private ProxyBidBook proxyBidBook;
+    private ProxyBidService proxyBidService;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        itemTransactionRepository = mock(ItemTransactionRepository.class);
+        maxBidRepository = mock(MaxBidRepository.class);
+        bidEngine = mock(BidEngine.class);
+        when(bidEngine.mode()).thenReturn(BidMode.PESSIMISTIC);
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> User.builder().id(invocation.getArgument(0)).build());
+
+        item = Item.builder()
+                .itemId(ITEM_ID)
+                .seller(User.builder().id(SELLER_ID).build())
+                .currentPrice(PRICE)
+                .bidIncrement(INCREMENT)
+                .bidCount(1L)
+                .endTime(LocalDateTime.now().plusHours(1))
+                .itemStatus(ItemStatus.BIDDING)
+                .build();
+        when(itemRepository.findByIdWithLock(ITEM_ID)).thenReturn(Optional.of(item));
+        givenLeader(LEADER_ID);
+
+        softClosePolicy = new SoftClosePolicy();
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        proxyBidBook = new ProxyBidBook(maxBidRepository, stringRedisTemplate, mock(RedisConnectionFactory.class));
+        ReflectionTestUtils.setField(proxyBidBook, "localTtlMillis", 60_000L);
+        ReflectionTestUtils.setField(proxyBidBook, "localMaxEntries", 100);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        proxyBidService = new ProxyBidService(itemRepository, userRepository, itemTransactionRepository,
+                maxBidRepository, proxyBidBook, bidEngine, transactionTemplate, softClosePolicy,
+                mock(ApplicationEventPublisher.class));
+
+        // afterCompletion 등록이 가능하도록 동기화만 켠다 (커밋은 commit()으로 흉내)
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void winnerPaysRunnerUpMaxPlusIncrement() {
+        givenProxies(proxy(30L, 3L, 15_000, 0), proxy(40L, 4L, 13_000, 1));
+
+        BidResponse result = proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+
+        // 진 자동 입찰은 최대가로 한 번, 승자는 차순위 최대가 + 입찰 단위
+        assertThat(bidRows()).containsExactly(tuple(4L, 13_000), tuple(3L, 14_000));
+        assertThat(item.getCurrentPrice()).isEqualTo(14_000);
+        assertThat(item.getBidCount()).isEqualTo(3L);
+        assertThat(result.getCurrentHighestPrice()).isEqualTo(14_000);
+        assertThat(result.getBidCount()).isEqualTo(3L);
+        assertThat(result.getOutbidByProxy()).isTrue();
+        verify(maxBidRepository).deactivateAll(List.of(40L));
+    }
+
+    @Test
+    void losersBidInAscendingMaxPriceOrder() {
+        givenProxies(proxy(30L, 3L, 18_000, 0), proxy(40L, 4L, 12_000, 1), proxy(50L, 5L, 14_000, 2));
+
+        proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+
+        assertThat(bidRows()).containsExactly(tuple(4L, 12_000), tuple(5L, 14_000), tuple(3L, 15_000));
+        assertThat(item.getBidCount()).isEqualTo(4L);
+        verify(maxBidRepository).deactivateAll(List.of(50L, 40L));
+    }
+
+    @Test
+    void equalMaxPriceGoesToEarlierRegistration() {
+        givenProxies(proxy(30L, 3L, 15_000, 5), proxy(40L, 4L, 15_000, 0));
+
+        BidResponse result = proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+
+        // 진 쪽은 승자를 입찰 단위만큼 넘길 수 없으므로 입찰 거래를 남기지 않는다
+        assertThat(bidRows()).containsExactly(tuple(4L, 15_000));
+        assertThat(result.getCurrentHighestPrice()).isEqualTo(15_000);
+        verify(maxBidRepository).deactivateAll(List.of(30L));
+    }
+
+    @Test
+    void winnerPriceIsCappedAtOwnMax() {
+        givenProxies(proxy(30L, 3L, 11_500, 0));
+
+        proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+
+        // 선두에 자동 입찰이 없으면 차순위 최대가는 현재가 → 현재가 + 입찰 단위
+        assertThat(bidRows()).containsExactly(tuple(3L, 11_000));
+        verify(maxBidRepository, never()).deactivateAll(anyCollection());
+    }
+
+    @Test
+    void leaderProxyWithHigherMaxHoldsLead() {
+        givenProxies(proxy(20L, LEADER_ID, 20_000, 0), proxy(30L, 3L, 15_000, 1));
+
+        BidResponse result = proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+
+        assertThat(bidRows()).containsExactly(tuple(3L, 15_000), tuple(LEADER_ID, 16_000));
+        assertThat(result.getCurrentHighestPrice()).isEqualTo(16_000);
+        assertThat(result.getOutbidByProxy()).isFalse();
+        verify(maxBidRepository).deactivateAll(List.of(30L));
+    }
+
+    @Test
+    void sellerProxyIsIgnored() {
+        givenProxies(proxy(10L, SELLER_ID, 50_000, 0));
+
+        BidResponse result = proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+
+        assertThat(result.getOutbidByProxy()).isFalse();
+        assertThat(result.getCurrentHighestPrice()).isEqualTo(PRICE);
+        verify(itemTransactionRepository, never()).saveAll(any());
+        assertThat(item.getCurrentPrice()).isEqualTo(PRICE);
+    }
+
+    @Test
+    void proxyBidNearCloseExtendsEndTime() {
+        ReflectionTestUtils.setField(softClosePolicy, "minutes", 5L);
+        LocalDateTime endTime = LocalDateTime.now().plusMinutes(1);
+        ReflectionTestUtils.setField(item, "endTime", endTime);
+        givenProxies(proxy(30L, 3L, 15_000, 0));
+
+        BidResponse result = proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+
+        assertThat(result.getEndTimeExtended()).isTrue();
+        assertThat(result.getEndTime()).isAfter(endTime);
+        assertThat(item.getEndTime()).isEqualTo(result.getEndTime());
+    }
+
+    @Test
+    void commitInvalidatesBookOnAllNodesAndEngine() {
+        givenProxies(proxy(30L, 3L, 15_000, 0), proxy(40L, 4L, 13_000, 1));
+
+        proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+        verify(bidEngine, never()).invalidate(ITEM_ID);
+        verify(stringRedisTemplate, never()).convertAndSend(any(), any());
+        commit();
+
+        verify(stringRedisTemplate).convertAndSend("proxy:invalidate", String.valueOf(ITEM_ID));
+        verify(bidEngine).invalidate(ITEM_ID);
+
+        // 소진된 자동 입찰이 빠진 max_bid를 다시 읽는다
+        givenProxies(proxy(30L, 3L, 15_000, 0));
+        assertThat(proxyBidBook.entries(ITEM_ID)).extracting(ProxyEntry::maxBidId).containsExactly(30L);
+    }
+
+    @Test
+    void settlementReadsMaxBidInsteadOfStaleBook() {
+        // 이 노드의 장부에는 남아 있지만 다른 노드에서 취소된 자동 입찰(40)
+        givenProxies(proxy(30L, 3L, 15_000, 0), proxy(40L, 4L, 13_000, 1));
+        proxyBidBook.entries(ITEM_ID);
+        givenProxies(proxy(30L, 3L, 15_000, 0));
+
+        BidResponse result = proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+
+        assertThat(bidRows()).containsExactly(tuple(3L, 11_000));
+        assertThat(result.getCurrentHighestPrice()).isEqualTo(11_000);
+    }
+
+    @Test
+    void staleBookHintIsEvictedWhenNothingToSettle() {
+        // 장부는 응찰 가능하다고 하지만 max_bid에서는 이미 취소됨 → 락만 잡고 정산 없음
+        givenProxies(proxy(30L, 3L, 15_000, 0));
+        proxyBidBook.entries(ITEM_ID);
+        givenProxies();
+
+        BidResponse result = proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+        commit();
+
+        assertThat(result.getOutbidByProxy()).isFalse();
+        verify(itemTransactionRepository, never()).saveAll(any());
+        clearInvocations(maxBidRepository);
+        assertThat(proxyBidBook.entries(ITEM_ID)).isEmpty();
+        verify(maxBidRepository).findActiveEntriesByItemId(ITEM_ID);
+    }
+
+    @Test
+    void noChallengerSkipsSettlementWithoutLock() {
+        givenProxies(proxy(30L, 3L, 10_500, 0));
+
+        BidResponse result = proxyBidService.settleAfterBid(manualBid(LEADER_ID));
+
+        assertThat(result.getOutbidByProxy()).isFalse();
+        verify(itemRepository, never()).findByIdWithLock(any());
+    }
+
+    private void givenLeader(Long buyerId) {
+        LeadingBidRow row = mock(LeadingBidRow.class);
+        when(row.getItemId()).thenReturn(ITEM_ID);
+        when(row.getBuyerId()).thenReturn(buyerId);
+        when(row.getBidPrice()).thenReturn(PRICE);
+        when(itemTransactionRepository.findLeadingBids(List.of(ITEM_ID))).thenReturn(List.of(row));
+    }
+
+    private void givenProxies(ProxyEntry... entries) {
+        when(maxBidRepository.findActiveEntriesByItemId(ITEM_ID)).thenReturn(List.of(entries));
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations =
+                new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    // 저장된 입찰 거래 (입찰자, 금액) 순서대로
+    @SuppressWarnings("unchecked")
+    private List<Tuple> bidRows() {
+        ArgumentCaptor<List<ItemTransaction>> rows = ArgumentCaptor.forClass(List.class);
+        verify(itemTransactionRepository).saveAll(rows.capture());
+        return rows.getValue().stream()
+                .map(row -> tuple(row.getBuyer().getId(), row.getBidPrice()))
+                .toList();
+    }
+
+    private static BidResponse manualBid(Long buyerId) {
+        return BidResponse.builder()
+                .itemId(ITEM_ID)
+                .buyerId(buyerId)
+                .bidPrice(PRICE)
+                .currentHighestPrice(PRICE)
+                .bidIncrement(INCREMENT)
+                .bidCount(1L)
+                .endTimeExtended(false)
+                .build();
+    }
+
+    private static ProxyEntry proxy(Long maxBidId, Long userId, int maxPrice, int minutesAfter) {
+        return new ProxyEntry(maxBidId, userId, maxPrice, REGISTERED.plusMinutes(minutesAfter));
+    }
+}
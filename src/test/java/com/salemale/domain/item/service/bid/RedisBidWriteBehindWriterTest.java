@@ -0,0 +1,201 @@
+package com.salemale.domain.item.service.bid;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisBidWriteBehindWriterTest {
+
+    private static final String KEY = RedisBidStateStore.KEY_STREAM;
+    private static final String GROUP = RedisBidWriteBehindWriter.GROUP;
+    private static final long POISON_BUYER = 999L;
+
+    private StreamOperations<String, Object, Object> streamOps;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private RedisBidWriteBehindWriter writer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        streamOps = mock(StreamOperations.class);
+        doReturn(streamOps).when(redisTemplate).opsForStream();
+
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        // 제약 위반을 흉내: POISON_BUYER 행이 섞인 INSERT는 배치 전체가 실패
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO item_transaction"), any(SqlParameterSource[].class)))
+                .thenAnswer(invocation -> {
+                    SqlParameterSource[] rows = invocation.getArgument(1);
+                    if (Arrays.stream(rows).anyMatch(row -> Long.valueOf(POISON_BUYER).equals(row.getValue("buyerId")))) {
+                        throw new DataIntegrityViolationException("fk_item_transaction_buyer");
+                    }
+                    return new int[rows.length];
+                });
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        writer = new RedisBidWriteBehindWriter(redisTemplate, jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(writer, "consumerName", "node-b");
+        ReflectionTestUtils.setField(writer, "batchSize", 500);
+        ReflectionTestUtils.setField(writer, "reclaimIdleMillis", 30_000L);
+        ReflectionTestUtils.setField(writer, "maxDeliveries", 5);
+    }
+
+    @Test
+    void reclaimWritesEntriesLeftPendingByConsumerThatDiedMidBatch() {
+        // node-a가 두 건을 읽은 뒤 DB 반영/ACK 전에 죽음 → 60초째 PENDING
+        // node-c는 살아 있고 방금 읽음, node-b(자기 자신) 항목은 drain이 처리
+        givenPending(
+                pending("1-0", "node-a", Duration.ofSeconds(60), 1),
+                pending("2-0", "node-a", Duration.ofSeconds(60), 1),
+                pending("3-0", "node-c", Duration.ofSeconds(1), 1),
+                pending("4-0", "node-b", Duration.ofSeconds(60), 1)
+        );
+        when(streamOps.claim(eq(KEY), eq(GROUP), eq("node-b"), any(XClaimOptions.class)))
+                .thenReturn(List.of(bid("1-0", 10L, 1000), bid("2-0", 11L, 1100)));
+
+        int reclaimed = writer.reclaim();
+
+        assertThat(reclaimed).isEqualTo(2);
+        verify(streamOps).claim(eq(KEY), eq(GROUP), eq("node-b"), argThat(options ->
+                options.getIds().equals(List.of(RecordId.of("1-0"), RecordId.of("2-0")))
+                        && options.getMinIdleTime().equals(Duration.ofSeconds(30))));
+        assertThat(insertedStreamIds()).containsExactly("1-0", "2-0");
+        verify(streamOps).acknowledge(KEY, GROUP, RecordId.of("1-0"), RecordId.of("2-0"));
+        verify(streamOps).delete(KEY, RecordId.of("1-0"), RecordId.of("2-0"));
+    }
+
+    @Test
+    void reclaimLeavesLiveConsumersAlone() {
+        givenPending(pending("3-0", "node-c", Duration.ofSeconds(1), 1));
+
+        assertThat(writer.reclaim()).isZero();
+        verify(streamOps, never()).claim(any(), any(), any(), any(XClaimOptions.class));
+    }
+
+    @Test
+    void poisonEntryIsDeadLetteredAfterMaxDeliveriesWithoutBlockingTheBatch() {
+        givenRead(bid("1-0", 10L, 1000), bid("2-0", POISON_BUYER, 1100), bid("3-0", 12L, 1200));
+        givenPending(pending("2-0", "node-b", Duration.ZERO, 5));
+
+        int persisted = writer.drain();
+
+        assertThat(persisted).isEqualTo(2);
+        verify(streamOps).acknowledge(KEY, GROUP, RecordId.of("1-0"));
+        verify(streamOps).acknowledge(KEY, GROUP, RecordId.of("3-0"));
+        verify(streamOps).add(eq(RedisBidWriteBehindWriter.KEY_DEAD_LETTER), argThat((Map<?, ?> fields) ->
+                "2-0".equals(fields.get("sourceId"))
+                        && String.valueOf(POISON_BUYER).equals(fields.get("buyerId"))
+                        && String.valueOf(fields.get("error")).startsWith("DataIntegrityViolationException")));
+        verify(streamOps).acknowledge(KEY, GROUP, RecordId.of("2-0"));
+    }
+
+    @Test
+    void poisonEntryBelowDeliveryLimitStaysPendingForRetry() {
+        givenRead(bid("1-0", 10L, 1000), bid("2-0", POISON_BUYER, 1100));
+        givenPending(pending("2-0", "node-b", Duration.ZERO, 1));
+
+        assertThat(writer.drain()).isEqualTo(1);
+        verify(streamOps).acknowledge(KEY, GROUP, RecordId.of("1-0"));
+        verify(streamOps, never()).acknowledge(KEY, GROUP, RecordId.of("2-0"));
+        verify(streamOps, never()).add(eq(RedisBidWriteBehindWriter.KEY_DEAD_LETTER), any(Map.class));
+    }
+
+    @Test
+    void transientFailureLeavesWholeBatchPending() {
+        givenRead(bid("1-0", 10L, 1000), bid("2-0", 11L, 1100));
+        doThrow(new QueryTimeoutException("db down"))
+                .when(jdbcTemplate).batchUpdate(startsWith("INSERT INTO item_transaction"), any(SqlParameterSource[].class));
+
+        assertThatThrownBy(() -> writer.drain()).isInstanceOf(QueryTimeoutException.class);
+        verify(streamOps, never()).acknowledge(eq(KEY), eq(GROUP), any(RecordId[].class));
+        verify(streamOps, never()).add(eq(RedisBidWriteBehindWriter.KEY_DEAD_LETTER), any(Map.class));
+    }
+
+    @Test
+    void malformedEntryIsDeadLetteredImmediately() {
+        Map<Object, Object> broken = new HashMap<>();
+        broken.put("itemId", "not-a-number");
+        givenRead(MapRecord.create(KEY, broken).withId(RecordId.of("1-0")), bid("2-0", 11L, 1100));
+
+        assertThat(writer.drain()).isEqualTo(1);
+        verify(streamOps).add(eq(RedisBidWriteBehindWriter.KEY_DEAD_LETTER), argThat((Map<?, ?> fields) ->
+                "1-0".equals(fields.get("sourceId"))));
+        verify(streamOps).acknowledge(KEY, GROUP, RecordId.of("1-0"));
+        verify(streamOps).acknowledge(KEY, GROUP, RecordId.of("2-0"));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void givenRead(MapRecord<String, Object, Object>... records) {
+        // 첫 호출: 자기 PENDING 목록, 두 번째 호출: 새 항목
+        when(streamOps.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of(records), List.of());
+    }
+
+    private void givenPending(PendingMessage... messages) {
+        when(streamOps.pending(eq(KEY), eq(GROUP), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(GROUP, List.of(messages)));
+    }
+
+    private List<Object> insertedStreamIds() {
+        ArgumentCaptor<SqlParameterSource[]> rows = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(startsWith("INSERT INTO item_transaction"), rows.capture());
+        return rows.getAllValues().stream()
+                .flatMap(Arrays::stream)
+                .map(row -> row.getValue("streamId"))
+                .toList();
+    }
+
+    private static PendingMessage pending(String id, String consumer, Duration idle, long deliveries) {
+        return new PendingMessage(RecordId.of(id), Consumer.from(GROUP, consumer), idle, deliveries);
+    }
+
+    private static MapRecord<String, Object, Object> bid(String id, Long buyerId, int price) {
+        Map<Object, Object> value = new HashMap<>();
+        value.put("itemId", "7");
+        value.put("buyerId", String.valueOf(buyerId));
+        value.put("bidPrice", String.valueOf(price));
+        value.put("acceptedAt", "1760000000000");
+        value.put("endTime", "1760000600000");
+        return MapRecord.create(KEY, value).withId(RecordId.of(id));
+    }
+}
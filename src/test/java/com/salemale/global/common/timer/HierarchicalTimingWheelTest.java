@@ -0,0 +1,127 @@
+package com.salemale.global.common.timer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    // tick 100ms, 슬롯 10개, 2단계 → 0단계 1초, 1단계 10초 범위
+    private HierarchicalTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(100, 10, 2, 0);
+    }
+
+    @Test
+    void expiresOnDeadlineTick() {
+        assertThat(wheel.schedule("a", 300)).isTrue();
+
+        assertThat(wheel.advance(299)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly("a");
+        assertThat(wheel.contains("a")).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlineIsRoundedUpSoItNeverExpiresEarly() {
+        wheel.schedule("a", 201);
+
+        assertThat(wheel.advance(250)).isEmpty();
+        assertThat(wheel.advance(299)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly("a");
+    }
+
+    @Test
+    void farDeadlineCascadesFromUpperLevel() {
+        // 0단계 범위(1초)를 넘으므로 1단계 슬롯에 있다가 2초에 0단계로 내려온다
+        assertThat(wheel.schedule("far", 2550)).isTrue();
+
+        assertThat(wheel.advance(2000)).isEmpty();
+        assertThat(wheel.contains("far")).isTrue();
+        assertThat(wheel.advance(2599)).isEmpty();
+        assertThat(wheel.advance(2600)).containsExactly("far");
+    }
+
+    @Test
+    void expiredKeysAreReturnedInDeadlineOrder() {
+        wheel.schedule("c", 2600);
+        wheel.schedule("b", 700);
+        wheel.schedule("a", 300);
+
+        assertThat(wheel.advance(3000)).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void rescheduleReplacesPreviousDeadline() {
+        wheel.schedule("a", 500);
+        wheel.schedule("a", 1500);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(1000)).isEmpty();
+        assertThat(wheel.advance(1500)).containsExactly("a");
+    }
+
+    @Test
+    void rescheduleToEarlierDeadline() {
+        wheel.schedule("a", 5000);
+        wheel.schedule("a", 400);
+
+        assertThat(wheel.advance(400)).containsExactly("a");
+        assertThat(wheel.advance(6000)).isEmpty();
+    }
+
+    @Test
+    void cancelRemovesEntry() {
+        wheel.schedule("a", 300);
+        wheel.schedule("far", 2600);
+
+        assertThat(wheel.cancel("a")).isTrue();
+        assertThat(wheel.cancel("far")).isTrue();
+        assertThat(wheel.cancel("a")).isFalse();
+        assertThat(wheel.advance(3000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastOrOutOfRangeDeadlineIsNotScheduled() {
+        wheel.advance(1000);
+
+        assertThat(wheel.schedule("past", 1000)).isFalse();
+        assertThat(wheel.schedule("tooFar", 1000 + wheel.horizonMillis())).isFalse();
+        assertThat(wheel.contains("past")).isFalse();
+        assertThat(wheel.contains("tooFar")).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void failedRescheduleDropsPreviousEntry() {
+        wheel.schedule("a", 500);
+
+        assertThat(wheel.schedule("a", 0)).isFalse();
+        assertThat(wheel.contains("a")).isFalse();
+        assertThat(wheel.advance(1000)).isEmpty();
+    }
+
+    @Test
+    void unalignedStartIsTruncatedToTick() {
+        HierarchicalTimingWheel<String> shifted = new HierarchicalTimingWheel<>(100, 10, 2, 1_050);
+        shifted.schedule("a", 1_120);
+
+        assertThat(shifted.advance(1_199)).isEmpty();
+        assertThat(shifted.advance(1_200)).containsExactly("a");
+    }
+
+    @Test
+    void invalidConfigurationIsRejected() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(0, 10, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(100, 1, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(100, 10, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}